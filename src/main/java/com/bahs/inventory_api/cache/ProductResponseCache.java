@@ -0,0 +1,296 @@
+package com.bahs.inventory_api.cache;
+
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.routing.ReadYourWritesContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+/**
+ * Caché de respuestas ya serializadas para {@code GET /api/products} y
+ * {@code GET /api/products/{id}}. Cada entrada guarda los bytes codificados,
+ * su longitud y un ETag débil calculado una sola vez, con clave recurso +
+ * variante ({@code fields=}) + formato negociado (JSON, CBOR o Smile). Un
+ * acierto se devuelve como {@code byte[]}, que el
+ * {@code ByteArrayHttpMessageConverter} copia tal cual al socket sin pasar por
+ * Jackson, y un {@code If-None-Match} coincidente se responde con 304.
+ *
+ * <p>Las entradas se invalidan con cada {@link ProductChangedEvent} tras el
+ * commit (escrituras de producto, stock, reservas y archivado): la del
+ * producto y todas las de listado. Un contador de generación impide que una
+ * lectura que empezó antes de la invalidación deje guardados datos viejos.
+ * El número de productos en caché está acotado; al llenarse se descarta uno
+ * cualquiera.</p>
+ *
+ * <p>Con las lecturas repartidas entre réplicas
+ * ({@code inventory.datasource.routing-enabled=true}), una carga posterior a
+ * la invalidación aún puede leer de una réplica atrasada. Por eso, durante
+ * {@code inventory.datasource.read-your-writes-window} tras el cambio de un
+ * producto, las respuestas cargadas desde réplica de ese producto y de los
+ * listados se sirven pero no se guardan; las cargadas desde el primario (las
+ * de clientes con read-your-writes) sí.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductResponseCache {
+
+    private final List<AbstractJackson2HttpMessageConverter> converters;
+    private final Map<Long, Map<Variant, CachedResponse>> products = new ConcurrentHashMap<>();
+    private final Map<Variant, CachedResponse> lists = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Long, Long> recentChangeNanos = new ConcurrentHashMap<>();
+    private volatile Long lastChangeNanos;
+    private final int maxProducts;
+    private final long ttlNanos;
+    private final long maxEntryBytes;
+    private final long replicaLagNanos;
+
+    /**
+     * Crea la caché sobre los mismos convertidores que usa Spring MVC, de modo
+     * que los bytes coinciden con los de la ruta sin caché.
+     *
+     * @param json convertidor JSON de Spring Boot
+     * @param cbor convertidor CBOR
+     * @param smile convertidor Smile
+     * @param maxProducts productos con respuestas en caché como máximo
+     * @param ttl vida máxima de una entrada
+     * @param maxEntrySize tamaño máximo de una respuesta para guardarla
+     * @param replicaReads si las lecturas pueden ir a réplicas
+     * @param replicaLag retraso de replicación máximo esperado
+     */
+    public ProductResponseCache(MappingJackson2HttpMessageConverter json,
+                                MappingJackson2CborHttpMessageConverter cbor,
+                                MappingJackson2SmileHttpMessageConverter smile,
+                                @Value("${inventory.response-cache.max-products:10000}") int maxProducts,
+                                @Value("${inventory.response-cache.ttl:60s}") Duration ttl,
+                                @Value("${inventory.response-cache.max-entry-size:1MB}") DataSize maxEntrySize,
+                                @Value("${inventory.datasource.routing-enabled:false}") boolean replicaReads,
+                                @Value("${inventory.datasource.read-your-writes-window:5s}") Duration replicaLag) {
+        this.converters = List.of(json, cbor, smile);
+        this.maxProducts = maxProducts;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.replicaLagNanos = replicaReads ? replicaLag.toNanos() : 0;
+    }
+
+    /**
+     * Responde desde la caché o, si no hay entrada vigente, carga el valor,
+     * lo serializa una vez y lo guarda.
+     *
+     * @param productId producto del recurso, o {@code null} para el listado
+     * @param variant variante del recurso, p. ej. los campos pedidos
+     * @param requestHeaders cabeceras de la petición ({@code Accept},
+     *                       {@code If-None-Match})
+     * @param loader carga el valor a serializar cuando no está en caché
+     * @return 200 con los bytes, longitud y ETag, o 304 si el ETag coincide;
+     *         ambas con {@code Vary: Accept}, porque el cuerpo depende del formato
+     * @throws HttpMediaTypeNotAcceptableException si ningún formato cumple el {@code Accept}
+     */
+    public ResponseEntity<byte[]> respond(Long productId, String variant, HttpHeaders requestHeaders,
+                                          Supplier<?> loader) throws HttpMediaTypeNotAcceptableException {
+        AbstractJackson2HttpMessageConverter converter = negotiate(requestHeaders);
+        MediaType mediaType = converter.getSupportedMediaTypes().getFirst();
+        Variant key = new Variant(variant, mediaType);
+        Map<Variant, CachedResponse> entries = productId == null ? lists : products.get(productId);
+        CachedResponse cached = entries != null ? entries.get(key) : null;
+        long now = System.nanoTime();
+        if (cached == null || cached.expiresAt() - now < 0) {
+            cached = load(productId, key, converter, loader, now);
+        }
+        if (cached.matches(requestHeaders.getIfNoneMatch())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(cached.etag())
+                .build();
+        }
+        return ResponseEntity.ok()
+            .contentType(mediaType)
+            .varyBy(HttpHeaders.ACCEPT)
+            .contentLength(cached.body().length)
+            .eTag(cached.etag())
+            .body(cached.body());
+    }
+
+    /**
+     * Descarta las respuestas de un producto y todas las de listado tras un
+     * cambio confirmado.
+     *
+     * @param event cambio de producto confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event.productId());
+    }
+
+    /**
+     * Descarta las respuestas de un producto y todas las de listado.
+     *
+     * @param productId producto modificado
+     */
+    public void invalidate(Long productId) {
+        if (replicaLagNanos > 0) {
+            long now = System.nanoTime();
+            lastChangeNanos = now;
+            recentChangeNanos.put(productId, now);
+            if (recentChangeNanos.size() > maxProducts) {
+                recentChangeNanos.values().removeIf(changed -> now - changed > replicaLagNanos);
+            }
+        }
+        generation.incrementAndGet();
+        products.remove(productId);
+        lists.clear();
+    }
+
+    private CachedResponse load(Long productId, Variant key, AbstractJackson2HttpMessageConverter converter,
+                                Supplier<?> loader, long now) {
+        long observed = generation.get();
+        boolean fromReplica = replicaLagNanos > 0 && !ReadYourWritesContext.isPrimaryRequired();
+        Object value = loader.get();
+        byte[] body;
+        try {
+            body = converter.getObjectMapper().writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotWritableException("No se pudo serializar la respuesta", ex);
+        }
+        CachedResponse response = new CachedResponse(body, "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+            now + ttlNanos);
+        if (body.length <= maxEntryBytes && !(fromReplica && changedRecently(productId))) {
+            store(productId, key, response, observed);
+        }
+        return response;
+    }
+
+    /**
+     * Indica si el recurso cambió hace menos del retraso de replicación, de
+     * modo que una réplica podría no reflejarlo aún.
+     */
+    private boolean changedRecently(Long productId) {
+        Long changed = productId == null ? lastChangeNanos : recentChangeNanos.get(productId);
+        return changed != null && System.nanoTime() - changed <= replicaLagNanos;
+    }
+
+    /**
+     * Guarda la entrada y la retira si entretanto hubo una invalidación, para
+     * no conservar una respuesta calculada con datos anteriores al cambio.
+     */
+    private void store(Long productId, Variant key, CachedResponse response, long observed) {
+        Map<Variant, CachedResponse> entries;
+        if (productId == null) {
+            entries = lists;
+        } else {
+            if (!products.containsKey(productId) && products.size() >= maxProducts) {
+                Iterator<Long> victims = products.keySet().iterator();
+                if (victims.hasNext()) {
+                    products.remove(victims.next());
+                }
+            }
+            entries = products.computeIfAbsent(productId, id -> new ConcurrentHashMap<>());
+        }
+        entries.put(key, response);
+        if (generation.get() != observed) {
+            entries.remove(key, response);
+        }
+    }
+
+    /**
+     * Elige el formato como lo haría Spring MVC: tipos del {@code Accept}
+     * ordenados con {@link MimeTypeUtils#sortBySpecificity} (calidad y, a
+     * igual calidad, el más específico primero, de modo que
+     * <code>*&#47;*, application/cbor</code> elige CBOR) y, para cada uno, el
+     * primer tipo concreto compatible de los convertidores. Sin {@code Accept}
+     * se responde JSON.
+     */
+    private AbstractJackson2HttpMessageConverter negotiate(HttpHeaders requestHeaders)
+            throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> accepted;
+        try {
+            accepted = requestHeaders.getAccept();
+        } catch (InvalidMediaTypeException ex) {
+            throw new HttpMediaTypeNotAcceptableException(ex.getMessage());
+        }
+        if (accepted.isEmpty()) {
+            return converters.getFirst();
+        }
+        List<MediaType> bySpecificity = new ArrayList<>(accepted.size());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() > 0) {
+                bySpecificity.add(type);
+            }
+        }
+        try {
+            MimeTypeUtils.sortBySpecificity(bySpecificity);
+        } catch (InvalidMimeTypeException ex) {
+            throw new HttpMediaTypeNotAcceptableException(ex.getMessage());
+        }
+        for (MediaType type : bySpecificity) {
+            for (AbstractJackson2HttpMessageConverter converter : converters) {
+                for (MediaType supported : converter.getSupportedMediaTypes()) {
+                    if (supported.isConcrete() && type.isCompatibleWith(supported)) {
+                        return converter;
+                    }
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(converters.stream()
+            .map(converter -> converter.getSupportedMediaTypes().getFirst())
+            .toList());
+    }
+
+    /**
+     * Clave de una respuesta dentro de un recurso.
+     *
+     * @param variant variante del recurso
+     * @param mediaType formato de la respuesta
+     */
+    private record Variant(String variant, MediaType mediaType) {
+    }
+
+    /**
+     * Respuesta serializada con su ETag y su vencimiento.
+     *
+     * @param body bytes codificados
+     * @param etag ETag débil del cuerpo
+     * @param expiresAt vencimiento en la escala de {@link System#nanoTime()}
+     */
+    private record CachedResponse(byte[] body, String etag, long expiresAt) {
+
+        private boolean matches(List<String> ifNoneMatch) {
+            for (String candidate : ifNoneMatch) {
+                if ("*".equals(candidate) || weakValue(candidate).equals(weakValue(etag))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String weakValue(String tag) {
+            return tag.startsWith("W/") ? tag.substring(2) : tag;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bahs.inventory_api.config;
+
+import com.bahs.inventory_api.routing.ReadYourWritesContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Define el ejecutor acotado que atiende las lecturas no bloqueantes de
+ * {@code /api/async/products}. Los hilos de Tomcat se liberan en cuanto el
+ * controlador devuelve el {@code CompletableFuture}; las consultas JPA se
+ * ejecutan en este pool de tamaño fijo y, cuando la cola se llena, la petición
+ * se rechaza en lugar de crecer sin límite. Las tareas heredan la marca de
+ * read-your-writes del hilo que las encola.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AsyncReadConfig {
+
+    /**
+     * Pool dedicado a las lecturas asíncronas de productos.
+     *
+     * @param poolSize número de hilos del pool
+     * @param queueCapacity capacidad de la cola de tareas pendientes
+     * @return ejecutor inicializado por el contenedor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor productReadExecutor(
+            @Value("${inventory.async.read.pool-size:16}") int poolSize,
+            @Value("${inventory.async.read.queue-capacity:2000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("product-read-");
+        executor.setTaskDecorator(ReadYourWritesContext::wrap);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,124 @@
+package com.bahs.inventory_api.config;
+
+import com.bahs.inventory_api.routing.H2ReplicationStandIn;
+import com.bahs.inventory_api.routing.ReadYourWritesFilter;
+import com.bahs.inventory_api.routing.ReadYourWritesTracker;
+import com.bahs.inventory_api.routing.ReplicaRoutingDataSource;
+import com.bahs.inventory_api.routing.ReplicaRoutingDataSource.ReplicaNode;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Enrutamiento de lecturas a réplicas. Con
+ * {@code inventory.datasource.routing-enabled=true} el {@link DataSource} que
+ * usa JPA es un {@link LazyConnectionDataSourceProxy}: las transacciones de
+ * escritura obtienen conexión del primario y las marcadas
+ * {@code @Transactional(readOnly = true)} se reparten entre las réplicas sanas
+ * configuradas en {@code inventory.datasource.replicas}. Sin la propiedad la
+ * aplicación sigue usando el datasource autoconfigurado.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(name = "inventory.datasource.routing-enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Pool del primario, construido a partir de {@code spring.datasource.*}.
+     *
+     * @param properties propiedades del datasource de Spring Boot
+     * @return pool Hikari de escritura
+     */
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Balanceador de réplicas con comprobación de salud y respaldo en el
+     * primario.
+     *
+     * @param primary pool del primario
+     * @param properties configuración de réplicas
+     * @return datasource de solo lectura
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary, ReadReplicaProperties properties) {
+        List<ReplicaNode> nodes = properties.getReplicas().stream()
+            .map(replica -> new ReplicaNode(replica.getName(), replicaPool(replica)))
+            .toList();
+        return new ReplicaRoutingDataSource(primary, nodes, properties.getHealthCheckInterval());
+    }
+
+    /**
+     * Datasource principal de la aplicación: decide primario o réplica según
+     * el flag de solo lectura de la transacción.
+     *
+     * @param primary pool del primario
+     * @param replicas balanceador de réplicas
+     * @return proxy de conexión perezosa
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 ReplicaRoutingDataSource replicas) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replicas);
+        return proxy;
+    }
+
+    /**
+     * Filtro de read-your-writes para clientes que envían {@code X-Client-Id}.
+     *
+     * @param properties configuración de réplicas
+     * @return registro del filtro
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplicaProperties properties) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+            new FilterRegistrationBean<>(new ReadYourWritesFilter(tracker));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    /**
+     * Sustituto de replicación H2 para desarrollo local.
+     *
+     * @param primary pool del primario
+     * @param properties configuración de réplicas
+     * @return copiador periódico primario → réplicas
+     */
+    @Bean
+    @ConditionalOnProperty(name = "inventory.datasource.replication-stand-in", havingValue = "true")
+    public H2ReplicationStandIn h2ReplicationStandIn(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                                     ReadReplicaProperties properties) {
+        List<DriverManagerDataSource> targets = properties.getReplicas().stream()
+            .map(replica -> new DriverManagerDataSource(replica.getUrl(), replica.getUsername(), replica.getPassword()))
+            .toList();
+        return new H2ReplicationStandIn(primary, targets);
+    }
+
+    private static HikariDataSource replicaPool(ReadReplicaProperties.Replica replica) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + replica.getName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
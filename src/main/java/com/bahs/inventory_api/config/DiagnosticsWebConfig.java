@@ -0,0 +1,19 @@
+package com.bahs.inventory_api.config;
+
+import com.bahs.inventory_api.diagnostics.FlightRecorderHandlerInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registra el interceptor que emite eventos JFR por petición en todos los
+ * controladores, tanto de la API como de la UI.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DiagnosticsWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new FlightRecorderHandlerInterceptor());
+    }
+}
@@ -0,0 +1,44 @@
+package com.bahs.inventory_api.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Registra los convertidores binarios (CBOR y Smile) para que la API negocie
+ * el formato de respuesta mediante la cabecera {@code Accept}. Los clientes
+ * internos pueden solicitar {@code application/cbor} o
+ * {@code application/x-jackson-smile} y evitar repetir los nombres de campo en
+ * cada fila; JSON sigue siendo el formato por defecto.
+ */
+@Configuration(proxyBeanMethods = false)
+public class HttpEncodingConfig {
+
+    /**
+     * Convertidor CBOR construido sobre el {@link Jackson2ObjectMapperBuilder}
+     * de Spring Boot para compartir módulos y configuración con JSON.
+     *
+     * @param builder builder prototipo de Jackson configurado por Spring Boot
+     * @return convertidor para {@code application/cbor}
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Convertidor Smile construido sobre el {@link Jackson2ObjectMapperBuilder}
+     * de Spring Boot para compartir módulos y configuración con JSON.
+     *
+     * @param builder builder prototipo de Jackson configurado por Spring Boot
+     * @return convertidor para {@code application/x-jackson-smile}
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,54 @@
+package com.bahs.inventory_api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades {@code inventory.datasource.*} del enrutamiento de lecturas a
+ * réplicas. Solo se aplican cuando {@code inventory.datasource.routing-enabled}
+ * vale {@code true}.
+ */
+@Data
+@ConfigurationProperties(prefix = "inventory.datasource")
+public class ReadReplicaProperties {
+
+    /** Activa el enrutamiento de transacciones de solo lectura a réplicas. */
+    private boolean routingEnabled;
+
+    /** Réplicas de lectura disponibles. */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** Intervalo entre comprobaciones de salud de las réplicas. */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Ventana durante la cual las lecturas de un cliente que acaba de escribir
+     * se envían al primario (read-your-writes, opcional vía {@code X-Client-Id}).
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /** Activa el sustituto de replicación H2 para pruebas locales. */
+    private boolean replicationStandIn;
+
+    /**
+     * Conexión a una réplica de lectura.
+     */
+    @Data
+    public static class Replica {
+
+        /** Nombre lógico usado en logs. */
+        private String name;
+
+        /** URL JDBC de la réplica. */
+        private String url;
+
+        /** Usuario de la réplica. */
+        private String username = "sa";
+
+        /** Contraseña de la réplica. */
+        private String password = "";
+    }
+}
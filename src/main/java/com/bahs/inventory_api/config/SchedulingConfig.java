@@ -0,0 +1,14 @@
+package com.bahs.inventory_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas ({@code @Scheduled}) usadas por los
+ * componentes en segundo plano, como el volcado por lotes del historial de
+ * productos.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,141 @@
+package com.bahs.inventory_api.config;
+
+import com.bahs.inventory_api.routing.ShardDataSources;
+import com.bahs.inventory_api.routing.ShardRebalancer;
+import com.bahs.inventory_api.routing.ShardRouter;
+import com.bahs.inventory_api.routing.ShardRoutingAspect;
+import com.bahs.inventory_api.routing.ShardRoutingDataSource;
+import com.bahs.inventory_api.routing.ShardSchemaInitializer;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Particionado horizontal del catálogo por id de producto. El
+ * {@link ShardRouter} existe siempre; sin {@code inventory.sharding.enabled}
+ * tiene un único shard y la aplicación usa el datasource autoconfigurado. Con
+ * la propiedad, el {@link DataSource} de JPA es un
+ * {@link LazyConnectionDataSourceProxy} sobre un {@link ShardRoutingDataSource}
+ * que elige el pool del shard fijado por {@link ShardRoutingAspect} o por el
+ * enrutador en las consultas repartidas.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    /**
+     * Enrutador de shards.
+     *
+     * @param properties configuración de particionado
+     * @param dataSources pools de cada shard, solo con el particionado activo
+     * @param transactionManager gestor de transacciones de la aplicación
+     * @return enrutador con los shards configurados, o con uno solo
+     */
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties, ObjectProvider<ShardDataSources> dataSources,
+                                   PlatformTransactionManager transactionManager) {
+        ShardDataSources pools = dataSources.getIfAvailable();
+        if (pools == null) {
+            return ShardRouter.single(transactionManager);
+        }
+        List<String> names = properties.getShards().stream().map(ShardingProperties.Shard::getName).toList();
+        return new ShardRouter(names, properties.getVirtualNodes(), pools, transactionManager);
+    }
+
+    /**
+     * Beans que solo existen con el catálogo particionado.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "inventory.sharding.enabled", havingValue = "true")
+    static class Sharded {
+
+        /**
+         * Un pool Hikari por shard.
+         *
+         * @param properties configuración de particionado
+         * @return pools por nombre de shard
+         * @throws IllegalStateException si no hay shards configurados
+         */
+        @Bean
+        public ShardDataSources shardDataSources(ShardingProperties properties) {
+            if (properties.getShards().isEmpty()) {
+                throw new IllegalStateException("inventory.sharding.shards no puede estar vacío");
+            }
+            Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+            for (ShardingProperties.Shard shard : properties.getShards()) {
+                HikariDataSource pool = new HikariDataSource();
+                pool.setPoolName("shard-" + shard.getName());
+                pool.setJdbcUrl(shard.getUrl());
+                pool.setUsername(shard.getUsername());
+                pool.setPassword(shard.getPassword());
+                pools.put(shard.getName(), pool);
+            }
+            return new ShardDataSources(pools);
+        }
+
+        /**
+         * Datasource principal de la aplicación: pide la conexión física al
+         * shard del contexto en la primera sentencia.
+         *
+         * @param dataSources pools de cada shard
+         * @return proxy de conexión perezosa sobre el enrutador de shards
+         */
+        @Bean
+        @Primary
+        public DataSource dataSource(ShardDataSources dataSources) {
+            DataSource first = dataSources.asMap().values().iterator().next();
+            ShardRoutingDataSource routing = new ShardRoutingDataSource(dataSources.asMap(), first);
+            routing.afterPropertiesSet();
+            return new LazyConnectionDataSourceProxy(routing);
+        }
+
+        /**
+         * Fija el shard de las llamadas a servicios con {@code @ShardKey}.
+         *
+         * @param router proveedor del enrutador de shards
+         * @return aspecto de enrutamiento
+         */
+        @Bean
+        public ShardRoutingAspect shardRoutingAspect(ObjectProvider<ShardRouter> router) {
+            return new ShardRoutingAspect(router);
+        }
+
+        /**
+         * Copia el esquema a los shards nuevos y prepara los generadores de ids.
+         *
+         * @param dataSources pools de cada shard
+         * @param router enrutador de shards
+         * @return inicializador de esquema
+         */
+        @Bean
+        public ShardSchemaInitializer shardSchemaInitializer(ShardDataSources dataSources, ShardRouter router) {
+            return new ShardSchemaInitializer(dataSources, router);
+        }
+
+        /**
+         * Recoloca al arrancar los productos cuyo dueño cambió.
+         *
+         * @param dataSources pools de cada shard
+         * @param router enrutador de shards
+         * @param properties configuración de particionado
+         * @return rebalanceador
+         */
+        @Bean
+        @ConditionalOnProperty(name = "inventory.sharding.rebalance-on-startup", havingValue = "true",
+            matchIfMissing = true)
+        public ShardRebalancer shardRebalancer(ShardDataSources dataSources, ShardRouter router,
+                                               ShardingProperties properties) {
+            return new ShardRebalancer(dataSources, router, properties.getRebalanceBatchSize());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.bahs.inventory_api.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades {@code inventory.sharding.*} del particionado horizontal del
+ * catálogo por id de producto. Solo se aplican cuando
+ * {@code inventory.sharding.enabled} vale {@code true}; no se combina con el
+ * enrutamiento a réplicas de {@code inventory.datasource.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "inventory.sharding")
+public class ShardingProperties {
+
+    /** Activa el particionado del catálogo entre varias bases. */
+    private boolean enabled;
+
+    /**
+     * Shards del catálogo. El primero guarda además el generador global de
+     * ids; los nuevos shards se añaden al final de la lista porque su
+     * posición fija el rango de ids de reservas e historial que generan.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /** Nodos virtuales por shard en el anillo de hash consistente. */
+    private int virtualNodes = 128;
+
+    /** Recoloca al arrancar, antes de aceptar tráfico, las filas cuyo dueño cambió. */
+    private boolean rebalanceOnStartup = true;
+
+    /** Productos movidos por lote durante el rebalanceo. */
+    private int rebalanceBatchSize = 500;
+
+    /**
+     * Conexión a un shard.
+     */
+    @Data
+    public static class Shard {
+
+        /** Nombre lógico del shard, usado en el anillo y en los logs. */
+        private String name;
+
+        /** URL JDBC del shard. */
+        private String url;
+
+        /** Usuario del shard. */
+        private String username = "sa";
+
+        /** Contraseña del shard. */
+        private String password = "";
+    }
+}
@@ -0,0 +1,29 @@
+package com.bahs.inventory_api.config;
+
+import com.bahs.inventory_api.dto.ProductRequest;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Precarga los metadatos de Bean Validation de los DTO de entrada al iniciar
+ * la aplicación. Hibernate Validator construye y cachea la descripción de
+ * restricciones de cada clase la primera vez que la valida; hacerlo durante el
+ * arranque evita que la primera petición (normalmente un 400) pague ese coste.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ValidationConfig {
+
+    /**
+     * Solicita al validador la descripción de {@link ProductRequest} una vez
+     * que todos los singletons están creados.
+     *
+     * @param validator validador configurado por Spring Boot
+     * @return callback de inicialización
+     */
+    @Bean
+    public SmartInitializingSingleton validationMetadataPreloader(Validator validator) {
+        return () -> validator.getConstraintsForClass(ProductRequest.class);
+    }
+}
@@ -0,0 +1,38 @@
+package com.bahs.inventory_api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades {@code inventory.warmup.*} de la fase de calentamiento que se
+ * ejecuta antes de que el probe de readiness acepte tráfico.
+ */
+@Data
+@ConfigurationProperties(prefix = "inventory.warmup")
+public class WarmupProperties {
+
+    /** Activa el calentamiento al arrancar. */
+    private boolean enabled = true;
+
+    /** Tiempo máximo de calentamiento aunque la latencia no se estabilice. */
+    private Duration maxDuration = Duration.ofSeconds(60);
+
+    /** Peticiones por ronda; el p99 se calcula por ronda. */
+    private int roundSize = 200;
+
+    /** Peticiones concurrentes durante el calentamiento. */
+    private int concurrency = 8;
+
+    /** Rondas consecutivas con p99 estable necesarias para terminar. */
+    private int stableRounds = 3;
+
+    /** Variación relativa máxima del p99 entre rondas para considerarlo estable. */
+    private double tolerance = 0.2;
+
+    /** Productos existentes usados como muestra en las lecturas por id. */
+    private int sampleIds = 100;
+
+    /** Tamaño máximo del catálogo para incluir los listados completos. */
+    private long listMaxRows = 1_000;
+}
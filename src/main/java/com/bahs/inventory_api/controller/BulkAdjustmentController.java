@@ -0,0 +1,75 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest;
+import com.bahs.inventory_api.dto.BulkJobResponse;
+import com.bahs.inventory_api.service.BulkAdjustmentService;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST de los ajustes masivos de precio y stock bajo
+ * {@code /api/bulk/adjustments}. El alta devuelve {@code 202 Accepted}: el
+ * trabajo se ejecuta en segundo plano y su progreso se consulta por id.
+ */
+@RestController
+@RequestMapping("/api/bulk/adjustments")
+@RequiredArgsConstructor
+public class BulkAdjustmentController {
+
+    private final BulkAdjustmentService bulkAdjustmentService;
+
+    /**
+     * Maneja {@code POST /api/bulk/adjustments} y encola un ajuste.
+     *
+     * @param request DTO con el filtro y el ajuste
+     * @return respuesta 202 con el trabajo encolado y cabecera Location
+     */
+    @PostMapping
+    public ResponseEntity<BulkJobResponse> submit(@Valid @RequestBody BulkAdjustmentRequest request) {
+        BulkJobResponse job = bulkAdjustmentService.submit(request);
+        return ResponseEntity.accepted().location(URI.create("/api/bulk/adjustments/" + job.getId())).body(job);
+    }
+
+    /**
+     * Maneja {@code GET /api/bulk/adjustments} y lista los trabajos retenidos.
+     *
+     * @return respuesta con los trabajos, del más reciente al más antiguo
+     */
+    @GetMapping
+    public ResponseEntity<List<BulkJobResponse>> getJobs() {
+        return ResponseEntity.ok(bulkAdjustmentService.findAll());
+    }
+
+    /**
+     * Maneja {@code GET /api/bulk/adjustments/{id}} con el progreso del
+     * trabajo.
+     *
+     * @param id identificador del trabajo
+     * @return respuesta con el estado y el progreso
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<BulkJobResponse> getJob(@PathVariable long id) {
+        return ResponseEntity.ok(bulkAdjustmentService.findById(id));
+    }
+
+    /**
+     * Maneja {@code POST /api/bulk/adjustments/{id}/cancel}; el trabajo se
+     * detiene antes de su siguiente lote.
+     *
+     * @param id identificador del trabajo
+     * @return respuesta con el estado tras la petición
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<BulkJobResponse> cancel(@PathVariable long id) {
+        return ResponseEntity.ok(bulkAdjustmentService.cancel(id));
+    }
+}
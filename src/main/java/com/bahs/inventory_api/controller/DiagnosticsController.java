@@ -0,0 +1,94 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.dto.RecordingInfo;
+import com.bahs.inventory_api.service.FlightRecorderService;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para gestionar grabaciones JFR bajo
+ * {@code /api/diagnostics/recordings}. Solo se registra con
+ * {@code inventory.diagnostics.enabled=true}, pensado para entornos locales o
+ * redes internas.
+ */
+@RestController
+@RequestMapping("/api/diagnostics/recordings")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.diagnostics.enabled", havingValue = "true")
+public class DiagnosticsController {
+
+    private final FlightRecorderService flightRecorderService;
+
+    /**
+     * Maneja {@code GET /api/diagnostics/recordings} y lista las grabaciones.
+     *
+     * @return respuesta con las grabaciones del proceso
+     */
+    @GetMapping
+    public ResponseEntity<List<RecordingInfo>> getRecordings() {
+        return ResponseEntity.ok(flightRecorderService.findAll());
+    }
+
+    /**
+     * Maneja {@code POST /api/diagnostics/recordings?settings=profile&maxAgeSeconds=600}
+     * e inicia una grabación.
+     *
+     * @param settings configuración JFR predefinida
+     * @param maxAgeSeconds antigüedad máxima retenida; 0 sin límite
+     * @return respuesta 201 con la grabación iniciada
+     */
+    @PostMapping
+    public ResponseEntity<RecordingInfo> startRecording(@RequestParam(defaultValue = "profile") String settings,
+                                                        @RequestParam(defaultValue = "0") long maxAgeSeconds) {
+        Duration maxAge = maxAgeSeconds > 0 ? Duration.ofSeconds(maxAgeSeconds) : null;
+        RecordingInfo recording = flightRecorderService.start(settings, maxAge);
+        return ResponseEntity.created(URI.create("/api/diagnostics/recordings/" + recording.getId())).body(recording);
+    }
+
+    /**
+     * Maneja {@code POST /api/diagnostics/recordings/{id}/stop}.
+     *
+     * @param id identificador de la grabación
+     * @return respuesta con la grabación detenida
+     */
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<RecordingInfo> stopRecording(@PathVariable long id) {
+        return ResponseEntity.ok(flightRecorderService.stop(id));
+    }
+
+    /**
+     * Maneja {@code POST /api/diagnostics/recordings/{id}/dump} y escribe el
+     * contenido actual en un archivo {@code .jfr} local.
+     *
+     * @param id identificador de la grabación
+     * @return respuesta con la ruta del volcado
+     */
+    @PostMapping("/{id}/dump")
+    public ResponseEntity<RecordingInfo> dumpRecording(@PathVariable long id) {
+        return ResponseEntity.ok(flightRecorderService.dump(id));
+    }
+
+    /**
+     * Maneja {@code DELETE /api/diagnostics/recordings/{id}} y cierra la
+     * grabación.
+     *
+     * @param id identificador de la grabación
+     * @return respuesta sin contenido (204)
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> closeRecording(@PathVariable long id) {
+        flightRecorderService.close(id);
+        return ResponseEntity.noContent().build();
+    }
+}
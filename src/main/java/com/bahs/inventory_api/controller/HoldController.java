@@ -0,0 +1,75 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.dto.StockHoldRequest;
+import com.bahs.inventory_api.entity.StockHold;
+import com.bahs.inventory_api.service.HoldService;
+import jakarta.validation.Valid;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST de reservas temporales de stock. Las reservas se crean
+ * sobre un producto ({@code /api/products/{id}/holds}) y se gestionan por su
+ * identificador ({@code /api/holds/{holdId}}).
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class HoldController {
+
+    private final HoldService holdService;
+
+    /**
+     * Maneja {@code POST /api/products/{id}/holds} para reservar unidades.
+     *
+     * @param id identificador del producto
+     * @param request DTO con la cantidad y la duración
+     * @return respuesta con la reserva creada y cabecera Location
+     */
+    @PostMapping("/products/{id}/holds")
+    public ResponseEntity<StockHold> createHold(@PathVariable Long id, @Valid @RequestBody StockHoldRequest request) {
+        StockHold hold = holdService.create(id, request);
+        return ResponseEntity.created(URI.create("/api/holds/" + hold.getId())).body(hold);
+    }
+
+    /**
+     * Maneja {@code GET /api/holds/{holdId}} para consultar una reserva.
+     *
+     * @param holdId identificador de la reserva
+     * @return respuesta con la reserva
+     */
+    @GetMapping("/holds/{holdId}")
+    public ResponseEntity<StockHold> getHold(@PathVariable Long holdId) {
+        return ResponseEntity.ok(holdService.findById(holdId));
+    }
+
+    /**
+     * Maneja {@code POST /api/holds/{holdId}/confirm} cuando el pago se
+     * completa.
+     *
+     * @param holdId identificador de la reserva
+     * @return respuesta con la reserva confirmada
+     */
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<StockHold> confirmHold(@PathVariable Long holdId) {
+        return ResponseEntity.ok(holdService.confirm(holdId));
+    }
+
+    /**
+     * Maneja {@code POST /api/holds/{holdId}/cancel} para liberar la reserva.
+     *
+     * @param holdId identificador de la reserva
+     * @return respuesta con la reserva cancelada
+     */
+    @PostMapping("/holds/{holdId}/cancel")
+    public ResponseEntity<StockHold> cancelHold(@PathVariable Long holdId) {
+        return ResponseEntity.ok(holdService.cancel(holdId));
+    }
+}
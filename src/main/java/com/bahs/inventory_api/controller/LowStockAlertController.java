@@ -0,0 +1,46 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.dto.LowStockAlert;
+import com.bahs.inventory_api.service.LowStockAlertEngine;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controlador REST de las alertas de stock bajo mantenidas por
+ * {@link LowStockAlertEngine}: consulta de las activas y flujo SSE con cada
+ * cruce de umbral.
+ */
+@RestController
+@RequestMapping("/api/alerts/low-stock")
+@RequiredArgsConstructor
+public class LowStockAlertController {
+
+    private final LowStockAlertEngine lowStockAlertEngine;
+
+    /**
+     * Maneja {@code GET /api/alerts/low-stock} para listar las alertas activas.
+     *
+     * @return respuesta con las alertas activas
+     */
+    @GetMapping
+    public ResponseEntity<List<LowStockAlert>> getActiveAlerts() {
+        return ResponseEntity.ok(lowStockAlertEngine.findActive());
+    }
+
+    /**
+     * Maneja {@code GET /api/alerts/low-stock/stream} para suscribirse a las
+     * alertas levantadas y despejadas.
+     *
+     * @return respuesta con el flujo de eventos
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAlerts() {
+        return ResponseEntity.ok(lowStockAlertEngine.subscribe());
+    }
+}
@@ -0,0 +1,69 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.dto.ArchivedProductResponse;
+import com.bahs.inventory_api.dto.ArchivedProductSummary;
+import com.bahs.inventory_api.service.ProductArchiveService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST sobre los productos archivados bajo
+ * {@code /api/archive/products}: consulta del archivo y restauración de los
+ * productos archivados por inactividad.
+ */
+@RestController
+@RequestMapping("/api/archive/products")
+@RequiredArgsConstructor
+public class ProductArchiveController {
+
+    private final ProductArchiveService productArchiveService;
+
+    /**
+     * Maneja {@code GET /api/archive/products?category=&page=&size=} y retorna
+     * los resúmenes de los productos archivados.
+     *
+     * @param category categoría exigida (opcional)
+     * @param page página, empezando en 0
+     * @param size tamaño de página
+     * @return resúmenes ordenados por id
+     */
+    @GetMapping
+    public ResponseEntity<List<ArchivedProductSummary>> getArchivedProducts(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productArchiveService.findAll(category, page, size));
+    }
+
+    /**
+     * Maneja {@code GET /api/archive/products/{id}} y retorna el producto
+     * archivado completo.
+     *
+     * @param id identificador original del producto
+     * @return producto archivado
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedProductResponse> getArchivedProduct(@PathVariable Long id) {
+        return ResponseEntity.ok(productArchiveService.findById(id));
+    }
+
+    /**
+     * Maneja {@code POST /api/archive/products/{id}/restore} y devuelve un
+     * producto archivado por inactividad a {@code /api/products/{id}}.
+     *
+     * @param id identificador original del producto
+     * @return respuesta sin contenido (204)
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<Void> restoreArchivedProduct(@PathVariable Long id) {
+        productArchiveService.restore(id);
+        return ResponseEntity.noContent().build();
+    }
+}
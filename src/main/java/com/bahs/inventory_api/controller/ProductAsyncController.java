@@ -0,0 +1,61 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.service.ProductAsyncService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST no bloqueante para las lecturas de productos bajo
+ * {@code /api/async/products}. Devuelve {@link CompletableFuture} para que
+ * Spring MVC procese la petición en modo asíncrono y libere el hilo del
+ * servidor mientras la consulta se resuelve en el pool dedicado.
+ */
+@RestController
+@RequestMapping("/api/async/products")
+@RequiredArgsConstructor
+public class ProductAsyncController {
+
+    private final ProductAsyncService productAsyncService;
+
+    /**
+     * Maneja {@code GET /api/async/products} y retorna todos los productos.
+     *
+     * @return futuro con la lista completa en formato JSON
+     */
+    @GetMapping
+    public CompletableFuture<ResponseEntity<List<Product>>> getAllProducts() {
+        return productAsyncService.findAll().thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Maneja {@code GET /api/async/products?ids=1,2,3} y retorna los productos
+     * solicitados en una sola consulta.
+     *
+     * @param ids identificadores separados por coma
+     * @return futuro con los productos encontrados
+     */
+    @GetMapping(params = "ids")
+    public CompletableFuture<ResponseEntity<List<Product>>> getProductsByIds(@RequestParam List<Long> ids) {
+        return productAsyncService.findAllById(ids).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Maneja {@code GET /api/async/products/{id}} y retorna un producto por su
+     * identificador.
+     *
+     * @param id identificador del producto
+     * @return futuro con el producto encontrado
+     */
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Product>> getProductById(@PathVariable Long id) {
+        return productAsyncService.findById(id).thenApply(ResponseEntity::ok);
+    }
+}
@@ -1,26 +1,34 @@
 package com.bahs.inventory_api.controller;
 
+import com.bahs.inventory_api.cache.ProductResponseCache;
+import com.bahs.inventory_api.dto.ProductField;
 import com.bahs.inventory_api.dto.ProductRequest;
 import com.bahs.inventory_api.entity.Product;
 import com.bahs.inventory_api.service.ProductService;
 import jakarta.validation.Valid;
 import java.net.URI;
-import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * Controlador REST que expone los endpoints CRUD bajo la ruta base
  * {@code /api/products}. Todos los métodos retornan/consumen JSON y están
- * pensados para integrarse con clientes externos.
+ * pensados para integrarse con clientes externos. Las lecturas se sirven
+ * desde {@link ProductResponseCache} cuando está activa.
  */
 @RestController
 @RequestMapping("/api/products")
@@ -28,15 +36,43 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
     private final ProductService productService;
+    private final ObjectProvider<ProductResponseCache> responseCache;
 
     /**
      * Maneja {@code GET /api/products} y retorna todos los productos disponibles.
      *
+     * @param headers cabeceras de la petición, para negociar formato y ETag
      * @return respuesta con la lista completa en formato JSON
+     * @throws HttpMediaTypeNotAcceptableException si el {@code Accept} no admite ningún formato
      */
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productService.findAll());
+    public ResponseEntity<?> getAllProducts(@RequestHeader HttpHeaders headers)
+            throws HttpMediaTypeNotAcceptableException {
+        ProductResponseCache cache = responseCache.getIfAvailable();
+        if (cache == null) {
+            return ResponseEntity.ok(productService.findAll());
+        }
+        return cache.respond(null, "", headers, productService::findAll);
+    }
+
+    /**
+     * Maneja {@code GET /api/products?fields=id,name,price} y retorna solo los
+     * campos pedidos de cada producto.
+     *
+     * @param fields campos separados por coma
+     * @param headers cabeceras de la petición, para negociar formato y ETag
+     * @return respuesta con la proyección de todos los productos
+     * @throws HttpMediaTypeNotAcceptableException si el {@code Accept} no admite ningún formato
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<?> getAllProductFields(@RequestParam String fields, @RequestHeader HttpHeaders headers)
+            throws HttpMediaTypeNotAcceptableException {
+        Set<ProductField> parsed = ProductField.parse(fields);
+        ProductResponseCache cache = responseCache.getIfAvailable();
+        if (cache == null) {
+            return ResponseEntity.ok(productService.findAllFields(parsed));
+        }
+        return cache.respond(null, parsed.toString(), headers, () -> productService.findAllFields(parsed));
     }
 
     /**
@@ -44,11 +80,40 @@ public class ProductController {
      * identificador.
      *
      * @param id identificador del producto
+     * @param headers cabeceras de la petición, para negociar formato y ETag
      * @return respuesta con el producto encontrado
+     * @throws HttpMediaTypeNotAcceptableException si el {@code Accept} no admite ningún formato
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
-        return ResponseEntity.ok(productService.findById(id));
+    public ResponseEntity<?> getProductById(@PathVariable Long id, @RequestHeader HttpHeaders headers)
+            throws HttpMediaTypeNotAcceptableException {
+        ProductResponseCache cache = responseCache.getIfAvailable();
+        if (cache == null) {
+            return ResponseEntity.ok(productService.findDetachedById(id));
+        }
+        return cache.respond(id, "", headers, () -> productService.findDetachedById(id));
+    }
+
+    /**
+     * Maneja {@code GET /api/products/{id}?fields=id,name} y retorna solo los
+     * campos pedidos del producto.
+     *
+     * @param id identificador del producto
+     * @param fields campos separados por coma
+     * @param headers cabeceras de la petición, para negociar formato y ETag
+     * @return respuesta con la proyección del producto
+     * @throws HttpMediaTypeNotAcceptableException si el {@code Accept} no admite ningún formato
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<?> getProductFieldsById(@PathVariable Long id, @RequestParam String fields,
+                                                  @RequestHeader HttpHeaders headers)
+            throws HttpMediaTypeNotAcceptableException {
+        Set<ProductField> parsed = ProductField.parse(fields);
+        ProductResponseCache cache = responseCache.getIfAvailable();
+        if (cache == null) {
+            return ResponseEntity.ok(productService.findFieldsById(id, parsed));
+        }
+        return cache.respond(id, parsed.toString(), headers, () -> productService.findFieldsById(id, parsed));
     }
 
     /**
@@ -0,0 +1,72 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.dto.DailyPriceAggregate;
+import com.bahs.inventory_api.entity.ProductHistory;
+import com.bahs.inventory_api.service.ProductHistoryService;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST del historial de precio y stock bajo
+ * {@code /api/products/{id}/history}. Los parámetros {@code from} y {@code to}
+ * usan formato ISO-8601 y, si se omiten, abarcan todo el historial hasta ahora.
+ */
+@RestController
+@RequestMapping("/api/products/{id}/history")
+@RequiredArgsConstructor
+public class ProductHistoryController {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ProductHistoryService productHistoryService;
+
+    /**
+     * Maneja {@code GET /api/products/{id}/history?from=&to=} y retorna los
+     * cambios del rango.
+     *
+     * @param id identificador del producto
+     * @param from inicio del rango (opcional)
+     * @param to fin del rango (opcional)
+     * @return respuesta con las entradas del historial
+     */
+    @GetMapping
+    public ResponseEntity<List<ProductHistory>> getHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(productHistoryService.findHistory(id, fromOrEpoch(from), toOrNow(to)));
+    }
+
+    /**
+     * Maneja {@code GET /api/products/{id}/history/daily?from=&to=} y retorna
+     * los agregados diarios (mínimo, máximo y media) del rango.
+     *
+     * @param id identificador del producto
+     * @param from inicio del rango (opcional)
+     * @param to fin del rango (opcional)
+     * @return respuesta con los agregados diarios
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailyPriceAggregate>> getDailyHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(productHistoryService.findDailyAggregates(id, fromOrEpoch(from), toOrNow(to)));
+    }
+
+    private LocalDateTime fromOrEpoch(LocalDateTime from) {
+        return from != null ? from : EPOCH;
+    }
+
+    private LocalDateTime toOrNow(LocalDateTime to) {
+        return to != null ? to : LocalDateTime.now();
+    }
+}
@@ -0,0 +1,42 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.dto.FacetedSearchResponse;
+import com.bahs.inventory_api.service.ProductSearchService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST de la búsqueda por facetas bajo
+ * {@code /api/products/search}.
+ */
+@RestController
+@RequestMapping("/api/products/search")
+@RequiredArgsConstructor
+public class ProductSearchController {
+
+    private final ProductSearchService productSearchService;
+
+    /**
+     * Maneja {@code GET /api/products/search?category=&tag=&tag=&page=&size=}
+     * y retorna los productos que cumplen el filtro junto con los conteos por
+     * categoría y etiqueta.
+     *
+     * @param category categoría exigida (opcional)
+     * @param tags etiquetas exigidas; se pueden repetir o separar por comas
+     * @param page página, empezando en 0
+     * @param size tamaño de página
+     * @return respuesta con la página y los conteos
+     */
+    @GetMapping
+    public ResponseEntity<FacetedSearchResponse> search(@RequestParam(required = false) String category,
+                                                        @RequestParam(name = "tag", required = false) List<String> tags,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productSearchService.search(category, tags, page, size));
+    }
+}
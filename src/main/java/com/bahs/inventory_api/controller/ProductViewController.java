@@ -2,6 +2,7 @@ package com.bahs.inventory_api.controller;
 
 import com.bahs.inventory_api.dto.ProductRequest;
 import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.exception.InsufficientStockException;
 import com.bahs.inventory_api.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -87,7 +88,7 @@ public class ProductViewController {
      */
     @GetMapping("/{id}")
     public String viewProduct(@PathVariable Long id, Model model) {
-        Product product = productService.findById(id);
+        Product product = productService.findDetachedById(id);
         model.addAttribute("product", product);
         model.addAttribute("pageTitle", "Producto: " + product.getName());
         return "products/detail";
@@ -117,19 +118,24 @@ public class ProductViewController {
      * @param bindingResult resultado de la validación
      * @param model modelo de Spring MVC
      * @return redirección a la lista o la vista del formulario cuando hay errores
+     *         de validación o el stock no cubre lo reservado
      */
     @PostMapping("/{id}")
     public String updateProduct(@PathVariable Long id,
                                 @Valid @ModelAttribute("product") ProductRequest request,
                                 BindingResult bindingResult,
                                 Model model) {
-        if (bindingResult.hasErrors()) {
-            model.addAttribute("pageTitle", "Editar producto");
-            populateFormModel(model, "Editar producto", "/products/" + id, id, "Actualizar");
-            return "products/form";
+        if (!bindingResult.hasErrors()) {
+            try {
+                productService.update(id, request);
+                return "redirect:/products";
+            } catch (InsufficientStockException ex) {
+                bindingResult.rejectValue("stock", "Reserved", ex.getMessage());
+            }
         }
-        productService.update(id, request);
-        return "redirect:/products";
+        model.addAttribute("pageTitle", "Editar producto");
+        populateFormModel(model, "Editar producto", "/products/" + id, id, "Actualizar");
+        return "products/form";
     }
 
     /**
@@ -0,0 +1,103 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.dto.LocationStockTotal;
+import com.bahs.inventory_api.dto.ProductStockSummary;
+import com.bahs.inventory_api.dto.StockAdjustmentRequest;
+import com.bahs.inventory_api.dto.StockLevelRequest;
+import com.bahs.inventory_api.entity.ProductStock;
+import com.bahs.inventory_api.service.StockService;
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST para las existencias por ubicación (almacén). Expone el
+ * desglose por producto bajo {@code /api/products/{id}/stock} y las consultas
+ * por ubicación bajo {@code /api/locations/{locationId}/stock}.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockService stockService;
+
+    /**
+     * Maneja {@code GET /api/products/{id}/stock} y retorna el total del
+     * producto con su desglose por ubicación.
+     *
+     * @param id identificador del producto
+     * @return respuesta con el resumen de existencias
+     */
+    @GetMapping("/products/{id}/stock")
+    public ResponseEntity<ProductStockSummary> getProductStock(@PathVariable Long id) {
+        return ResponseEntity.ok(stockService.getProductStock(id));
+    }
+
+    /**
+     * Maneja {@code PUT /api/products/{id}/stock/{locationId}} para fijar la
+     * cantidad de un producto en una ubicación.
+     *
+     * @param id identificador del producto
+     * @param locationId código de la ubicación
+     * @param request DTO con la nueva cantidad
+     * @return respuesta con la existencia actualizada
+     */
+    @PutMapping("/products/{id}/stock/{locationId}")
+    public ResponseEntity<ProductStock> setLocationStock(@PathVariable Long id,
+                                                         @PathVariable String locationId,
+                                                         @Valid @RequestBody StockLevelRequest request) {
+        return ResponseEntity.ok(stockService.setLocationStock(id, locationId, request.getQty()));
+    }
+
+    /**
+     * Maneja {@code POST /api/products/{id}/stock/{locationId}/adjustments}
+     * para sumar o restar unidades en una ubicación.
+     *
+     * @param id identificador del producto
+     * @param locationId código de la ubicación
+     * @param request DTO con el ajuste
+     * @return respuesta con la existencia actualizada
+     */
+    @PostMapping("/products/{id}/stock/{locationId}/adjustments")
+    public ResponseEntity<ProductStock> adjustLocationStock(@PathVariable Long id,
+                                                            @PathVariable String locationId,
+                                                            @Valid @RequestBody StockAdjustmentRequest request) {
+        return ResponseEntity.ok(stockService.adjustLocationStock(id, locationId, request.getDelta()));
+    }
+
+    /**
+     * Maneja {@code GET /api/locations/{locationId}/stock?below=} y lista los
+     * productos de la ubicación con menos unidades que el umbral.
+     *
+     * @param locationId código de la ubicación
+     * @param below umbral exclusivo de bajo stock
+     * @return respuesta con las existencias por debajo del umbral
+     */
+    @GetMapping("/locations/{locationId}/stock")
+    public ResponseEntity<List<ProductStock>> getLowStock(@PathVariable String locationId,
+                                                          @RequestParam int below) {
+        return ResponseEntity.ok(stockService.findLowStock(locationId, below));
+    }
+
+    /**
+     * Maneja {@code GET /api/locations/{locationId}/stock/total} y retorna el
+     * total de unidades de la ubicación.
+     *
+     * @param locationId código de la ubicación
+     * @return respuesta con el total
+     */
+    @GetMapping("/locations/{locationId}/stock/total")
+    public ResponseEntity<LocationStockTotal> getLocationTotal(@PathVariable String locationId) {
+        return ResponseEntity.ok(stockService.getLocationTotal(locationId));
+    }
+}
@@ -0,0 +1,135 @@
+package com.bahs.inventory_api.diagnostics;
+
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.service.ProductService;
+import java.util.Collection;
+import java.util.Optional;
+import jdk.jfr.EventType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emite {@link ServiceCallEvent} y {@link RepositoryCallEvent} alrededor de los
+ * servicios y repositorios. Cuando no hay una grabación JFR activa que los
+ * incluya, el aspecto solo comprueba {@link EventType#isEnabled()} y delega,
+ * sin crear el evento ni inspeccionar argumentos.
+ *
+ * <p>El producto se toma del argumento {@code productId}, del primer
+ * {@code Long} en {@link ProductService}/{@link ProductRepository} o del
+ * {@link Product} devuelto; las filas, del tamaño de la colección o de si el
+ * {@link Optional} tiene valor.</p>
+ */
+@Aspect
+@Component
+public class FlightRecorderAspect {
+
+    private static final EventType SERVICE_EVENT = EventType.getEventType(ServiceCallEvent.class);
+    private static final EventType REPOSITORY_EVENT = EventType.getEventType(RepositoryCallEvent.class);
+
+    private static final ClassValue<Class<?>> REPOSITORY_INTERFACE = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> proxyClass) {
+            for (Class<?> candidate : proxyClass.getInterfaces()) {
+                if (candidate.getPackageName().startsWith("com.bahs.inventory_api")) {
+                    return candidate;
+                }
+            }
+            return proxyClass;
+        }
+    };
+
+    /**
+     * Mide los métodos públicos de los beans {@code @Service}.
+     *
+     * @param joinPoint invocación interceptada
+     * @return resultado del método
+     * @throws Throwable la excepción original del método
+     */
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * com.bahs.inventory_api.service..*.*(..))")
+    public Object recordService(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!SERVICE_EVENT.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        ServiceCallEvent event = new ServiceCallEvent();
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            event.failed = true;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Class<?> owner = joinPoint.getSignature().getDeclaringType();
+                event.operation = owner.getSimpleName() + "." + joinPoint.getSignature().getName();
+                event.productId = productId(joinPoint, owner == ProductService.class, result);
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Mide las llamadas a los repositorios Spring Data, incluidos los métodos
+     * heredados de {@code JpaRepository}.
+     *
+     * @param joinPoint invocación interceptada
+     * @return resultado del método
+     * @throws Throwable la excepción original del método
+     */
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object recordRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!REPOSITORY_EVENT.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            event.failed = true;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Class<?> owner = REPOSITORY_INTERFACE.get(joinPoint.getThis().getClass());
+                event.operation = owner.getSimpleName() + "." + joinPoint.getSignature().getName();
+                event.productId = productId(joinPoint, owner == ProductRepository.class, result);
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    private static long productId(ProceedingJoinPoint joinPoint, boolean productOwner, Object result) {
+        Object[] args = joinPoint.getArgs();
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Long id && (productOwner || (names != null && "productId".equals(names[i])))) {
+                return id;
+            }
+        }
+        if (result instanceof Product product && product.getId() != null) {
+            return product.getId();
+        }
+        return 0;
+    }
+
+    private static long rows(Object result) {
+        return switch (result) {
+            case Collection<?> collection -> collection.size();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            case Number number -> number.longValue();
+            case null -> -1;
+            default -> result instanceof Boolean ? -1 : 1;
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.bahs.inventory_api.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.EventType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Emite un {@link HttpRequestEvent} por cada petición a un controlador. El
+ * evento empieza en {@code preHandle} y se confirma en
+ * {@code afterCompletion}, de modo que en las respuestas asíncronas abarca
+ * también la espera del {@code CompletableFuture}. Sin grabación activa no se
+ * crea ningún objeto.
+ */
+public class FlightRecorderHandlerInterceptor implements AsyncHandlerInterceptor {
+
+    private static final EventType REQUEST_EVENT = EventType.getEventType(HttpRequestEvent.class);
+    private static final String EVENT_ATTRIBUTE = FlightRecorderHandlerInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && REQUEST_EVENT.isEnabled()
+                && request.getAttribute(EVENT_ATTRIBUTE) == null) {
+            HttpRequestEvent event = new HttpRequestEvent();
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof HttpRequestEvent event)) {
+            return;
+        }
+        request.removeAttribute(EVENT_ATTRIBUTE);
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = request.getMethod();
+            event.route = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+            if (handler instanceof HandlerMethod method) {
+                event.handler = method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+            }
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bahs.inventory_api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR emitido por cada petición atendida por un controlador, con la
+ * ruta resuelta, el manejador y el código de estado.
+ */
+@Name("com.bahs.inventory_api.HttpRequest")
+@Label("HTTP Request")
+@Category({"Inventory API", "HTTP"})
+@Description("Petición atendida por un controlador de inventory_api")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    @Description("Patrón de la ruta, p. ej. /api/products/{id}")
+    public String route;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Status")
+    public int status;
+}
@@ -0,0 +1,35 @@
+package com.bahs.inventory_api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR emitido por cada llamada a un método público de un {@code @Service},
+ * con el producto afectado y el número de filas devueltas.
+ */
+@Name("com.bahs.inventory_api.ServiceCall")
+@Label("Service Call")
+@Category({"Inventory API", "Service"})
+@Description("Llamada a un método público de un servicio")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Operation")
+    @Description("Clase y método invocados")
+    public String operation;
+
+    @Label("Product Id")
+    @Description("Producto afectado; 0 si no aplica")
+    public long productId;
+
+    @Label("Rows")
+    @Description("Filas o elementos devueltos; -1 si no aplica")
+    public long rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
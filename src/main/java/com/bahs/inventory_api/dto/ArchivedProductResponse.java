@@ -0,0 +1,60 @@
+package com.bahs.inventory_api.dto;
+
+import com.bahs.inventory_api.entity.ArchiveReason;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Producto archivado completo, reconstruido a partir del payload comprimido de
+ * {@code products_archive}.
+ */
+@Getter
+@Builder
+public class ArchivedProductResponse {
+
+    /** Identificador original del producto. */
+    private final Long id;
+
+    /** Nombre del producto. */
+    private final String name;
+
+    /** Descripción, puede ser {@code null}. */
+    private final String description;
+
+    /** Categoría, puede ser {@code null}. */
+    private final String category;
+
+    /** Etiquetas normalizadas. */
+    private final List<String> tags;
+
+    /** Precio en el momento del archivado. */
+    private final BigDecimal price;
+
+    /** Stock total en el momento del archivado. */
+    private final Integer stock;
+
+    /** Umbral de reposición propio, si lo tenía. */
+    private final Integer reorderThreshold;
+
+    /** Existencias por ubicación en el momento del archivado. */
+    private final Map<String, Integer> locations;
+
+    /** Fecha de creación. */
+    private final LocalDateTime createdAt;
+
+    /** Última modificación antes del archivado. */
+    private final LocalDateTime updatedAt;
+
+    /** Momento del borrado lógico, si lo hubo. */
+    private final LocalDateTime deletedAt;
+
+    /** Momento del archivado. */
+    private final LocalDateTime archivedAt;
+
+    /** Motivo del archivado. */
+    private final ArchiveReason reason;
+}
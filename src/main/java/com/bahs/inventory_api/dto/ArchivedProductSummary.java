@@ -0,0 +1,19 @@
+package com.bahs.inventory_api.dto;
+
+import com.bahs.inventory_api.entity.ArchiveReason;
+import java.time.LocalDateTime;
+
+/**
+ * Resumen de un producto archivado para los listados de
+ * {@code /api/archive/products}.
+ *
+ * @param id identificador original del producto
+ * @param name nombre
+ * @param category categoría, puede ser {@code null}
+ * @param reason motivo del archivado
+ * @param deletedAt momento del borrado lógico, si lo hubo
+ * @param archivedAt momento del archivado
+ */
+public record ArchivedProductSummary(Long id, String name, String category, ArchiveReason reason,
+                                     LocalDateTime deletedAt, LocalDateTime archivedAt) {
+}
@@ -0,0 +1,94 @@
+package com.bahs.inventory_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import lombok.Data;
+
+/**
+ * DTO de un ajuste masivo de precio o stock: qué productos (filtro) y cómo
+ * cambia el campo (ajuste). Por ejemplo, subir un 5% los productos de menos de
+ * 10: {@code {"filter": {"maxPrice": 10}, "adjustment": {"field": "PRICE",
+ * "operation": "PERCENT", "value": 5}}}.
+ */
+@Data
+public class BulkAdjustmentRequest {
+
+    /** Productos afectados; sin criterios, todo el catálogo vigente. */
+    @Valid
+    private Filter filter = new Filter();
+
+    /** Cambio a aplicar, obligatorio. */
+    @Valid
+    @NotNull(message = "El ajuste es obligatorio")
+    private Adjustment adjustment;
+
+    /**
+     * Criterios de selección; se combinan con AND.
+     */
+    @Data
+    public static class Filter {
+
+        /** Categoría exacta (se normaliza como en el alta). */
+        @Size(max = 60, message = "La categoría no debe superar los 60 caracteres")
+        private String category;
+
+        /** Etiqueta que el producto debe tener. */
+        @Size(max = 40, message = "La etiqueta no debe superar los 40 caracteres")
+        private String tag;
+
+        /** Precio mínimo, inclusive. */
+        @DecimalMin(value = "0", message = "El precio mínimo no puede ser negativo")
+        private BigDecimal minPrice;
+
+        /** Precio máximo, exclusive. */
+        @DecimalMin(value = "0", message = "El precio máximo no puede ser negativo")
+        private BigDecimal maxPrice;
+
+        /** Stock mínimo, inclusive. */
+        @Min(value = 0, message = "El stock mínimo no puede ser negativo")
+        private Integer minStock;
+
+        /** Stock máximo, exclusive. */
+        @Min(value = 0, message = "El stock máximo no puede ser negativo")
+        private Integer maxStock;
+    }
+
+    /**
+     * Cambio sobre un campo del producto.
+     */
+    @Data
+    public static class Adjustment {
+
+        /** Campo ajustado. */
+        @NotNull(message = "El campo es obligatorio")
+        private Field field;
+
+        /** Operación aplicada al valor actual. */
+        @NotNull(message = "La operación es obligatoria")
+        private Operation operation;
+
+        /** Operando: valor fijo, incremento o porcentaje según la operación. */
+        @NotNull(message = "El valor es obligatorio")
+        private BigDecimal value;
+    }
+
+    /** Campos ajustables en bloque. */
+    public enum Field {
+        PRICE,
+        STOCK
+    }
+
+    /** Operaciones de ajuste. */
+    public enum Operation {
+        /** Fija el valor. */
+        SET,
+        /** Suma el valor (negativo para restar). */
+        ADD,
+        /** Aplica un porcentaje de subida (negativo para bajar). */
+        PERCENT
+    }
+}
@@ -0,0 +1,78 @@
+package com.bahs.inventory_api.dto;
+
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest.Field;
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest.Operation;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Estado y progreso de un trabajo de ajuste masivo.
+ */
+@Getter
+@Builder
+public class BulkJobResponse {
+
+    /** Identificador del trabajo. */
+    private final long id;
+
+    /** Estado actual. */
+    private final Status status;
+
+    /** Campo ajustado. */
+    private final Field field;
+
+    /** Operación aplicada. */
+    private final Operation operation;
+
+    /** Operando de la operación. */
+    private final BigDecimal value;
+
+    /** Productos que cumplían el filtro al empezar; referencia del progreso. */
+    private final long estimatedRows;
+
+    /** Productos leídos hasta ahora. */
+    private final long processedRows;
+
+    /** Productos modificados. */
+    private final long updatedRows;
+
+    /**
+     * Productos leídos que no se modificaron: dejaron de cumplir el filtro
+     * por una escritura concurrente o el ajuste los dejaría en un valor
+     * inválido (precio no positivo, stock por debajo de lo reservado o
+     * gestionado por ubicación).
+     */
+    private final long skippedRows;
+
+    /** Lotes confirmados. */
+    private final long chunks;
+
+    /** Porcentaje de avance sobre {@code estimatedRows}. */
+    private final double progress;
+
+    /** Productos modificados por segundo desde el inicio. */
+    private final double rowsPerSecond;
+
+    /** Alta del trabajo. */
+    private final Instant createdAt;
+
+    /** Inicio de la ejecución, si ya empezó. */
+    private final Instant startedAt;
+
+    /** Fin de la ejecución, si ya terminó. */
+    private final Instant finishedAt;
+
+    /** Mensaje del error, si el trabajo falló. */
+    private final String error;
+
+    /** Estados de un trabajo. */
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
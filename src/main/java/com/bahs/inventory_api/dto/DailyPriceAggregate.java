@@ -0,0 +1,36 @@
+package com.bahs.inventory_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Agregado diario del historial de un producto: mínimo, máximo y media del
+ * precio, rango de stock y número de cambios registrados en el día.
+ */
+@Getter
+@AllArgsConstructor
+public class DailyPriceAggregate {
+
+    /** Día agregado. */
+    private final LocalDate day;
+
+    /** Precio mínimo del día. */
+    private final BigDecimal minPrice;
+
+    /** Precio máximo del día. */
+    private final BigDecimal maxPrice;
+
+    /** Precio medio del día. */
+    private final Double avgPrice;
+
+    /** Stock mínimo del día. */
+    private final Integer minStock;
+
+    /** Stock máximo del día. */
+    private final Integer maxStock;
+
+    /** Número de cambios registrados en el día. */
+    private final Long changes;
+}
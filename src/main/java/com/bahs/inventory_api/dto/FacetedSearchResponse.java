@@ -0,0 +1,34 @@
+package com.bahs.inventory_api.dto;
+
+import com.bahs.inventory_api.entity.Product;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Respuesta de la búsqueda por facetas: la página de productos que cumplen el
+ * filtro y los conteos por categoría y etiqueta.
+ */
+@Getter
+@Builder
+public class FacetedSearchResponse {
+
+    /** Número total de productos que cumplen el filtro. */
+    private final long total;
+
+    /** Página solicitada, empezando en 0. */
+    private final int page;
+
+    /** Tamaño de página. */
+    private final int size;
+
+    /** Productos de la página, ordenados por id. */
+    private final List<Product> products;
+
+    /** Conteo por categoría, sin aplicar el filtro de categoría. */
+    private final Map<String, Long> categories;
+
+    /** Conteo por etiqueta dentro del filtro completo. */
+    private final Map<String, Long> tags;
+}
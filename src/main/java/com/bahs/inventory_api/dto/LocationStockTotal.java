@@ -0,0 +1,18 @@
+package com.bahs.inventory_api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Respuesta con el total de unidades almacenadas en una ubicación.
+ */
+@Getter
+@Builder
+public class LocationStockTotal {
+
+    /** Código de la ubicación. */
+    private final String locationId;
+
+    /** Suma de unidades de todos los productos en la ubicación. */
+    private final long total;
+}
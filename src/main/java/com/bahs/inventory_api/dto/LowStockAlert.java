@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Alerta de stock bajo activa para un producto, tal como la exponen
+ * {@code /api/alerts/low-stock} y su flujo de eventos.
+ *
+ * @param productId identificador del producto
+ * @param stock stock total en la última evaluación
+ * @param threshold umbral de reposición aplicado, propio o por defecto
+ * @param raisedAt momento en que el stock cruzó el umbral
+ * @param updatedAt momento de la última evaluación
+ */
+public record LowStockAlert(Long productId, int stock, int threshold, LocalDateTime raisedAt,
+                            LocalDateTime updatedAt) {
+}
@@ -0,0 +1,70 @@
+package com.bahs.inventory_api.dto;
+
+import com.bahs.inventory_api.exception.InvalidFieldsException;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Campos de producto que un cliente puede pedir con {@code fields=} para
+ * obtener una proyección parcial. El orden de declaración es el orden de las
+ * propiedades en la respuesta, igual que en la representación completa.
+ */
+public enum ProductField {
+
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    CATEGORY("category"),
+    TAGS("tags"),
+    PRICE("price"),
+    STOCK("stock"),
+    RESERVED("reserved"),
+    REORDER_THRESHOLD("reorderThreshold"),
+    CREATED_AT("createdAt"),
+    AVAILABLE("available");
+
+    private final String property;
+
+    ProductField(String property) {
+        this.property = property;
+    }
+
+    /**
+     * @return nombre de la propiedad JSON y del atributo JPA
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Interpreta la lista separada por comas de {@code fields=}.
+     *
+     * @param fields nombres de propiedad, p. ej. {@code id,name,price}
+     * @return campos solicitados en orden de respuesta
+     * @throws InvalidFieldsException si la lista está vacía o contiene un
+     *                                campo desconocido
+     */
+    public static Set<ProductField> parse(String fields) {
+        Set<ProductField> parsed = EnumSet.noneOf(ProductField.class);
+        for (String token : fields.split(",")) {
+            String name = token.trim();
+            if (!name.isEmpty()) {
+                parsed.add(fromProperty(name));
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new InvalidFieldsException("El parámetro fields no puede estar vacío");
+        }
+        return parsed;
+    }
+
+    private static ProductField fromProperty(String name) {
+        for (ProductField field : values()) {
+            if (field.property.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldsException("Campo desconocido: " + name.toLowerCase(Locale.ROOT));
+    }
+}
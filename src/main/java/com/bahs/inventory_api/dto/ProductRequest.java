@@ -4,8 +4,11 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Data;
 
 /**
@@ -25,6 +28,14 @@ public class ProductRequest {
     /** Descripción opcional del producto. */
     private String description;
 
+    /** Categoría opcional, con longitud máxima de 60. */
+    @Size(max = 60, message = "La categoría no debe superar los 60 caracteres")
+    private String category;
+
+    /** Etiquetas opcionales: hasta 20, de hasta 40 caracteres y sin comas. */
+    @Size(max = 20, message = "No se admiten más de 20 etiquetas")
+    private List<@Pattern(regexp = "[^,]{1,40}", message = "Cada etiqueta debe tener entre 1 y 40 caracteres y no contener comas") String> tags = new ArrayList<>();
+
     /** Precio del producto, obligatorio y mayor que 0. */
     @NotNull(message = "El precio es obligatorio")
     @DecimalMin(value = "0.01", message = "El precio debe ser mayor a 0")
@@ -34,4 +45,8 @@ public class ProductRequest {
     @NotNull(message = "El stock es obligatorio")
     @Min(value = 0, message = "El stock debe ser mayor o igual a 0")
     private Integer stock;
+
+    /** Umbral de reposición opcional; nulo para usar el de la configuración. */
+    @Min(value = 0, message = "El umbral de reposición debe ser mayor o igual a 0")
+    private Integer reorderThreshold;
 }
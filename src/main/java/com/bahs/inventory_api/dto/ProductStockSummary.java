@@ -0,0 +1,23 @@
+package com.bahs.inventory_api.dto;
+
+import com.bahs.inventory_api.entity.ProductStock;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Respuesta con el total de un producto y su desglose por ubicación.
+ */
+@Getter
+@Builder
+public class ProductStockSummary {
+
+    /** Identificador del producto. */
+    private final Long productId;
+
+    /** Total desnormalizado de todas las ubicaciones. */
+    private final Integer total;
+
+    /** Existencias por ubicación. */
+    private final List<ProductStock> locations;
+}
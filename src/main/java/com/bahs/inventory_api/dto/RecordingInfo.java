@@ -0,0 +1,34 @@
+package com.bahs.inventory_api.dto;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Estado de una grabación de JDK Flight Recorder gestionada desde la API.
+ */
+@Getter
+@Builder
+public class RecordingInfo {
+
+    /** Identificador asignado por JFR. */
+    private final long id;
+
+    /** Nombre de la grabación. */
+    private final String name;
+
+    /** Estado: NEW, DELAYED, RUNNING, STOPPED o CLOSED. */
+    private final String state;
+
+    /** Inicio de la grabación, si ya empezó. */
+    private final Instant startTime;
+
+    /** Fin de la grabación, si ya se detuvo. */
+    private final Instant stopTime;
+
+    /** Antigüedad máxima retenida en segundos; 0 sin límite. */
+    private final long maxAgeSeconds;
+
+    /** Ruta del último volcado escrito, si lo hay. */
+    private final String dumpPath;
+}
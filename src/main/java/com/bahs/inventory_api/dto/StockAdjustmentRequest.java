@@ -0,0 +1,16 @@
+package com.bahs.inventory_api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * DTO para sumar o restar unidades a la existencia de una ubicación (por
+ * ejemplo, una recepción de mercancía o una venta).
+ */
+@Data
+public class StockAdjustmentRequest {
+
+    /** Unidades a sumar; negativo para restar. */
+    @NotNull(message = "El ajuste es obligatorio")
+    private Integer delta;
+}
@@ -0,0 +1,28 @@
+package com.bahs.inventory_api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO para crear una reserva temporal de unidades de un producto.
+ */
+@Data
+public class StockHoldRequest {
+
+    /** Unidades a reservar, obligatorio y mayor que 0. */
+    @NotNull(message = "La cantidad es obligatoria")
+    @Min(value = 1, message = "La cantidad debe ser mayor a 0")
+    private Integer quantity;
+
+    /** Ubicación de la que saldrán las unidades al confirmar (opcional). */
+    @Size(max = 40, message = "La ubicación no debe superar los 40 caracteres")
+    private String locationId;
+
+    /** Duración de la reserva en segundos; si se omite se usa la configurada. */
+    @Min(value = 1, message = "La duración debe ser mayor a 0")
+    @Max(value = 3600, message = "La duración no debe superar una hora")
+    private Integer ttlSeconds;
+}
@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * DTO para fijar la cantidad absoluta de un producto en una ubicación.
+ */
+@Data
+public class StockLevelRequest {
+
+    /** Unidades en la ubicación, obligatorio y mayor o igual a 0. */
+    @NotNull(message = "La cantidad es obligatoria")
+    @Min(value = 0, message = "La cantidad debe ser mayor o igual a 0")
+    private Integer qty;
+}
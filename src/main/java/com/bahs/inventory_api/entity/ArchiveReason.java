@@ -0,0 +1,11 @@
+package com.bahs.inventory_api.entity;
+
+/**
+ * Motivo por el que un producto salió de la tabla {@code products}.
+ */
+public enum ArchiveReason {
+    /** Borrado lógico cumplido el margen de gracia. */
+    DELETED,
+    /** Sin cambios durante el periodo de inactividad configurado. */
+    DORMANT
+}
@@ -0,0 +1,19 @@
+package com.bahs.inventory_api.entity;
+
+/**
+ * Estados posibles de una reserva de stock ({@link StockHold}).
+ */
+public enum HoldStatus {
+
+    /** Reserva vigente: sus unidades se descuentan del disponible. */
+    ACTIVE,
+
+    /** Pago completado: las unidades se descontaron del stock. */
+    CONFIRMED,
+
+    /** Reserva cancelada por el cliente. */
+    CANCELLED,
+
+    /** Reserva liberada automáticamente al vencer. */
+    EXPIRED
+}
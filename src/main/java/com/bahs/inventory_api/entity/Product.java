@@ -1,26 +1,39 @@
 package com.bahs.inventory_api.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * Entidad JPA que representa un producto dentro del inventario. Cada campo se
  * persiste en la tabla {@code products} almacenada en la base H2 en memoria y
  * es reutilizada tanto por la API REST bajo {@code /api/products} como por la
  * UI disponible en {@code /products}.
+ *
+ * <p>El borrado es lógico: {@link #deletedAt} marca la fila y
+ * {@link SQLRestriction} la excluye de todas las consultas JPA hasta que el
+ * archivador la mueve a {@code products_archive}.</p>
  */
 @Entity
 @Table(name = "products")
+@SQLRestriction("deleted_at is null")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,10 +48,24 @@ public class Product {
     @Column(nullable = false, length = 100)
     private String name;
 
-    /** Descripción opcional del producto, permite texto extendido. */
+    /**
+     * Descripción opcional del producto, permite texto extendido. Se carga de
+     * forma diferida (requiere el enhancement de Hibernate del build) para que
+     * las escrituras de stock y las reservas no lean el {@code TEXT}.
+     */
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    /** Categoría opcional del producto, usada como faceta en la búsqueda. */
+    @Column(length = 60)
+    private String category;
+
+    /** Etiquetas normalizadas del producto, guardadas separadas por comas. */
+    @Convert(converter = TagListConverter.class)
+    @Column(length = 1000)
+    private List<String> tags = new ArrayList<>();
+
     /** Precio del producto en moneda local, validado para ser mayor a 0. */
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal price;
@@ -47,10 +74,84 @@ public class Product {
     @Column(nullable = false)
     private Integer stock;
 
+    /** Unidades retenidas por reservas activas, descontadas del disponible. */
+    @Column(nullable = false)
+    private int reserved;
+
+    /**
+     * Umbral de reposición propio: se alerta cuando el stock baja de este
+     * valor. Nulo para usar el umbral por defecto de la configuración.
+     */
+    @Column(name = "reorder_threshold")
+    private Integer reorderThreshold;
+
     /** Marca de tiempo de creación, se genera automáticamente al persistir. */
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Marca de tiempo de la última modificación; el archivador la usa para
+     * detectar productos inactivos. Puede ser nula en filas cargadas por JDBC,
+     * en cuyo caso cuenta la fecha de creación.
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /** Momento del borrado lógico; nulo mientras el producto está vigente. */
+    @JsonIgnore
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    /**
+     * Construye una instancia desacoplada con todas las columnas; la usan las
+     * consultas de listado, que necesitan la descripción y la obtienen en la
+     * misma consulta en lugar de una carga diferida por fila.
+     *
+     * @param id identificador
+     * @param name nombre
+     * @param description descripción
+     * @param category categoría
+     * @param tags etiquetas
+     * @param price precio
+     * @param stock stock total
+     * @param reserved unidades reservadas
+     * @param reorderThreshold umbral de reposición propio, puede ser nulo
+     * @param createdAt fecha de creación
+     * @param updatedAt fecha de la última modificación
+     */
+    public Product(Long id, String name, String description, String category, List<String> tags, BigDecimal price,
+                   Integer stock, int reserved, Integer reorderThreshold, LocalDateTime createdAt,
+                   LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.tags = tags;
+        this.price = price;
+        this.stock = stock;
+        this.reserved = reserved;
+        this.reorderThreshold = reorderThreshold;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * @return etiquetas del producto; vacía cuando la columna es nula
+     */
+    public List<String> getTags() {
+        return tags != null ? tags : List.of();
+    }
+
+    /**
+     * Calcula las unidades disponibles para nuevas reservas o ventas: el stock
+     * total menos las unidades retenidas por reservas activas.
+     *
+     * @return unidades disponibles
+     */
+    public int getAvailable() {
+        return (stock != null ? stock : 0) - reserved;
+    }
+
     /**
      * Se ejecuta justo antes de persistir el producto para generar la fecha de
      * creación cuando aún no exista.
@@ -60,5 +161,15 @@ public class Product {
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
         }
+        updatedAt = createdAt;
+    }
+
+    /**
+     * Actualiza la fecha de modificación en cada escritura de la entidad,
+     * incluidas las de stock y reservas.
+     */
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
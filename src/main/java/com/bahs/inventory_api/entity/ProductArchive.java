@@ -0,0 +1,64 @@
+package com.bahs.inventory_api.entity;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Producto archivado en la tabla fría {@code products_archive}. Solo las
+ * columnas usadas para filtrar se guardan en claro; el producto completo
+ * (descripción, etiquetas, precio, stock y existencias por ubicación) va en
+ * {@link #payload} como JSON comprimido con gzip, que se carga de forma
+ * diferida para que los listados no lo lean.
+ */
+@Entity
+@Table(name = "products_archive", indexes = {
+    @Index(name = "idx_products_archive_category", columnList = "category, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductArchive {
+
+    /** Identificador original del producto. */
+    @Id
+    private Long id;
+
+    /** Nombre del producto. */
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    /** Categoría del producto, si tenía. */
+    @Column(length = 60)
+    private String category;
+
+    /** Motivo del archivado. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ArchiveReason reason;
+
+    /** Momento del borrado lógico, si lo hubo. */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    /** Momento en que se movió al archivo. */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /** Producto completo serializado en JSON y comprimido con gzip. */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false)
+    private byte[] payload;
+}
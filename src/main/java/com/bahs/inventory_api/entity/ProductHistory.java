@@ -0,0 +1,52 @@
+package com.bahs.inventory_api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entrada del historial de precio y stock de un producto, persistida en la
+ * tabla de solo inserción {@code product_history}. El índice
+ * {@code (product_id, changed_at)} agrupa físicamente las entradas de cada
+ * producto por fecha, de modo que las consultas por rango son recorridos de
+ * índice acotados.
+ */
+@Entity
+@Table(name = "product_history", indexes = {
+    @Index(name = "idx_product_history_product_changed", columnList = "product_id, changed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductHistory {
+
+    /** Identificador de la entrada (clave primaria autogenerada). */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Identificador del producto modificado. */
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    /** Momento del cambio. */
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    /** Precio vigente tras el cambio. */
+    @Column(nullable = false, updatable = false, precision = 15, scale = 2)
+    private BigDecimal price;
+
+    /** Stock total tras el cambio. */
+    @Column(nullable = false, updatable = false)
+    private Integer stock;
+}
@@ -0,0 +1,57 @@
+package com.bahs.inventory_api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad JPA con la cantidad de un producto en una ubicación concreta,
+ * persistida en la tabla {@code product_stock}. La clave primaria
+ * {@code (product_id, location_id)} resuelve las lecturas por producto y el
+ * índice {@code (location_id, qty)} cubre los totales por ubicación y las
+ * consultas de bajo stock sin recorrer la tabla. El total de todas las
+ * ubicaciones se mantiene desnormalizado en {@link Product#getStock()}.
+ */
+@Entity
+@Table(name = "product_stock", indexes = {
+    @Index(name = "idx_product_stock_location_qty", columnList = "location_id, qty")
+})
+@IdClass(ProductStockId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductStock {
+
+    /** Identificador del producto al que pertenece la existencia. */
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    /** Código de la ubicación o almacén. */
+    @Id
+    @Column(name = "location_id", length = 40)
+    private String locationId;
+
+    /** Unidades disponibles en la ubicación, nunca negativas. */
+    @Column(nullable = false)
+    private int qty;
+
+    /**
+     * Crea la existencia de un producto en una ubicación.
+     *
+     * @param productId identificador del producto
+     * @param locationId código de la ubicación
+     * @param qty unidades iniciales
+     */
+    public ProductStock(Long productId, String locationId, int qty) {
+        this.productId = productId;
+        this.locationId = locationId;
+        this.qty = qty;
+    }
+}
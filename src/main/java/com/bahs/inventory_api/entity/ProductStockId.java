@@ -0,0 +1,22 @@
+package com.bahs.inventory_api.entity;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clave compuesta de {@link ProductStock}: un producto en una ubicación
+ * (almacén) concreta.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockId implements Serializable {
+
+    /** Identificador del producto. */
+    private Long productId;
+
+    /** Código de la ubicación o almacén. */
+    private String locationId;
+}
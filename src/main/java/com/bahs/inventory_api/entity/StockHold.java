@@ -0,0 +1,76 @@
+package com.bahs.inventory_api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Reserva temporal de unidades de un producto durante el checkout, persistida
+ * en la tabla {@code stock_holds} para sobrevivir a reinicios. Mientras está
+ * {@link HoldStatus#ACTIVE} sus unidades se acumulan en
+ * {@link Product#getReserved()}; el índice {@code (status, expires_at)} permite
+ * recargar las reservas activas al arrancar y el índice
+ * {@code (product_id, location_id, status)} sumar lo reservado en una
+ * ubicación.
+ */
+@Entity
+@Table(name = "stock_holds", indexes = {
+    @Index(name = "idx_stock_holds_status_expires", columnList = "status, expires_at"),
+    @Index(name = "idx_stock_holds_product_location", columnList = "product_id, location_id, status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class StockHold {
+
+    /** Identificador de la reserva (clave primaria autogenerada). */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Identificador del producto reservado. */
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    /** Ubicación de la que saldrán las unidades al confirmar (opcional). */
+    @Column(name = "location_id", length = 40, updatable = false)
+    private String locationId;
+
+    /** Unidades retenidas. */
+    @Column(nullable = false, updatable = false)
+    private int quantity;
+
+    /** Estado actual de la reserva. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private HoldStatus status;
+
+    /** Momento en el que la reserva se libera si no se confirma. */
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    /** Marca de tiempo de creación. */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Genera la fecha de creación al persistir la reserva.
+     */
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
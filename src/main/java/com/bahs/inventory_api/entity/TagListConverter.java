@@ -0,0 +1,58 @@
+package com.bahs.inventory_api.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Guarda las etiquetas de un producto en una sola columna separadas por comas.
+ * Las etiquetas se normalizan (recortadas, en minúsculas, sin duplicados y
+ * ordenadas) para que el índice de facetas y las búsquedas comparen por
+ * igualdad.
+ */
+@Converter
+public class TagListConverter implements AttributeConverter<List<String>, String> {
+
+    private static final String SEPARATOR = ",";
+
+    @Override
+    public String convertToDatabaseColumn(List<String> tags) {
+        return tags == null || tags.isEmpty() ? null : String.join(SEPARATOR, tags);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String column) {
+        return parse(column);
+    }
+
+    /**
+     * Interpreta el valor de la columna {@code tags}.
+     *
+     * @param column valor almacenado, puede ser {@code null}
+     * @return etiquetas, vacía si no hay ninguna
+     */
+    public static List<String> parse(String column) {
+        return column == null || column.isEmpty() ? List.of() : normalize(Arrays.asList(column.split(SEPARATOR)));
+    }
+
+    /**
+     * Normaliza una lista de etiquetas.
+     *
+     * @param tags etiquetas de entrada, puede ser {@code null}
+     * @return etiquetas recortadas, en minúsculas, únicas y ordenadas
+     */
+    public static List<String> normalize(Collection<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream()
+            .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+            .filter(tag -> !tag.isEmpty())
+            .distinct()
+            .sorted()
+            .toList();
+    }
+}
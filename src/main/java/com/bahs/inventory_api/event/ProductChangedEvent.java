@@ -0,0 +1,48 @@
+package com.bahs.inventory_api.event;
+
+import com.bahs.inventory_api.entity.Product;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Evento de aplicación publicado por los servicios cada vez que cambia un
+ * producto. Transporta una copia inmutable de los valores relevantes para que
+ * los oyentes (historial, cachés, índices) no dependan de la entidad JPA y
+ * puedan procesarlo tras el commit, fuera de la transacción principal.
+ *
+ * @param type tipo de cambio
+ * @param productId identificador del producto
+ * @param category categoría vigente tras el cambio
+ * @param tags etiquetas vigentes tras el cambio
+ * @param price precio vigente tras el cambio
+ * @param stock stock total tras el cambio
+ * @param reorderThreshold umbral de reposición propio tras el cambio, puede ser nulo
+ * @param changedAt momento del cambio
+ */
+public record ProductChangedEvent(ChangeType type, Long productId, String category, List<String> tags,
+                                  BigDecimal price, Integer stock, Integer reorderThreshold,
+                                  LocalDateTime changedAt) {
+
+    /** Tipos de cambio sobre un producto. */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STOCK_CHANGED,
+        RESERVATION_CHANGED,
+        DELETED,
+        ARCHIVED
+    }
+
+    /**
+     * Construye el evento a partir del estado actual de la entidad.
+     *
+     * @param type tipo de cambio
+     * @param product entidad ya modificada
+     * @return evento listo para publicar
+     */
+    public static ProductChangedEvent of(ChangeType type, Product product) {
+        return new ProductChangedEvent(type, product.getId(), product.getCategory(), List.copyOf(product.getTags()),
+            product.getPrice(), product.getStock(), product.getReorderThreshold(), LocalDateTime.now());
+    }
+}
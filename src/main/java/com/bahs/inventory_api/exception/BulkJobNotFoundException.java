@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio que representa un trabajo de ajuste masivo inexistente.
+ * No captura la traza de pila.
+ */
+public class BulkJobNotFoundException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error
+     */
+    public BulkJobNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,64 +1,257 @@
 package com.bahs.inventory_api.exception;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import com.bahs.inventory_api.controller.BulkAdjustmentController;
+import com.bahs.inventory_api.controller.DiagnosticsController;
+import com.bahs.inventory_api.controller.HoldController;
+import com.bahs.inventory_api.controller.LowStockAlertController;
+import com.bahs.inventory_api.controller.ProductArchiveController;
+import com.bahs.inventory_api.controller.ProductAsyncController;
 import com.bahs.inventory_api.controller.ProductController;
+import com.bahs.inventory_api.controller.ProductHistoryController;
+import com.bahs.inventory_api.controller.ProductSearchController;
+import com.bahs.inventory_api.controller.StockController;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
- * Maneja las excepciones generadas por el controlador REST
- * {@link ProductController}. Se restringe al API bajo {@code /api/products} para
- * mantener aislada la experiencia HTML de la UI, retornando respuestas JSON
- * consistentes cuando ocurre un error.
+ * Maneja las excepciones generadas por los controladores REST
+ * {@link ProductController}, {@link ProductSearchController},
+ * {@link ProductArchiveController}, {@link ProductHistoryController},
+ * {@link ProductAsyncController}, {@link StockController},
+ * {@link HoldController}, {@link BulkAdjustmentController},
+ * {@link LowStockAlertController} y
+ * {@link DiagnosticsController}. Se restringe al API bajo {@code /api} para
+ * mantener aislada la experiencia HTML de la UI, retornando respuestas
+ * {@code application/problem+json} (RFC 7807) cuando ocurre un error.
+ *
+ * <p>Además de los campos estándar ({@code type}, {@code title},
+ * {@code status}, {@code detail}) cada respuesta conserva las propiedades
+ * {@code message} y {@code errors} que ya consumían los clientes existentes.</p>
  */
-@RestControllerAdvice(assignableTypes = ProductController.class)
+@RestControllerAdvice(assignableTypes = {
+    ProductController.class,
+    ProductSearchController.class,
+    ProductArchiveController.class,
+    ProductHistoryController.class,
+    ProductAsyncController.class,
+    StockController.class,
+    HoldController.class,
+    BulkAdjustmentController.class,
+    LowStockAlertController.class,
+    DiagnosticsController.class
+})
 public class GlobalExceptionHandler {
 
+    private static final String VALIDATION_MESSAGE = "Error de validación";
+
     /**
      * Maneja las excepciones de validación y construye un listado de errores por campo.
+     * Los mensajes se copian directamente a un arreglo del tamaño exacto, sin
+     * streams ni colecciones intermedias.
      *
      * @param ex excepción lanzada por Spring al validar @Valid
-     * @return respuesta con detalles del error y código 400
+     * @return respuesta problem+json con detalles del error y código 400
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ApiErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
-        List<String> errors = ex.getBindingResult().getAllErrors().stream()
-            .map(error -> {
-                if (error instanceof FieldError fieldError) {
-                    return fieldError.getField() + ": " + fieldError.getDefaultMessage();
-                }
-                return error.getDefaultMessage();
-            })
-            .collect(Collectors.toList());
-
-        ApiErrorResponse response = ApiErrorResponse.builder()
-            .timestamp(LocalDateTime.now())
-            .status(HttpStatus.BAD_REQUEST.value())
-            .message("Error de validación")
-            .errors(errors)
-            .build();
-        return ResponseEntity.badRequest().body(response);
+    public ResponseEntity<ProblemDetail> handleValidationErrors(MethodArgumentNotValidException ex) {
+        List<ObjectError> allErrors = ex.getBindingResult().getAllErrors();
+        String[] errors = new String[allErrors.size()];
+        for (int i = 0; i < errors.length; i++) {
+            ObjectError error = allErrors.get(i);
+            errors[i] = error instanceof FieldError fieldError
+                ? fieldError.getField() + ": " + fieldError.getDefaultMessage()
+                : error.getDefaultMessage();
+        }
+
+        ProblemDetail problem = problem(HttpStatus.BAD_REQUEST, VALIDATION_MESSAGE);
+        problem.setProperty("errors", errors);
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_PROBLEM_JSON).body(problem);
     }
 
     /**
      * Maneja el caso donde no se encuentra un producto específico.
      *
      * @param ex excepción personalizada
-     * @return respuesta con código 404 y mensaje claro
+     * @return respuesta problem+json con código 404 y mensaje claro
      */
     @ExceptionHandler(ProductNotFoundException.class)
-    public ResponseEntity<ApiErrorResponse> handleProductNotFound(ProductNotFoundException ex) {
-        ApiErrorResponse response = ApiErrorResponse.builder()
-            .timestamp(LocalDateTime.now())
-            .status(HttpStatus.NOT_FOUND.value())
-            .message(ex.getMessage())
-            .build();
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    public ResponseEntity<ProblemDetail> handleProductNotFound(ProductNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.NOT_FOUND, ex.getMessage()));
+    }
+
+    /**
+     * Maneja el caso donde no se encuentra una reserva de stock.
+     *
+     * @param ex excepción personalizada
+     * @return respuesta problem+json con código 404
+     */
+    @ExceptionHandler(HoldNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleHoldNotFound(HoldNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.NOT_FOUND, ex.getMessage()));
+    }
+
+    /**
+     * Maneja el caso donde no existe una grabación JFR.
+     *
+     * @param ex excepción personalizada
+     * @return respuesta problem+json con código 404
+     */
+    @ExceptionHandler(RecordingNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleRecordingNotFound(RecordingNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.NOT_FOUND, ex.getMessage()));
+    }
+
+    /**
+     * Maneja el caso donde no existe un trabajo de ajuste masivo.
+     *
+     * @param ex excepción personalizada
+     * @return respuesta problem+json con código 404
+     */
+    @ExceptionHandler(BulkJobNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleBulkJobNotFound(BulkJobNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.NOT_FOUND, ex.getMessage()));
+    }
+
+    /**
+     * Maneja las operaciones sobre reservas ya confirmadas, canceladas o vencidas.
+     *
+     * @param ex excepción de dominio
+     * @return respuesta problem+json con código 409
+     */
+    @ExceptionHandler(HoldNotActiveException.class)
+    public ResponseEntity<ProblemDetail> handleHoldNotActive(HoldNotActiveException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
+    /**
+     * Maneja la restauración de productos archivados por borrado.
+     *
+     * @param ex excepción de dominio
+     * @return respuesta problem+json con código 409
+     */
+    @ExceptionHandler(ProductNotRestorableException.class)
+    public ResponseEntity<ProblemDetail> handleProductNotRestorable(ProductNotRestorableException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
+    /**
+     * Maneja los parámetros de negocio inválidos que no cubre Bean
+     * Validation, como la paginación o un ajuste masivo no aplicable. Otras
+     * {@link IllegalArgumentException} no se traducen: son fallos internos y
+     * su mensaje no se expone al cliente.
+     *
+     * @param ex excepción de dominio con el detalle del parámetro inválido
+     * @return respuesta problem+json con código 400
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidRequest(InvalidRequestException ex) {
+        return ResponseEntity.badRequest()
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.BAD_REQUEST, ex.getMessage()));
+    }
+
+    /**
+     * Maneja la primera ubicación de un producto con reservas sin ubicación.
+     *
+     * @param ex excepción de dominio
+     * @return respuesta problem+json con código 409
+     */
+    @ExceptionHandler(UnlocatedHoldsException.class)
+    public ResponseEntity<ProblemDetail> handleUnlocatedHolds(UnlocatedHoldsException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
+    /**
+     * Maneja la detención de una grabación JFR que no está en curso.
+     *
+     * @param ex excepción de dominio
+     * @return respuesta problem+json con código 409
+     */
+    @ExceptionHandler(RecordingNotActiveException.class)
+    public ResponseEntity<ProblemDetail> handleRecordingNotActive(RecordingNotActiveException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
+    /**
+     * Maneja los parámetros de ruta o consulta que no se pueden convertir al
+     * tipo esperado, como una fecha {@code from} mal formada.
+     *
+     * @param ex excepción de conversión del parámetro
+     * @return respuesta problem+json con código 400
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ProblemDetail> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return ResponseEntity.badRequest()
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.BAD_REQUEST, "Valor inválido para el parámetro " + ex.getName()));
+    }
+
+    /**
+     * Maneja las operaciones que dejarían el stock en negativo.
+     *
+     * @param ex excepción de dominio
+     * @return respuesta problem+json con código 409
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ProblemDetail> handleInsufficientStock(InsufficientStockException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
+    /**
+     * Maneja el rechazo del pool de lecturas asíncronas cuando su cola está
+     * llena, indicando al cliente que reintente.
+     *
+     * @param ex excepción del ejecutor
+     * @return respuesta problem+json con código 503
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ProblemDetail> handleRejectedExecution(RejectedExecutionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem(HttpStatus.SERVICE_UNAVAILABLE, "Servicio saturado, reintente más tarde"));
+    }
+
+    /**
+     * Construye el {@link ProblemDetail} base con el mensaje como
+     * {@code detail} y como propiedad {@code message} compatible.
+     *
+     * @param status código HTTP de la respuesta
+     * @param message mensaje legible para el consumidor del API
+     * @return problema listo para completar y serializar
+     */
+    private ProblemDetail problem(HttpStatus status, String message) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, message);
+        problem.setProperty("message", message);
+        return problem;
     }
 }
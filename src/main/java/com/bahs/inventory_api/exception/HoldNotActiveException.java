@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada al confirmar o cancelar una reserva que ya fue
+ * confirmada, cancelada o vencida. No captura la traza de pila.
+ */
+public class HoldNotActiveException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error
+     */
+    public HoldNotActiveException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio que representa una reserva de stock inexistente. No
+ * captura la traza de pila.
+ */
+public class HoldNotFoundException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error
+     */
+    public HoldNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
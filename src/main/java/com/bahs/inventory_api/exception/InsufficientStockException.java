@@ -0,0 +1,18 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada cuando una operación dejaría el stock de una
+ * ubicación (o el disponible del producto) por debajo de cero. Como
+ * {@link ProductNotFoundException}, no captura la traza de pila.
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error
+     */
+    public InsufficientStockException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada cuando el ajuste de un trabajo masivo no es
+ * aplicable al campo, como un porcentaje de -100 o unidades fraccionarias.
+ */
+public class InvalidBulkAdjustmentException extends InvalidRequestException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo.
+     *
+     * @param message detalle del error
+     */
+    public InvalidBulkAdjustmentException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada cuando el parámetro {@code fields} está vacío
+ * o nombra una propiedad desconocida.
+ */
+public class InvalidFieldsException extends InvalidRequestException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo.
+     *
+     * @param message detalle del error
+     */
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+}
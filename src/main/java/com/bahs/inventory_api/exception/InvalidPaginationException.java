@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada cuando {@code page} o {@code size} quedan fuera
+ * de los límites de un listado paginado.
+ */
+public class InvalidPaginationException extends InvalidRequestException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo.
+     *
+     * @param message detalle del error
+     */
+    public InvalidPaginationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada al iniciar una grabación JFR con una
+ * configuración predefinida que no existe.
+ */
+public class InvalidRecordingSettingsException extends InvalidRequestException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo.
+     *
+     * @param message detalle del error
+     */
+    public InvalidRecordingSettingsException(String message) {
+        super(message);
+    }
+}
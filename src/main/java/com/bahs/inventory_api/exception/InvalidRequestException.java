@@ -0,0 +1,20 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Base de las excepciones de dominio por parámetros de petición que Bean
+ * Validation no puede comprobar, como la paginación o un ajuste masivo no
+ * aplicable. {@link GlobalExceptionHandler} las traduce a {@code 400}; el resto
+ * de {@link IllegalArgumentException} se consideran fallos internos. No
+ * captura la traza de pila.
+ */
+public abstract class InvalidRequestException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error, visible para el cliente
+     */
+    protected InvalidRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada al reservar sin {@code locationId} un producto
+ * que gestiona su stock por ubicación.
+ */
+public class LocationRequiredException extends InvalidRequestException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo.
+     *
+     * @param message detalle del error
+     */
+    public LocationRequiredException(String message) {
+        super(message);
+    }
+}
@@ -2,16 +2,19 @@ package com.bahs.inventory_api.exception;
 
 /**
  * Excepción personalizada que representa la ausencia de un producto en la base
- * de datos.
+ * de datos. Es una excepción de dominio esperada (un 404 rutinario), por lo que
+ * no captura la traza de pila ni admite supresión: el manejador global solo
+ * necesita el mensaje y evitar {@code fillInStackTrace} abarata el tráfico con
+ * muchas búsquedas fallidas.
  */
 public class ProductNotFoundException extends RuntimeException {
 
     /**
-     * Crea la excepción con un mensaje descriptivo.
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
      *
      * @param message detalle del error
      */
     public ProductNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
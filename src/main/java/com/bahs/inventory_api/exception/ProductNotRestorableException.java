@@ -0,0 +1,18 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada al restaurar un producto que se archivó por
+ * borrado: solo los archivados por inactividad vuelven a la tabla caliente.
+ * No captura la traza de pila.
+ */
+public class ProductNotRestorableException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error
+     */
+    public ProductNotRestorableException(String message) {
+        super(message, null, false, false);
+    }
+}
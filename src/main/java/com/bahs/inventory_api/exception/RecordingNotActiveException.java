@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada al detener una grabación JFR que no está en
+ * curso. No captura la traza de pila.
+ */
+public class RecordingNotActiveException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error
+     */
+    public RecordingNotActiveException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio que representa una grabación JFR inexistente. No
+ * captura la traza de pila.
+ */
+public class RecordingNotFoundException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error
+     */
+    public RecordingNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
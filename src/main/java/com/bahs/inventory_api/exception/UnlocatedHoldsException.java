@@ -0,0 +1,17 @@
+package com.bahs.inventory_api.exception;
+
+/**
+ * Excepción de dominio lanzada al dar la primera ubicación a un producto que
+ * tiene reservas activas sin ubicación. No captura la traza de pila.
+ */
+public class UnlocatedHoldsException extends RuntimeException {
+
+    /**
+     * Crea la excepción con un mensaje descriptivo y sin traza de pila.
+     *
+     * @param message detalle del error
+     */
+    public UnlocatedHoldsException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,39 @@
+package com.bahs.inventory_api.repository;
+
+import com.bahs.inventory_api.dto.ArchivedProductSummary;
+import com.bahs.inventory_api.entity.ProductArchive;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio de la tabla fría {@code products_archive}. Los listados
+ * proyectan solo las columnas en claro, sin leer el payload comprimido.
+ */
+@Repository
+public interface ProductArchiveRepository extends JpaRepository<ProductArchive, Long> {
+
+    /**
+     * Lista productos archivados ordenados por id.
+     *
+     * @param pageable página solicitada
+     * @return resúmenes de la página
+     */
+    @Query("select new com.bahs.inventory_api.dto.ArchivedProductSummary(a.id, a.name, a.category, a.reason, "
+        + "a.deletedAt, a.archivedAt) from ProductArchive a order by a.id")
+    List<ArchivedProductSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Lista productos archivados de una categoría ordenados por id.
+     *
+     * @param category categoría exigida
+     * @param pageable página solicitada
+     * @return resúmenes de la página
+     */
+    @Query("select new com.bahs.inventory_api.dto.ArchivedProductSummary(a.id, a.name, a.category, a.reason, "
+        + "a.deletedAt, a.archivedAt) from ProductArchive a where a.category = :category order by a.id")
+    List<ArchivedProductSummary> findSummariesByCategory(@Param("category") String category, Pageable pageable);
+}
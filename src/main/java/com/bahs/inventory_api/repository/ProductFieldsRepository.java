@@ -0,0 +1,31 @@
+package com.bahs.inventory_api.repository;
+
+import com.bahs.inventory_api.dto.ProductField;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Fragmento de {@link ProductRepository} con proyecciones dinámicas: solo se
+ * seleccionan las columnas de los campos pedidos.
+ */
+public interface ProductFieldsRepository {
+
+    /**
+     * Lista todos los productos con los campos indicados, ordenados por id.
+     *
+     * @param fields campos a seleccionar
+     * @return una fila por producto con las propiedades en orden de respuesta
+     */
+    List<Map<String, Object>> findAllFields(Set<ProductField> fields);
+
+    /**
+     * Obtiene los campos indicados de un producto.
+     *
+     * @param id identificador del producto
+     * @param fields campos a seleccionar
+     * @return fila del producto, si existe
+     */
+    Optional<Map<String, Object>> findFieldsById(Long id, Set<ProductField> fields);
+}
@@ -0,0 +1,69 @@
+package com.bahs.inventory_api.repository;
+
+import com.bahs.inventory_api.dto.ProductField;
+import com.bahs.inventory_api.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementación con Criteria API de {@link ProductFieldsRepository}. Construye
+ * una consulta de tuplas con una selección por campo; {@code available} se
+ * calcula en la base como {@code stock - reserved}.
+ */
+class ProductFieldsRepositoryImpl implements ProductFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllFields(Set<ProductField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        query.multiselect(selections(cb, root, fields)).orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultStream()
+            .map(tuple -> toRow(tuple, fields))
+            .toList();
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, Set<ProductField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        query.multiselect(selections(cb, root, fields)).where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(query).getResultStream()
+            .findFirst()
+            .map(tuple -> toRow(tuple, fields));
+    }
+
+    private static List<Selection<?>> selections(CriteriaBuilder cb, Root<Product> root, Set<ProductField> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (ProductField field : fields) {
+            Selection<?> selection = field == ProductField.AVAILABLE
+                ? cb.diff(root.<Integer>get("stock"), root.<Integer>get("reserved"))
+                : root.get(field.getProperty());
+            selections.add(selection.alias(field.getProperty()));
+        }
+        return selections;
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple, Set<ProductField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (ProductField field : fields) {
+            row.put(field.getProperty(), tuple.get(field.getProperty()));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bahs.inventory_api.repository;
+
+import com.bahs.inventory_api.dto.DailyPriceAggregate;
+import com.bahs.inventory_api.entity.ProductHistory;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio Spring Data de solo lectura para el historial de productos. Las
+ * inserciones se hacen por lotes desde
+ * {@link com.bahs.inventory_api.service.ProductHistoryRecorder}.
+ */
+@Repository
+public interface ProductHistoryRepository extends JpaRepository<ProductHistory, Long> {
+
+    /**
+     * Recorre el índice {@code (product_id, changed_at)} para un rango de
+     * fechas.
+     *
+     * @param productId identificador del producto
+     * @param from inicio del rango (inclusive)
+     * @param to fin del rango (inclusive)
+     * @return entradas ordenadas por fecha
+     */
+    List<ProductHistory> findByProductIdAndChangedAtBetweenOrderByChangedAt(Long productId,
+                                                                          LocalDateTime from,
+                                                                          LocalDateTime to);
+
+    /**
+     * Agrega el historial por día dentro del rango indicado.
+     *
+     * @param productId identificador del producto
+     * @param from inicio del rango (inclusive)
+     * @param to fin del rango (inclusive)
+     * @return agregados diarios ordenados por día
+     */
+    @Query("""
+        select new com.bahs.inventory_api.dto.DailyPriceAggregate(
+            cast(h.changedAt as LocalDate), min(h.price), max(h.price), avg(h.price),
+            min(h.stock), max(h.stock), count(h))
+        from ProductHistory h
+        where h.productId = :productId and h.changedAt between :from and :to
+        group by cast(h.changedAt as LocalDate)
+        order by cast(h.changedAt as LocalDate)
+        """)
+    List<DailyPriceAggregate> aggregateDaily(@Param("productId") Long productId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,20 @@
+package com.bahs.inventory_api.repository;
+
+import com.bahs.inventory_api.entity.Product;
+
+/**
+ * Fragmento de {@link ProductRepository} para dar de alta productos con un id
+ * ya asignado. Con el catálogo particionado el id sale de la secuencia global
+ * antes de la inserción, porque decide en qué shard se guarda la fila; la
+ * columna identidad de cada shard no sirve para eso.
+ */
+public interface ProductInsertRepository {
+
+    /**
+     * Inserta el producto con el id que ya trae, fijando sus marcas de tiempo
+     * si faltan.
+     *
+     * @param product producto nuevo con id asignado
+     */
+    void insertWithId(Product product);
+}
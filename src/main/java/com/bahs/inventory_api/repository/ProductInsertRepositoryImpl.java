@@ -0,0 +1,45 @@
+package com.bahs.inventory_api.repository;
+
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.TagListConverter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+
+/**
+ * Implementación con una sentencia nativa de {@link ProductInsertRepository}:
+ * {@code persist} no acepta ids asignados en una entidad con
+ * {@code GenerationType.IDENTITY}.
+ */
+class ProductInsertRepositoryImpl implements ProductInsertRepository {
+
+    private static final String INSERT_SQL =
+        "insert into products (id, name, description, category, tags, price, stock, reserved, "
+            + "reorder_threshold, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final TagListConverter TAGS = new TagListConverter();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertWithId(Product product) {
+        if (product.getCreatedAt() == null) {
+            product.setCreatedAt(LocalDateTime.now());
+        }
+        product.setUpdatedAt(product.getCreatedAt());
+        entityManager.createNativeQuery(INSERT_SQL)
+            .setParameter(1, product.getId())
+            .setParameter(2, product.getName())
+            .setParameter(3, product.getDescription())
+            .setParameter(4, product.getCategory())
+            .setParameter(5, TAGS.convertToDatabaseColumn(product.getTags()))
+            .setParameter(6, product.getPrice())
+            .setParameter(7, product.getStock())
+            .setParameter(8, product.getReserved())
+            .setParameter(9, product.getReorderThreshold())
+            .setParameter(10, product.getCreatedAt())
+            .setParameter(11, product.getUpdatedAt())
+            .executeUpdate();
+    }
+}
@@ -1,13 +1,66 @@
 package com.bahs.inventory_api.repository;
 
 import com.bahs.inventory_api.entity.Product;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repositorio Spring Data que proporciona operaciones CRUD para la entidad
- * {@link Product}.
+ * {@link Product}. Las proyecciones por campos viven en
+ * {@link ProductFieldsRepository} y el alta con id asignado en
+ * {@link ProductInsertRepository}.
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductFieldsRepository,
+        ProductInsertRepository {
+
+    /**
+     * Carga el producto bloqueando su fila para serializar las escrituras de
+     * stock y edición sobre el mismo producto.
+     *
+     * @param id identificador del producto
+     * @return producto bloqueado, si existe
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :id")
+    Optional<Product> findForUpdate(@Param("id") Long id);
+
+    /**
+     * Lista todos los productos con la descripción incluida en la misma
+     * consulta. Las instancias quedan desacopladas: sirven para lectura y
+     * serialización, no para modificar.
+     *
+     * @return productos completos
+     */
+    @Query("select new com.bahs.inventory_api.entity.Product(p.id, p.name, p.description, p.category, "
+        + "p.tags, p.price, p.stock, p.reserved, p.reorderThreshold, p.createdAt, p.updatedAt) from Product p")
+    List<Product> findAllWithDescription();
+
+    /**
+     * Igual que {@link #findAllWithDescription()} restringido a los ids dados.
+     *
+     * @param ids identificadores solicitados
+     * @return productos completos encontrados
+     */
+    @Query("select new com.bahs.inventory_api.entity.Product(p.id, p.name, p.description, p.category, "
+        + "p.tags, p.price, p.stock, p.reserved, p.reorderThreshold, p.createdAt, p.updatedAt) from Product p where p.id in :ids")
+    List<Product> findAllWithDescriptionById(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene un producto completo desacoplado, para serializarlo fuera de la
+     * sesión (lecturas asíncronas).
+     *
+     * @param id identificador del producto
+     * @return producto completo, si existe
+     */
+    @Query("select new com.bahs.inventory_api.entity.Product(p.id, p.name, p.description, p.category, "
+        + "p.tags, p.price, p.stock, p.reserved, p.reorderThreshold, p.createdAt, p.updatedAt) from Product p where p.id = :id")
+    Optional<Product> findWithDescriptionById(@Param("id") Long id);
 }
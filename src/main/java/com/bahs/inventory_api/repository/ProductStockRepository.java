@@ -0,0 +1,79 @@
+package com.bahs.inventory_api.repository;
+
+import com.bahs.inventory_api.entity.ProductStock;
+import com.bahs.inventory_api.entity.ProductStockId;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio Spring Data para las existencias por ubicación
+ * ({@link ProductStock}). Todas las consultas usan la clave primaria
+ * {@code (product_id, location_id)} o el índice {@code (location_id, qty)}.
+ */
+@Repository
+public interface ProductStockRepository extends JpaRepository<ProductStock, ProductStockId> {
+
+    /**
+     * Obtiene las existencias de un producto en todas sus ubicaciones.
+     *
+     * @param productId identificador del producto
+     * @return existencias ordenadas por ubicación
+     */
+    List<ProductStock> findByProductIdOrderByLocationId(Long productId);
+
+    /**
+     * Indica si el producto gestiona su stock por ubicaciones.
+     *
+     * @param productId identificador del producto
+     * @return {@code true} si existe al menos una ubicación
+     */
+    boolean existsByProductId(Long productId);
+
+    /**
+     * Bloquea la fila de existencias para actualizarla y mantener consistente el
+     * total desnormalizado del producto.
+     *
+     * @param productId identificador del producto
+     * @param locationId código de la ubicación
+     * @return existencia bloqueada, si existe
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductStock s where s.productId = :productId and s.locationId = :locationId")
+    Optional<ProductStock> findForUpdate(@Param("productId") Long productId, @Param("locationId") String locationId);
+
+    /**
+     * Lista los productos de una ubicación por debajo del umbral indicado,
+     * empezando por los de menor cantidad.
+     *
+     * @param locationId código de la ubicación
+     * @param threshold umbral exclusivo
+     * @return existencias con bajo stock
+     */
+    List<ProductStock> findByLocationIdAndQtyLessThanOrderByQtyAsc(String locationId, int threshold);
+
+    /**
+     * Suma las unidades de una ubicación usando únicamente el índice
+     * {@code (location_id, qty)}.
+     *
+     * @param locationId código de la ubicación
+     * @return total de unidades en la ubicación
+     */
+    @Query("select coalesce(sum(s.qty), 0) from ProductStock s where s.locationId = :locationId")
+    long sumQtyByLocationId(@Param("locationId") String locationId);
+
+    /**
+     * Elimina las existencias de un producto en todas sus ubicaciones.
+     *
+     * @param productId identificador del producto
+     */
+    @Modifying
+    @Query("delete from ProductStock s where s.productId = :productId")
+    void deleteByProductId(@Param("productId") Long productId);
+}
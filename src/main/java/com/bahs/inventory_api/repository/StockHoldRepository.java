@@ -0,0 +1,77 @@
+package com.bahs.inventory_api.repository;
+
+import com.bahs.inventory_api.entity.HoldStatus;
+import com.bahs.inventory_api.entity.StockHold;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio Spring Data para las reservas de stock ({@link StockHold}).
+ */
+@Repository
+public interface StockHoldRepository extends JpaRepository<StockHold, Long> {
+
+    /**
+     * Carga la reserva bloqueando su fila para cambiar su estado.
+     *
+     * @param id identificador de la reserva
+     * @return reserva bloqueada, si existe
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from StockHold h where h.id = :id")
+    Optional<StockHold> findForUpdate(@Param("id") Long id);
+
+    /**
+     * Carga bloqueadas las reservas activas de un producto, para cancelarlas
+     * al eliminarlo.
+     *
+     * @param productId identificador del producto
+     * @return reservas activas bloqueadas
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from StockHold h where h.productId = :productId "
+        + "and h.status = com.bahs.inventory_api.entity.HoldStatus.ACTIVE")
+    List<StockHold> findActiveForUpdate(@Param("productId") Long productId);
+
+    /**
+     * Suma las unidades retenidas por las reservas activas de un producto en
+     * una ubicación.
+     *
+     * @param productId identificador del producto
+     * @param locationId código de la ubicación
+     * @return unidades reservadas en la ubicación
+     */
+    @Query("select coalesce(sum(h.quantity), 0) from StockHold h where h.productId = :productId "
+        + "and h.locationId = :locationId and h.status = com.bahs.inventory_api.entity.HoldStatus.ACTIVE")
+    int sumActiveQuantity(@Param("productId") Long productId, @Param("locationId") String locationId);
+
+    /**
+     * Recorre las reservas en un estado dado para reprogramar sus vencimientos
+     * al arrancar, sin materializarlas todas en una lista.
+     *
+     * @param status estado buscado
+     * @return flujo de pares id/vencimiento; debe cerrarse tras su uso
+     */
+    @Query("select h.id as id, h.expiresAt as expiresAt from StockHold h where h.status = :status")
+    Stream<HoldExpiry> streamByStatus(@Param("status") HoldStatus status);
+
+    /**
+     * Proyección mínima con el id y el vencimiento de una reserva.
+     */
+    interface HoldExpiry {
+
+        /** @return identificador de la reserva */
+        Long getId();
+
+        /** @return momento de vencimiento */
+        LocalDateTime getExpiresAt();
+    }
+}
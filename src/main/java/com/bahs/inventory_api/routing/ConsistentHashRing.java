@@ -0,0 +1,80 @@
+package com.bahs.inventory_api.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Anillo de hash consistente con nodos virtuales. Cada nodo ocupa
+ * {@code virtualNodes} posiciones pseudoaleatorias del anillo de 64 bits y una
+ * clave pertenece al primer nodo en sentido horario desde su hash. Al añadir
+ * un nodo solo cambian de dueño, en promedio, {@code 1/n} de las claves.
+ *
+ * @param <N> tipo de nodo; su {@code toString()} determina sus posiciones
+ */
+public class ConsistentHashRing<N> {
+
+    private final NavigableMap<Long, N> ring = new TreeMap<>();
+    private final List<N> nodes;
+
+    /**
+     * Construye el anillo.
+     *
+     * @param nodes nodos del anillo, al menos uno
+     * @param virtualNodes posiciones por nodo
+     * @throws IllegalArgumentException si no hay nodos o las posiciones no son positivas
+     */
+    public ConsistentHashRing(Collection<N> nodes, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("El anillo necesita al menos un nodo y un nodo virtual por nodo");
+        }
+        this.nodes = List.copyOf(nodes);
+        for (N node : this.nodes) {
+            long seed = hash(node.toString().getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(mix(seed + i * 0x9E3779B97F4A7C15L), node);
+            }
+        }
+    }
+
+    /**
+     * @param key clave a ubicar
+     * @return nodo dueño de la clave
+     */
+    public N nodeFor(long key) {
+        Map.Entry<Long, N> owner = ring.ceilingEntry(mix(key));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * @return nodos del anillo en el orden de construcción
+     */
+    public List<N> nodes() {
+        return nodes;
+    }
+
+    private static long hash(byte[] bytes) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Mezcla final de MurmurHash3 (fmix64): reparte ids consecutivos por todo
+     * el anillo.
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE1A85A53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,87 @@
+package com.bahs.inventory_api.routing;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Sustituto de replicación para desarrollo local con H2, que no replica por sí
+ * mismo: cada intervalo vuelca el primario con {@code SCRIPT DROP} y lo
+ * reproduce en cada réplica. Introduce un retraso de replicación real (el
+ * intervalo), útil para probar read-your-writes, pero no debe usarse fuera de
+ * pruebas; en producción las réplicas las mantiene la base de datos.
+ *
+ * <p>La primera copia se hace al terminar de crear los beans, con el esquema
+ * ya generado en el primario y antes de los {@code ApplicationRunner} que leen
+ * en transacciones de solo lectura; las siguientes, cada intervalo.</p>
+ */
+@Slf4j
+public class H2ReplicationStandIn implements SmartInitializingSingleton {
+
+    private final DataSource primary;
+    private final List<DriverManagerDataSource> replicas;
+
+    /**
+     * Crea el sustituto.
+     *
+     * @param primary datasource primario
+     * @param replicas conexiones de escritura directas a cada réplica
+     */
+    public H2ReplicationStandIn(DataSource primary, List<DriverManagerDataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        replicate();
+    }
+
+    /**
+     * Copia el contenido del primario a todas las réplicas.
+     */
+    @Scheduled(initialDelayString = "${inventory.datasource.replication-interval-ms:1000}",
+        fixedDelayString = "${inventory.datasource.replication-interval-ms:1000}")
+    public void replicate() {
+        List<String> script;
+        try {
+            script = dump();
+        } catch (SQLException ex) {
+            log.warn("No se pudo volcar el primario: {}", ex.getMessage());
+            return;
+        }
+        for (DriverManagerDataSource replica : replicas) {
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement()) {
+                for (String sql : script) {
+                    statement.execute(sql);
+                }
+            } catch (SQLException ex) {
+                log.warn("No se pudo replicar en {}: {}", replica.getUrl(), ex.getMessage());
+            }
+        }
+    }
+
+    private List<String> dump() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT DROP")) {
+            while (rs.next()) {
+                String sql = rs.getString(1);
+                if (!sql.startsWith("CREATE USER")) {
+                    script.add(sql);
+                }
+            }
+        }
+        return script;
+    }
+}
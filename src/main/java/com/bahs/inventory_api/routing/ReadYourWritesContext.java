@@ -0,0 +1,55 @@
+package com.bahs.inventory_api.routing;
+
+/**
+ * Contexto por hilo que indica si las lecturas de la petición actual deben ir
+ * al primario para ver las escrituras recientes del mismo cliente.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Marca el hilo actual para leer del primario.
+     */
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    /**
+     * @return {@code true} si el hilo actual debe leer del primario
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    /**
+     * Limpia la marca del hilo actual.
+     */
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * Propaga la marca del hilo que crea la tarea al hilo que la ejecuta; se
+     * usa como {@code TaskDecorator} de los pools de lectura.
+     *
+     * @param task tarea original
+     * @return tarea que restaura la marca durante su ejecución
+     */
+    public static Runnable wrap(Runnable task) {
+        if (!isPrimaryRequired()) {
+            return task;
+        }
+        return () -> {
+            requirePrimary();
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+}
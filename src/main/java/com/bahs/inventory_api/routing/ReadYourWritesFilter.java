@@ -0,0 +1,62 @@
+package com.bahs.inventory_api.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filtro que ofrece read-your-writes opcional a los clientes que envían la
+ * cabecera {@code X-Client-Id}: tras una escritura del cliente, sus lecturas
+ * dentro de la ventana configurada se sirven desde el primario en vez de una
+ * réplica.
+ *
+ * <p>La escritura se registra antes de pasar la petición a la cadena, porque
+ * la respuesta puede quedar confirmada y llegar al cliente dentro de ella; si
+ * se registrase después, una lectura inmediata del cliente podría ir aún a una
+ * réplica. Al terminar con éxito se registra de nuevo para que la ventana
+ * cuente desde el commit. Una escritura rechazada también lleva al cliente al
+ * primario durante la ventana, lo que solo cuesta carga.</p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /** Cabecera con la que el cliente se identifica. */
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final ReadYourWritesTracker tracker;
+
+    /**
+     * Crea el filtro sobre el registro de escrituras.
+     *
+     * @param tracker registro de escrituras recientes por cliente
+     */
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (clientId == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        if (!read) {
+            tracker.recordWrite(clientId);
+        } else if (tracker.wroteRecently(clientId)) {
+            ReadYourWritesContext.requirePrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+        if (!read && response.getStatus() < 400) {
+            tracker.recordWrite(clientId);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.bahs.inventory_api.routing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recuerda cuándo escribió por última vez cada cliente para que sus lecturas
+ * dentro de la ventana configurada se dirijan al primario.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    /**
+     * Crea el registro con la ventana indicada.
+     *
+     * @param window tiempo durante el cual se garantiza read-your-writes
+     */
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Registra una escritura confirmada del cliente.
+     *
+     * @param clientId identificador del cliente
+     */
+    public void recordWrite(String clientId) {
+        long now = System.nanoTime();
+        lastWriteNanos.put(clientId, now);
+        if (lastWriteNanos.size() > PRUNE_THRESHOLD) {
+            lastWriteNanos.values().removeIf(written -> now - written > windowNanos);
+        }
+    }
+
+    /**
+     * @param clientId identificador del cliente
+     * @return {@code true} si el cliente escribió dentro de la ventana
+     */
+    public boolean wroteRecently(String clientId) {
+        Long written = lastWriteNanos.get(clientId);
+        return written != null && System.nanoTime() - written <= windowNanos;
+    }
+}
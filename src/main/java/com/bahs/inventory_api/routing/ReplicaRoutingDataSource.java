@@ -0,0 +1,155 @@
+package com.bahs.inventory_api.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * {@link DataSource} de solo lectura que reparte las conexiones entre réplicas
+ * sanas en round-robin. Se registra como {@code readOnlyDataSource} de un
+ * {@code LazyConnectionDataSourceProxy}, de modo que solo lo usan las
+ * transacciones {@code readOnly = true}. Si ninguna réplica está sana, o si la
+ * petición exige read-your-writes ({@link ReadYourWritesContext}), entrega una
+ * conexión del primario.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final Duration healthCheckInterval;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    /**
+     * Crea el enrutador.
+     *
+     * @param primary datasource de escritura, usado como respaldo
+     * @param replicas réplicas de lectura
+     * @param healthCheckInterval intervalo entre comprobaciones de salud
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas, Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return select().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return select().getConnection(username, password);
+    }
+
+    /**
+     * Elige la siguiente réplica sana o el primario.
+     *
+     * @return datasource que atenderá la conexión
+     */
+    DataSource select() {
+        if (ReadYourWritesContext.isPrimaryRequired() || replicas.isEmpty()) {
+            return primary;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica.dataSource();
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * Comprueba cada réplica con {@link Connection#isValid(int)} y actualiza
+     * su estado.
+     */
+    public void checkHealth() {
+        for (ReplicaNode replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                healthy = connection.isValid(1);
+            } catch (SQLException ex) {
+                healthy = false;
+            }
+            if (healthy != replica.isHealthy()) {
+                log.warn("Réplica {} {}", replica.name(), healthy ? "recuperada" : "marcada como no disponible");
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("replica-health").daemon().factory());
+        long millis = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (ReplicaNode replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * Réplica de lectura con su estado de salud.
+     */
+    public static final class ReplicaNode {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        /**
+         * Crea el nodo de réplica.
+         *
+         * @param name nombre lógico
+         * @param dataSource datasource de la réplica
+         */
+        public ReplicaNode(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        /** @return nombre lógico */
+        public String name() {
+            return name;
+        }
+
+        /** @return datasource de la réplica */
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        /** @return {@code true} si la última comprobación fue correcta */
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        void setHealthy(boolean healthy) {
+            this.healthy = healthy;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bahs.inventory_api.routing;
+
+/**
+ * Contexto por hilo con el shard al que deben ir las conexiones que se abran.
+ * Lo consulta {@link ShardRoutingDataSource} cuando el
+ * {@code LazyConnectionDataSourceProxy} pide la conexión física, es decir, en
+ * la primera sentencia de la transacción.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return shard del hilo actual, o {@code null} para el shard por defecto
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Fija el shard del hilo actual.
+     *
+     * @param shard nombre del shard, o {@code null} para el shard por defecto
+     */
+    public static void set(String shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
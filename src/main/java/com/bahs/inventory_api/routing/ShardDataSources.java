@@ -0,0 +1,52 @@
+package com.bahs.inventory_api.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Pools de conexión de cada shard, en el orden de configuración. Los usan el
+ * enrutador de datasource y las tareas que necesitan hablar con un shard
+ * concreto sin pasar por el contexto (esquema, rebalanceo, generador de ids).
+ */
+public class ShardDataSources implements DisposableBean {
+
+    private final Map<String, HikariDataSource> pools;
+
+    /**
+     * Crea el conjunto de pools.
+     *
+     * @param pools pools por nombre de shard, en orden de configuración
+     */
+    public ShardDataSources(Map<String, HikariDataSource> pools) {
+        this.pools = Collections.unmodifiableMap(new LinkedHashMap<>(pools));
+    }
+
+    /**
+     * @return pools por nombre de shard, en orden de configuración
+     */
+    public Map<String, ? extends DataSource> asMap() {
+        return pools;
+    }
+
+    /**
+     * @param shard nombre del shard
+     * @return pool del shard
+     * @throws IllegalArgumentException si el shard no existe
+     */
+    public DataSource get(String shard) {
+        HikariDataSource pool = pools.get(shard);
+        if (pool == null) {
+            throw new IllegalArgumentException("Shard desconocido: " + shard);
+        }
+        return pool;
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,31 @@
+package com.bahs.inventory_api.routing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca el parámetro de un método de servicio que decide el shard de la
+ * llamada. {@link ShardRoutingAspect} fija el shard antes de abrir la
+ * transacción del método.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+
+    /**
+     * @return qué identifica el parámetro
+     */
+    Kind value() default Kind.PRODUCT;
+
+    /**
+     * Tipo de identificador del parámetro.
+     */
+    enum Kind {
+        /** Id de producto: el shard sale del anillo de hash. */
+        PRODUCT,
+        /** Id de reserva: el shard se busca entre los existentes. */
+        HOLD
+    }
+}
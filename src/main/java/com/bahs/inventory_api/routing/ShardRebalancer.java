@@ -0,0 +1,139 @@
+package com.bahs.inventory_api.routing;
+
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Recoloca los productos que no están en el shard que les asigna el anillo,
+ * lo que ocurre tras añadir un shard: con hash consistente solo cambia de
+ * dueño, en promedio, {@code 1/n} del catálogo. Se ejecuta al arrancar, tras la
+ * restauración de la instantánea y antes de cargar el índice de facetas y de
+ * que el probe de readiness acepte tráfico.
+ *
+ * <p>Cada lote copia al shard dueño el producto junto con sus existencias,
+ * reservas, historial y fila archivada, usando {@code MERGE ... KEY}, y
+ * después lo borra del origen. Si el proceso se interrumpe entre ambos pasos,
+ * la siguiente ejecución repite la copia sin duplicar filas.</p>
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ShardRebalancer implements ApplicationRunner {
+
+    /** Tablas que viajan con el producto: nombre, columna de producto y clave primaria. */
+    private static final List<ShardedTable> TABLES = List.of(
+        new ShardedTable("products", "id", "id"),
+        new ShardedTable("product_stock", "product_id", "product_id, location_id"),
+        new ShardedTable("stock_holds", "product_id", "id"),
+        new ShardedTable("product_history", "product_id", "id"),
+        new ShardedTable("products_archive", "id", "id"));
+
+    private final ShardDataSources dataSources;
+    private final ShardRouter router;
+    private final int batchSize;
+
+    /**
+     * Crea el rebalanceador.
+     *
+     * @param dataSources pools de cada shard
+     * @param router enrutador de shards
+     * @param batchSize productos movidos por lote
+     */
+    public ShardRebalancer(ShardDataSources dataSources, ShardRouter router, int batchSize) {
+        this.dataSources = dataSources;
+        this.router = router;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebalance();
+    }
+
+    /**
+     * Mueve cada producto mal ubicado a su shard dueño.
+     *
+     * @return número de productos movidos
+     */
+    public long rebalance() {
+        long start = System.nanoTime();
+        long moved = 0;
+        for (String shard : router.shards()) {
+            JdbcTemplate source = new JdbcTemplate(dataSources.get(shard));
+            long lastId = 0;
+            while (true) {
+                List<Long> ids = source.queryForList(
+                    "select id from (select id from products union select id from products_archive) "
+                        + "where id > ? order by id limit ?", Long.class, lastId, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.getLast();
+                Map<String, List<Long>> misplaced = new LinkedHashMap<>();
+                for (Long id : ids) {
+                    String owner = router.shardFor(id);
+                    if (!owner.equals(shard)) {
+                        misplaced.computeIfAbsent(owner, key -> new ArrayList<>()).add(id);
+                    }
+                }
+                for (Map.Entry<String, List<Long>> entry : misplaced.entrySet()) {
+                    move(source, new JdbcTemplate(dataSources.get(entry.getKey())), entry.getValue());
+                    moved += entry.getValue().size();
+                }
+            }
+        }
+        log.info("Rebalanceo de shards: {} productos movidos en {} ms", moved, (System.nanoTime() - start) / 1_000_000);
+        return moved;
+    }
+
+    private static void move(JdbcTemplate source, JdbcTemplate target, List<Long> ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        for (ShardedTable table : TABLES) {
+            copy(source, target, table, placeholders, args);
+        }
+        for (ShardedTable table : TABLES.reversed()) {
+            source.update("delete from " + table.name() + " where " + table.productColumn() + " in (" + placeholders
+                + ")", args);
+        }
+    }
+
+    /**
+     * Copia las filas con {@code MERGE INTO ... KEY}, construyendo la lista de
+     * columnas a partir de los metadatos de la consulta de origen.
+     */
+    private static void copy(JdbcTemplate source, JdbcTemplate target, ShardedTable table, String placeholders,
+                             Object[] args) {
+        List<String> columns = new ArrayList<>();
+        List<Object[]> rows = source.query("select * from " + table.name() + " where " + table.productColumn()
+            + " in (" + placeholders + ")", (rs, rowNum) -> {
+                ResultSetMetaData meta = rs.getMetaData();
+                Object[] row = new Object[meta.getColumnCount()];
+                for (int i = 0; i < row.length; i++) {
+                    if (rowNum == 0) {
+                        columns.add(meta.getColumnName(i + 1));
+                    }
+                    row[i] = rs.getObject(i + 1);
+                }
+                return row;
+            }, args);
+        if (rows.isEmpty()) {
+            return;
+        }
+        String sql = "merge into " + table.name() + " (" + String.join(", ", columns) + ") key (" + table.key()
+            + ") values (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        target.batchUpdate(sql, rows);
+    }
+
+    private record ShardedTable(String name, String productColumn, String key) {
+    }
+}
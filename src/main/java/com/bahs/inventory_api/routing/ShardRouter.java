@@ -0,0 +1,274 @@
+package com.bahs.inventory_api.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Decide qué shard guarda cada producto y ejecuta operaciones en uno o en
+ * todos. El dueño de un producto es el nodo del {@link ConsistentHashRing}
+ * para su id; las lecturas y escrituras puntuales fijan ese shard en
+ * {@link ShardContext} antes de la primera sentencia, y los listados y
+ * agregados se reparten entre todos los shards (scatter-gather) en
+ * transacciones de solo lectura paralelas, una por shard.
+ *
+ * <p>Sin particionado hay un único shard lógico: las operaciones se ejecutan
+ * en el hilo llamante y se unen a la transacción en curso, igual que antes de
+ * existir el enrutador.</p>
+ */
+public class ShardRouter implements DisposableBean {
+
+    /** Nombre del shard lógico único cuando el particionado está desactivado. */
+    public static final String DEFAULT_SHARD = "default";
+
+    /**
+     * Bits bajos del rango de ids de reservas e historial de cada shard: el
+     * shard en la posición {@code i} genera ids desde {@code i << 40}.
+     */
+    public static final int ID_RANGE_SHIFT = 40;
+
+    private static final String NEXT_ID_SQL = "select next value for product_ids";
+
+    private final ConsistentHashRing<String> ring;
+    private final ShardDataSources dataSources;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService scatterExecutor;
+
+    /**
+     * Crea el enrutador de un catálogo sin particionar.
+     *
+     * @param transactionManager gestor de transacciones de la aplicación
+     * @return enrutador con un único shard
+     */
+    public static ShardRouter single(PlatformTransactionManager transactionManager) {
+        return new ShardRouter(List.of(DEFAULT_SHARD), 1, null, transactionManager);
+    }
+
+    /**
+     * Crea el enrutador.
+     *
+     * @param shards nombres de los shards, en orden de configuración
+     * @param virtualNodes nodos virtuales por shard
+     * @param dataSources pools de cada shard, {@code null} sin particionado
+     * @param transactionManager gestor de transacciones de la aplicación
+     */
+    public ShardRouter(List<String> shards, int virtualNodes, ShardDataSources dataSources,
+                       PlatformTransactionManager transactionManager) {
+        this.ring = new ConsistentHashRing<>(shards, virtualNodes);
+        this.dataSources = dataSources;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        if (dataSources != null) {
+            // Cada shard necesita su propia conexión aunque el llamante ya esté en una transacción.
+            this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+        this.scatterExecutor = dataSources != null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    /**
+     * @return {@code true} si el catálogo está repartido entre varias bases
+     */
+    public boolean isSharded() {
+        return dataSources != null;
+    }
+
+    /**
+     * @return nombres de los shards, en orden de configuración
+     */
+    public List<String> shards() {
+        return ring.nodes();
+    }
+
+    /**
+     * @param productId identificador del producto
+     * @return shard dueño del producto
+     */
+    public String shardFor(long productId) {
+        return ring.nodeFor(productId);
+    }
+
+    /**
+     * Ejecuta la acción con el shard fijado en el contexto y restaura el
+     * anterior al terminar.
+     *
+     * @param shard shard destino
+     * @param action acción a ejecutar
+     * @param <T> tipo del resultado
+     * @return resultado de la acción
+     */
+    public <T> T callOnShard(String shard, Supplier<T> action) {
+        String previous = ShardContext.current();
+        ShardContext.set(isSharded() ? shard : null);
+        try {
+            return action.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    /**
+     * Variante sin resultado de {@link #callOnShard(String, Supplier)}.
+     *
+     * @param shard shard destino
+     * @param action acción a ejecutar
+     */
+    public void runOnShard(String shard, Runnable action) {
+        callOnShard(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Ejecuta la acción en cada shard de forma secuencial, sin abrir
+     * transacción; la usan las cargas y tareas de fondo con JDBC.
+     *
+     * @param action acción que recibe el nombre del shard
+     */
+    public void forEachShard(Consumer<String> action) {
+        for (String shard : shards()) {
+            runOnShard(shard, () -> action.accept(shard));
+        }
+    }
+
+    /**
+     * Recorre los shards uno tras otro en el hilo llamante, cada uno en su
+     * propia transacción de solo lectura; para lecturas con streams que no
+     * conviene acumular en memoria.
+     *
+     * @param action lectura que recibe el nombre del shard
+     */
+    public void readEachShard(Consumer<String> action) {
+        for (String shard : shards()) {
+            runOnShard(shard, () -> readOnlyTransaction.executeWithoutResult(status -> action.accept(shard)));
+        }
+    }
+
+    /**
+     * Ejecuta la consulta en todos los shards, cada uno en su propia
+     * transacción de solo lectura, y concatena los resultados en el orden de
+     * los shards. El llamante ordena o agrega el resultado combinado.
+     *
+     * @param query consulta que recibe el nombre del shard
+     * @param <T> tipo de fila
+     * @return filas de todos los shards
+     */
+    public <T> List<T> scatter(Function<String, List<T>> query) {
+        if (!isSharded()) {
+            return readOnlyTransaction.execute(status -> query.apply(DEFAULT_SHARD));
+        }
+        List<Future<List<T>>> partials = new ArrayList<>();
+        for (String shard : shards()) {
+            partials.add(scatterExecutor.submit(() ->
+                callOnShard(shard, () -> readOnlyTransaction.execute(status -> query.apply(shard)))));
+        }
+        List<T> merged = new ArrayList<>();
+        for (Future<List<T>> partial : partials) {
+            merged.addAll(await(partial));
+        }
+        return merged;
+    }
+
+    /**
+     * Busca en qué shard está la reserva. Los ids de reserva son únicos entre
+     * shards porque cada uno los genera en su propio rango, así que se prueba
+     * primero el shard de ese rango; solo una reserva movida por el
+     * rebalanceo obliga a buscar en los demás.
+     *
+     * @param holdId identificador de la reserva
+     * @return shard que la guarda, o el del rango si no existe en ninguno
+     */
+    public String shardForHold(long holdId) {
+        if (!isSharded()) {
+            return DEFAULT_SHARD;
+        }
+        List<String> candidates = new ArrayList<>(shards());
+        int origin = (int) Math.min(holdId >>> ID_RANGE_SHIFT, candidates.size() - 1L);
+        candidates.addFirst(candidates.remove(origin));
+        for (String shard : candidates) {
+            Integer found = new JdbcTemplate(dataSources.get(shard))
+                .queryForObject("select count(*) from stock_holds where id = ?", Integer.class, holdId);
+            if (found != null && found > 0) {
+                return shard;
+            }
+        }
+        return candidates.getFirst();
+    }
+
+    /**
+     * Reserva el siguiente id de producto del generador global, que vive en el
+     * primer shard.
+     *
+     * @return id nuevo, único entre todos los shards
+     * @throws IllegalStateException si el catálogo no está particionado
+     */
+    public long nextProductId() {
+        if (!isSharded()) {
+            throw new IllegalStateException("Los ids solo se reservan con el catálogo particionado");
+        }
+        Long id = new JdbcTemplate(dataSources.get(shards().getFirst())).queryForObject(NEXT_ID_SQL, Long.class);
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * Avanza el generador global para que no reparta ids ya usados.
+     *
+     * @param maxId mayor id existente
+     */
+    public void reserveProductIdsAbove(long maxId) {
+        if (!isSharded()) {
+            return;
+        }
+        JdbcTemplate directory = new JdbcTemplate(dataSources.get(shards().getFirst()));
+        Long current = directory.queryForObject(
+            "select base_value from information_schema.sequences where sequence_name = 'PRODUCT_IDS'", Long.class);
+        if (current == null || current <= maxId) {
+            directory.execute("alter sequence product_ids restart with " + (maxId + 1));
+        }
+    }
+
+    /**
+     * @param shard nombre del shard
+     * @return pool del shard, para tareas que no pasan por el contexto
+     * @throws IllegalStateException si el catálogo no está particionado
+     */
+    public DataSource dataSource(String shard) {
+        if (!isSharded()) {
+            throw new IllegalStateException("Sin particionado no hay pools por shard");
+        }
+        return dataSources.get(shard);
+    }
+
+    @Override
+    public void destroy() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Consulta entre shards interrumpida", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Fallo en una consulta entre shards", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.bahs.inventory_api.routing;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Fija en {@link ShardContext} el shard de las llamadas a servicios con un
+ * parámetro {@link ShardKey}. Tiene la máxima precedencia para envolver a la
+ * transacción: la conexión se pide ya con el shard decidido. Las llamadas sin
+ * clave, o con clave nula, conservan el shard que hubiera.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardRoutingAspect {
+
+    private static final ShardParameter NONE = new ShardParameter(-1, ShardKey.Kind.PRODUCT);
+
+    private final ObjectProvider<ShardRouter> routerProvider;
+    private final Map<Method, ShardParameter> parameters = new ConcurrentHashMap<>();
+    private volatile ShardRouter router;
+
+    /**
+     * Crea el aspecto. El enrutador se resuelve en la primera llamada: los
+     * aspectos se instancian antes que el gestor de transacciones del que
+     * depende.
+     *
+     * @param routerProvider proveedor del enrutador de shards
+     */
+    public ShardRoutingAspect(ObjectProvider<ShardRouter> routerProvider) {
+        this.routerProvider = routerProvider;
+    }
+
+    /**
+     * Enruta los métodos públicos de los beans {@code @Service}.
+     *
+     * @param joinPoint invocación interceptada
+     * @return resultado del método
+     * @throws Throwable la excepción original del método
+     */
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * com.bahs.inventory_api.service..*.*(..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        ShardParameter parameter = parameters.computeIfAbsent(method, ShardRoutingAspect::shardParameter);
+        if (parameter == NONE || !(joinPoint.getArgs()[parameter.index()] instanceof Long id)) {
+            return joinPoint.proceed();
+        }
+        ShardRouter shards = router();
+        String shard = parameter.kind() == ShardKey.Kind.HOLD ? shards.shardForHold(id) : shards.shardFor(id);
+        String previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    private ShardRouter router() {
+        ShardRouter resolved = router;
+        if (resolved == null) {
+            resolved = routerProvider.getObject();
+            router = resolved;
+        }
+        return resolved;
+    }
+
+    private static ShardParameter shardParameter(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardKey key) {
+                    return new ShardParameter(i, key.value());
+                }
+            }
+        }
+        return NONE;
+    }
+
+    private record ShardParameter(int index, ShardKey.Kind kind) {
+    }
+}
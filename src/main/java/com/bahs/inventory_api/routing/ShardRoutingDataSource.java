@@ -0,0 +1,32 @@
+package com.bahs.inventory_api.routing;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * {@link DataSource} que entrega conexiones del shard fijado en
+ * {@link ShardContext}, o del primer shard si no hay ninguno. Se envuelve en
+ * un {@code LazyConnectionDataSourceProxy} para que el shard se elija en la
+ * primera sentencia y no al abrir la transacción.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Crea el enrutador.
+     *
+     * @param shards pools por nombre de shard
+     * @param defaultShard pool usado sin shard en el contexto
+     */
+    public ShardRoutingDataSource(Map<String, ? extends DataSource> shards, DataSource defaultShard) {
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(defaultShard);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,104 @@
+package com.bahs.inventory_api.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * Prepara los shards al arrancar, después de que Hibernate cree o actualice el
+ * esquema en el primer shard (el destino por defecto del datasource):
+ * <ul>
+ *   <li>copia el esquema a los shards que aún no tienen la tabla
+ *   {@code products}, con {@code SCRIPT NODATA} de H2;</li>
+ *   <li>desplaza las columnas identidad de {@code stock_holds} y
+ *   {@code product_history} a un rango propio de cada shard
+ *   ({@code posición << 40}), para que sus ids sean únicos en todo el
+ *   catálogo sin coordinación;</li>
+ *   <li>crea en el primer shard la secuencia global {@code product_ids} por
+ *   encima del mayor id existente en cualquier shard.</li>
+ * </ul>
+ *
+ * <p>Las columnas que Hibernate añada más adelante solo llegan al primer
+ * shard; en una base persistente los demás se migran con el mismo script.</p>
+ */
+@Slf4j
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final List<String> ID_RANGE_TABLES = List.of("stock_holds", "product_history");
+
+    private final ShardDataSources dataSources;
+    private final ShardRouter router;
+
+    /**
+     * Crea el inicializador.
+     *
+     * @param dataSources pools de cada shard
+     * @param router enrutador de shards
+     */
+    public ShardSchemaInitializer(ShardDataSources dataSources, ShardRouter router) {
+        this.dataSources = dataSources;
+        this.router = router;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> shards = router.shards();
+        JdbcTemplate first = jdbc(shards.getFirst());
+        List<String> schema = null;
+        long maxProductId = 0;
+        for (int index = 0; index < shards.size(); index++) {
+            String shard = shards.get(index);
+            JdbcTemplate jdbc = jdbc(shard);
+            if (index > 0 && !hasCatalog(jdbc)) {
+                if (schema == null) {
+                    schema = schemaScript(first);
+                }
+                schema.forEach(jdbc::execute);
+                log.info("Esquema copiado al shard {}", shard);
+            }
+            long floor = (long) index << ShardRouter.ID_RANGE_SHIFT;
+            long ceiling = (long) (index + 1) << ShardRouter.ID_RANGE_SHIFT;
+            for (String table : ID_RANGE_TABLES) {
+                // Las filas recibidas de otros shards en un rebalanceo conservan su id, fuera de este rango.
+                Long max = jdbc.queryForObject("select coalesce(max(id), ?) from " + table + " where id > ? and id < ?",
+                    Long.class, floor, floor, ceiling);
+                jdbc.execute("alter table " + table + " alter column id restart with " + (max + 1));
+            }
+            maxProductId = Math.max(maxProductId, Math.max(maxId(jdbc, "products", "id"),
+                maxId(jdbc, "products_archive", "id")));
+        }
+        first.execute("create sequence if not exists product_ids start with " + (maxProductId + 1));
+        router.reserveProductIdsAbove(maxProductId);
+        log.info("Catálogo particionado en {} shards; siguiente id de producto por encima de {}",
+            shards.size(), maxProductId);
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(dataSources.get(shard));
+    }
+
+    private static boolean hasCatalog(JdbcTemplate jdbc) {
+        Integer tables = jdbc.queryForObject(
+            "select count(*) from information_schema.tables where table_name = 'PRODUCTS'", Integer.class);
+        return tables != null && tables > 0;
+    }
+
+    private static List<String> schemaScript(JdbcTemplate first) {
+        List<String> script = new ArrayList<>();
+        first.query("SCRIPT NODATA", (RowCallbackHandler) rs -> {
+            String sql = rs.getString(1);
+            if (!sql.startsWith("--") && !sql.startsWith("CREATE USER") && !sql.contains("PRODUCT_IDS")) {
+                script.add(sql);
+            }
+        });
+        return script;
+    }
+
+    private static long maxId(JdbcTemplate jdbc, String table, String column) {
+        Long max = jdbc.queryForObject("select coalesce(max(" + column + "), 0) from " + table, Long.class);
+        return max != null ? max : 0L;
+    }
+}
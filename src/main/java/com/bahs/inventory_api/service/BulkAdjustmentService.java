@@ -0,0 +1,428 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest;
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest.Adjustment;
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest.Field;
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest.Filter;
+import com.bahs.inventory_api.dto.BulkJobResponse;
+import com.bahs.inventory_api.dto.BulkJobResponse.Status;
+import com.bahs.inventory_api.entity.TagListConverter;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.event.ProductChangedEvent.ChangeType;
+import com.bahs.inventory_api.exception.BulkJobNotFoundException;
+import com.bahs.inventory_api.exception.InvalidBulkAdjustmentException;
+import com.bahs.inventory_api.routing.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Trabajos de ajuste masivo de precio o stock. En lugar de leer el catálogo y
+ * guardar cada producto con {@link ProductService#update}, cada trabajo
+ * recorre los productos que cumplen el filtro por rangos de id y aplica a cada
+ * lote una única sentencia {@code UPDATE} en su propia transacción, de
+ * {@code inventory.bulk.chunk-size} filas como máximo.
+ *
+ * <p>Consistencia con las escrituras individuales: el {@code UPDATE} repite el
+ * filtro y toma el bloqueo de cada fila, el mismo que
+ * {@code findForUpdate} en {@link ProductService}, {@link StockService} y
+ * {@link HoldService}; una fila que otra transacción cambió entretanto se
+ * evalúa con su valor confirmado y, si ya no cumple, se omite. El ajuste de
+ * stock excluye los productos con stock por ubicación (su total lo mantiene
+ * {@link StockService}) y nunca deja el stock por debajo de lo reservado; el
+ * de precio nunca lo deja en cero o negativo. Las filas modificadas se leen en
+ * la misma sentencia ({@code FINAL TABLE} de H2) y publican su
+ * {@link ProductChangedEvent}, con lo que el historial, la caché de respuestas
+ * y el índice de facetas se actualizan tras el commit de cada lote.</p>
+ *
+ * <p>Los trabajos se ejecutan en un pool de {@code inventory.bulk.concurrency}
+ * hilos, shard a shard, y se pueden cancelar entre lotes: lo ya confirmado se
+ * conserva. El estado se guarda en memoria; se retienen los últimos
+ * {@code inventory.bulk.retained-jobs} trabajos terminados.</p>
+ */
+@Slf4j
+@Service
+public class BulkAdjustmentService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final BigDecimal MAX_UNITS = BigDecimal.valueOf(Integer.MAX_VALUE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int retainedJobs;
+    private final ExecutorService executor;
+    private final AtomicLong nextId = new AtomicLong();
+    private final NavigableMap<Long, Job> jobs = new ConcurrentSkipListMap<>();
+
+    /**
+     * Crea el servicio con su pool de ejecución.
+     *
+     * @param jdbcTemplate plantilla JDBC para las sentencias por lotes
+     * @param transactionTemplate plantilla para la transacción de cada lote
+     * @param shardRouter enrutador de shards del catálogo
+     * @param eventPublisher publicador de los cambios de producto
+     * @param chunkSize productos por lote
+     * @param concurrency trabajos ejecutados a la vez
+     * @param retainedJobs trabajos terminados que se conservan para consulta
+     */
+    public BulkAdjustmentService(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ShardRouter shardRouter,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${inventory.bulk.chunk-size:500}") int chunkSize,
+                                 @Value("${inventory.bulk.concurrency:2}") int concurrency,
+                                 @Value("${inventory.bulk.retained-jobs:100}") int retainedJobs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.retainedJobs = retainedJobs;
+        this.executor = Executors.newFixedThreadPool(concurrency,
+            Thread.ofPlatform().name("bulk-adjustment-", 1).daemon().factory());
+    }
+
+    /**
+     * Valida el ajuste y encola el trabajo.
+     *
+     * @param request filtro y ajuste
+     * @return estado inicial del trabajo
+     * @throws InvalidBulkAdjustmentException si el ajuste no es aplicable al campo
+     */
+    public BulkJobResponse submit(BulkAdjustmentRequest request) {
+        Filter filter = request.getFilter() != null ? request.getFilter() : new Filter();
+        SqlAdjustment sql = SqlAdjustment.of(filter, request.getAdjustment());
+        Job job = new Job(nextId.incrementAndGet(), request.getAdjustment(), sql);
+        jobs.put(job.id, job);
+        prune();
+        log.info("Encolado ajuste masivo {}: {} {} {}", job.id, job.adjustment.getField(),
+            job.adjustment.getOperation(), job.adjustment.getValue());
+        executor.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    /**
+     * Obtiene el estado de un trabajo.
+     *
+     * @param id identificador del trabajo
+     * @return estado y progreso
+     * @throws BulkJobNotFoundException si el trabajo no existe o ya se descartó
+     */
+    public BulkJobResponse findById(long id) {
+        return job(id).toResponse();
+    }
+
+    /**
+     * Lista los trabajos retenidos, del más reciente al más antiguo.
+     *
+     * @return estado de cada trabajo
+     */
+    public List<BulkJobResponse> findAll() {
+        return jobs.descendingMap().values().stream().map(Job::toResponse).toList();
+    }
+
+    /**
+     * Pide la cancelación de un trabajo. Uno pendiente no llega a empezar; uno
+     * en curso se detiene antes del siguiente lote. Sobre un trabajo terminado
+     * no tiene efecto.
+     *
+     * @param id identificador del trabajo
+     * @return estado tras la petición
+     * @throws BulkJobNotFoundException si el trabajo no existe o ya se descartó
+     */
+    public BulkJobResponse cancel(long id) {
+        Job job = job(id);
+        job.cancelRequested = true;
+        if (job.status.compareAndSet(Status.PENDING, Status.CANCELLED)) {
+            job.finishedAt = Instant.now();
+            log.info("Ajuste masivo {} cancelado antes de empezar", id);
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Pide la cancelación de los trabajos en curso y espera a que confirmen su
+     * lote actual antes de cerrar el contexto.
+     *
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        jobs.values().forEach(job -> job.cancelRequested = true);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void run(Job job) {
+        if (!job.status.compareAndSet(Status.PENDING, Status.RUNNING)) {
+            return;
+        }
+        job.startedAt = Instant.now();
+        try {
+            String countSql = "select count(*) from products where " + job.sql.where();
+            shardRouter.forEachShard(shard -> job.estimated.addAndGet(
+                jdbcTemplate.queryForObject(countSql, Long.class, job.sql.whereArgs().toArray())));
+            shardRouter.forEachShard(shard -> {
+                long lastId = 0;
+                while (!job.cancelRequested) {
+                    long from = lastId;
+                    Long last = transactionTemplate.execute(status -> applyChunk(job, from));
+                    if (last == null) {
+                        break;
+                    }
+                    lastId = last;
+                }
+            });
+            job.status.set(job.cancelRequested ? Status.CANCELLED : Status.COMPLETED);
+        } catch (RuntimeException ex) {
+            log.warn("Ajuste masivo {} fallido: {}", job.id, ex.getMessage());
+            job.error = ex.getMessage();
+            job.status.set(Status.FAILED);
+        } finally {
+            job.finishedAt = Instant.now();
+        }
+        log.info("Ajuste masivo {} {}: {} modificados, {} omitidos en {} ms", job.id, job.status.get(),
+            job.updated.get(), job.processed.get() - job.updated.get(),
+            Duration.between(job.startedAt, job.finishedAt).toMillis());
+    }
+
+    /**
+     * Aplica el ajuste al siguiente lote de ids dentro de la transacción en
+     * curso y publica un evento por producto modificado.
+     *
+     * @return último id leído, o {@code null} si no quedan productos
+     */
+    private Long applyChunk(Job job, long afterId) {
+        List<Object> selectArgs = new ArrayList<>(job.sql.whereArgs());
+        selectArgs.add(afterId);
+        selectArgs.add(chunkSize);
+        List<Long> ids = jdbcTemplate.queryForList("select id from products where " + job.sql.where()
+            + " and id > ? order by id limit ?", Long.class, selectArgs.toArray());
+        if (ids.isEmpty()) {
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object> updateArgs = new ArrayList<>();
+        updateArgs.add(job.sql.operand());
+        updateArgs.add(Timestamp.valueOf(now));
+        updateArgs.addAll(ids);
+        updateArgs.addAll(job.sql.whereArgs());
+        updateArgs.add(job.sql.operand());
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        List<ProductChangedEvent> changes = jdbcTemplate.query(
+            "select id, category, tags, price, stock, reorder_threshold from final table (update products set "
+                + job.sql.column() + " = " + job.sql.expression() + ", updated_at = ? where id in (" + placeholders
+                + ") and " + job.sql.where() + " and " + job.sql.guard() + ")",
+            (rs, rowNum) -> new ProductChangedEvent(job.sql.changeType(), rs.getLong("id"), rs.getString("category"),
+                TagListConverter.parse(rs.getString("tags")), rs.getBigDecimal("price"), rs.getInt("stock"),
+                rs.getObject("reorder_threshold", Integer.class), now),
+            updateArgs.toArray());
+        changes.forEach(eventPublisher::publishEvent);
+
+        job.processed.addAndGet(ids.size());
+        job.updated.addAndGet(changes.size());
+        job.chunks.incrementAndGet();
+        return ids.size() < chunkSize ? null : ids.getLast();
+    }
+
+    private Job job(long id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new BulkJobNotFoundException("Ajuste masivo con id " + id + " no encontrado");
+        }
+        return job;
+    }
+
+    /**
+     * Descarta los trabajos terminados más antiguos por encima del límite.
+     */
+    private void prune() {
+        int excess = jobs.size() - retainedJobs;
+        for (Job job : jobs.values()) {
+            if (excess <= 0) {
+                break;
+            }
+            if (job.finishedAt != null && jobs.remove(job.id, job)) {
+                excess--;
+            }
+        }
+    }
+
+    /**
+     * Traducción de un filtro y un ajuste a fragmentos SQL parametrizados.
+     *
+     * @param where condición de selección, sin {@code WHERE}
+     * @param whereArgs parámetros de {@code where}
+     * @param column columna ajustada
+     * @param expression nuevo valor de la columna con un único parámetro
+     * @param operand parámetro de {@code expression}
+     * @param guard condición que el nuevo valor debe cumplir, con el mismo parámetro
+     * @param changeType tipo de evento publicado por cada fila modificada
+     */
+    private record SqlAdjustment(String where, List<Object> whereArgs, String column, String expression,
+                                 Object operand, String guard, ChangeType changeType) {
+
+        static SqlAdjustment of(Filter filter, Adjustment adjustment) {
+            StringBuilder where = new StringBuilder("deleted_at is null");
+            List<Object> args = new ArrayList<>();
+            String category = ProductMapper.normalizeCategory(filter.getCategory());
+            if (category != null) {
+                where.append(" and category = ?");
+                args.add(category);
+            }
+            if (filter.getTag() != null && !filter.getTag().isBlank()) {
+                where.append(" and (',' || tags || ',') like ? escape '\\'");
+                args.add("%," + escapeLike(TagListConverter.normalize(List.of(filter.getTag())).getFirst()) + ",%");
+            }
+            condition(where, args, "price >= ?", filter.getMinPrice());
+            condition(where, args, "price < ?", filter.getMaxPrice());
+            condition(where, args, "stock >= ?", filter.getMinStock());
+            condition(where, args, "stock < ?", filter.getMaxStock());
+
+            BigDecimal value = adjustment.getValue();
+            if (adjustment.getField() == Field.PRICE) {
+                String expression = switch (adjustment.getOperation()) {
+                    case SET -> "?";
+                    case ADD -> "price + ?";
+                    case PERCENT -> "round(price * ?, 2)";
+                };
+                return new SqlAdjustment(where.toString(), List.copyOf(args), "price", expression,
+                    operand(adjustment, 2), "(" + expression + ") > 0", ChangeType.UPDATED);
+            }
+            where.append(" and not exists (select 1 from product_stock s where s.product_id = products.id)");
+            String expression = switch (adjustment.getOperation()) {
+                case SET -> "?";
+                case ADD -> "stock + ?";
+                case PERCENT -> "cast(round(stock * ?, 0) as int)";
+            };
+            if (adjustment.getOperation() != BulkAdjustmentRequest.Operation.PERCENT
+                    && value.stripTrailingZeros().scale() > 0) {
+                throw new InvalidBulkAdjustmentException("El ajuste de stock debe ser un número entero de unidades");
+            }
+            if (adjustment.getOperation() != BulkAdjustmentRequest.Operation.PERCENT
+                    && value.abs().compareTo(MAX_UNITS) > 0) {
+                throw new InvalidBulkAdjustmentException("El ajuste de stock no puede superar " + MAX_UNITS + " unidades");
+            }
+            return new SqlAdjustment(where.toString(), List.copyOf(args), "stock", expression,
+                operand(adjustment, 0), "(" + expression + ") >= reserved", ChangeType.STOCK_CHANGED);
+        }
+
+        /**
+         * Escapa los comodines de {@code LIKE} para que la etiqueta se compare
+         * literalmente.
+         */
+        private static String escapeLike(String value) {
+            return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        }
+
+        private static void condition(StringBuilder where, List<Object> args, String sql, Object value) {
+            if (value != null) {
+                where.append(" and ").append(sql);
+                args.add(value);
+            }
+        }
+
+        /**
+         * Convierte el valor del ajuste en el parámetro SQL: el factor
+         * multiplicador para los porcentajes y el valor con la escala de la
+         * columna para el resto.
+         */
+        private static Object operand(Adjustment adjustment, int scale) {
+            BigDecimal value = adjustment.getValue();
+            return switch (adjustment.getOperation()) {
+                case PERCENT -> {
+                    if (value.compareTo(HUNDRED.negate()) <= 0) {
+                        throw new InvalidBulkAdjustmentException("El porcentaje debe ser mayor que -100");
+                    }
+                    yield HUNDRED.add(value).divide(HUNDRED);
+                }
+                case SET, ADD -> scale == 0 ? value.intValueExact() : value.setScale(scale, RoundingMode.HALF_UP);
+            };
+        }
+    }
+
+    /**
+     * Estado mutable de un trabajo; los contadores los escribe solo el hilo que
+     * lo ejecuta.
+     */
+    private static final class Job {
+
+        private final long id;
+        private final Adjustment adjustment;
+        private final SqlAdjustment sql;
+        private final Instant createdAt = Instant.now();
+        private final AtomicReference<Status> status = new AtomicReference<>(Status.PENDING);
+        private final AtomicLong estimated = new AtomicLong();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong chunks = new AtomicLong();
+        private volatile boolean cancelRequested;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private Job(long id, Adjustment adjustment, SqlAdjustment sql) {
+            this.id = id;
+            this.adjustment = adjustment;
+            this.sql = sql;
+        }
+
+        /**
+         * Lee el estado antes que los contadores: si ya es final, los
+         * contadores leídos después son los definitivos.
+         */
+        private BulkJobResponse toResponse() {
+            Status current = status.get();
+            long estimatedRows = estimated.get();
+            long processedRows = processed.get();
+            long updatedRows = updated.get();
+            Instant start = startedAt;
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            double seconds = start != null ? Duration.between(start, end).toNanos() / 1e9 : 0;
+            double progress = current == Status.COMPLETED ? 100
+                : estimatedRows > 0 ? Math.min(100, processedRows * 100.0 / estimatedRows) : 0;
+            return BulkJobResponse.builder()
+                .id(id)
+                .status(current)
+                .field(adjustment.getField())
+                .operation(adjustment.getOperation())
+                .value(adjustment.getValue())
+                .estimatedRows(estimatedRows)
+                .processedRows(processedRows)
+                .updatedRows(updatedRows)
+                .skippedRows(processedRows - updatedRows)
+                .chunks(chunks.get())
+                .progress(progress)
+                .rowsPerSecond(seconds > 0 ? updatedRows / seconds : 0)
+                .createdAt(createdAt)
+                .startedAt(start)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+        }
+    }
+}
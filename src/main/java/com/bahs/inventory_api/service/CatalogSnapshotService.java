@@ -0,0 +1,606 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.routing.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Guarda y restaura una instantánea binaria compacta de las tablas
+ * {@code products} y {@code product_stock} para que la base H2 en memoria no
+ * arranque vacía en cada despliegue. La instantánea se escribe periódicamente
+ * y al cerrar el contexto mediante un {@link FileChannel} secuencial, y se
+ * restaura al arrancar (antes de que la aplicación acepte tráfico) leyendo el
+ * archivo por bloques, validando su CRC32 e insertando por lotes. Las
+ * escrituras se serializan para que la del cierre no pise a una periódica en
+ * curso.
+ *
+ * <p>Formato (big-endian): cabecera {@code magic:int, version:int, count:long};
+ * por fila {@code id:long, name:(short len + UTF-8), description:(int len o -1
+ * + UTF-8), category:(short len o -1 + UTF-8), tags:(short len o -1 + UTF-8,
+ * valor de columna separado por comas), price:(unscaled long + scale byte),
+ * stock:int, created_at:(epochSecond long + nano int), updated_at:(epochSecond
+ * long + nano int, nano -1 si es nula), reorder_threshold:(int, -1 si es
+ * nulo), locations:(short n + n × (location_id:short len + UTF-8, qty:int))};
+ * pie {@code crc32:long} calculado sobre las filas seguidas de la cabecera, de
+ * modo que un recuento alterado se rechaza antes de decodificar. Las
+ * existencias por ubicación viajan con su producto para que la regla de la
+ * primera ubicación de {@link StockService} no descarte el total restaurado.
+ * Solo se lee la versión actual: un archivo de otra versión se descarta y el
+ * catálogo arranca vacío hasta la siguiente instantánea. Las reservas no se
+ * incluyen: {@code reserved} se restaura a 0. Los productos con borrado lógico
+ * tampoco: ya no forman parte del catálogo.</p>
+ *
+ * <p>Con el catálogo particionado la instantánea reúne todos los shards (cada
+ * uno ordenado por id) y al restaurar cada fila vuelve al shard de su id. La
+ * restauración deja de ser una única transacción: los lotes se confirman por
+ * shard y el CRC se valida antes de insertar nada.</p>
+ */
+@Slf4j
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "inventory.snapshot.enabled", havingValue = "true")
+public class CatalogSnapshotService implements ApplicationRunner {
+
+    private static final int MAGIC = 0x494E5653;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int FOOTER_BYTES = Long.BYTES;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private static final String SELECT_SQL =
+        "select p.id, p.name, p.description, p.category, p.tags, p.price, p.stock, p.reorder_threshold, "
+            + "p.created_at, p.updated_at, s.location_id, s.qty from products p "
+            + "left join product_stock s on s.product_id = p.id where p.deleted_at is null "
+            + "order by p.id, s.location_id";
+    private static final String INSERT_SQL =
+        "insert into products (id, name, description, category, tags, price, stock, reserved, "
+            + "reorder_threshold, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+    private static final String INSERT_STOCK_SQL =
+        "insert into product_stock (product_id, location_id, qty) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final Path snapshotPath;
+    private final int batchSize;
+
+    /**
+     * Crea el servicio de instantáneas.
+     *
+     * @param jdbcTemplate plantilla JDBC sobre el datasource principal
+     * @param transactionTemplate plantilla para la restauración transaccional
+     * @param shardRouter enrutador de shards del catálogo
+     * @param snapshotPath ruta del archivo de instantánea
+     * @param batchSize filas por lote al restaurar
+     */
+    public CatalogSnapshotService(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ShardRouter shardRouter,
+                                  @Value("${inventory.snapshot.path:data/products.snapshot}") String snapshotPath,
+                                  @Value("${inventory.snapshot.batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Restaura la instantánea al arrancar si existe, es de la versión actual y
+     * la tabla está vacía. Una instantánea de otra versión se ignora: la
+     * siguiente escritura periódica o al cerrar la reemplaza.
+     *
+     * @param args argumentos de arranque (no usados)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long rows = shardRouter.scatter(shard ->
+                List.of(jdbcTemplate.queryForObject("select count(*) from products", Long.class))).stream()
+            .mapToLong(Long::longValue)
+            .sum();
+        if (rows > 0) {
+            log.info("La tabla products ya contiene {} filas, se omite la restauración", rows);
+            return;
+        }
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        if (!isCurrentVersion(snapshotPath)) {
+            log.warn("La instantánea {} no es de la versión {}, se omite la restauración", snapshotPath, VERSION);
+            return;
+        }
+        restore(snapshotPath);
+    }
+
+    private boolean isCurrentVersion(Path source) {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return false;
+            }
+            ByteBuffer prefix = readFully(channel, 0, Integer.BYTES * 2);
+            return prefix.getInt(0) == MAGIC && prefix.getInt(Integer.BYTES) == VERSION;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo leer la instantánea " + source, ex);
+        }
+    }
+
+    /**
+     * Escribe la instantánea periódicamente.
+     */
+    @Scheduled(initialDelayString = "${inventory.snapshot.interval-ms:300000}",
+               fixedDelayString = "${inventory.snapshot.interval-ms:300000}")
+    public void scheduledSnapshot() {
+        writeSnapshot(snapshotPath);
+    }
+
+    /**
+     * Escribe una última instantánea al cerrar el contexto.
+     */
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        writeSnapshot(snapshotPath);
+    }
+
+    /**
+     * Escribe la instantánea en un archivo temporal y lo renombra de forma
+     * atómica sobre el destino. Las escrituras se serializan porque comparten
+     * el archivo temporal.
+     *
+     * @param target ruta del archivo de instantánea
+     * @return número de productos escritos
+     */
+    public synchronized long writeSnapshot(Path target) {
+        long start = System.nanoTime();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            long count;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                SnapshotWriter writer = new SnapshotWriter(channel);
+                shardRouter.forEachShard(shard -> jdbcTemplate.query(SELECT_SQL, (RowCallbackHandler) writer::write));
+                count = writer.finish();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Instantánea escrita: {} productos en {} ms", count, (System.nanoTime() - start) / 1_000_000);
+            return count;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo escribir la instantánea " + target, ex);
+        }
+    }
+
+    /**
+     * Valida el CRC32 de la instantánea y la inserta por lotes en una única
+     * transacción. Si la validación falla la tabla no se modifica. El archivo
+     * se lee por bloques, sin mapearlo entero, de modo que su tamaño no está
+     * limitado a 2 GB.
+     *
+     * @param source ruta del archivo de instantánea
+     * @return número de productos restaurados
+     * @throws IllegalStateException si el archivo está dañado o su versión no es compatible
+     */
+    public long restore(Path source) {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + FOOTER_BYTES) {
+                throw new IllegalStateException("Instantánea truncada: " + source);
+            }
+            ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+            if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION) {
+                throw new IllegalStateException("Formato de instantánea no reconocido: " + source);
+            }
+            long count = header.getLong(Integer.BYTES * 2);
+            long recordsEnd = size - FOOTER_BYTES;
+            if (checksum(channel, recordsEnd, header) != readFully(channel, recordsEnd, FOOTER_BYTES).getLong(0)) {
+                throw new IllegalStateException("Checksum inválido en la instantánea " + source);
+            }
+
+            SnapshotReader records = new SnapshotReader(channel, HEADER_BYTES);
+            Long maxId = shardRouter.isSharded()
+                ? insertAll(records, count, recordsEnd)
+                : transactionTemplate.execute(status -> insertAll(records, count, recordsEnd));
+            if (maxId != null && maxId > 0) {
+                if (shardRouter.isSharded()) {
+                    shardRouter.reserveProductIdsAbove(maxId);
+                } else {
+                    jdbcTemplate.execute("alter table products alter column id restart with " + (maxId + 1));
+                }
+            }
+            log.info("Instantánea restaurada: {} productos en {} ms", count, (System.nanoTime() - start) / 1_000_000);
+            return count;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo leer la instantánea " + source, ex);
+        }
+    }
+
+    /**
+     * Calcula el CRC32 de las filas, leídas por bloques, seguido del de la
+     * cabecera.
+     */
+    private static long checksum(FileChannel channel, long recordsEnd, ByteBuffer header) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        long position = HEADER_BYTES;
+        while (position < recordsEnd) {
+            buffer.clear().limit((int) Math.min(BUFFER_BYTES, recordsEnd - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Fin de archivo inesperado en la posición " + position);
+            }
+            position += read;
+            crc.update(buffer.flip());
+        }
+        crc.update(header.duplicate().clear());
+        return crc.getValue();
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Fin de archivo inesperado en la posición " + (position + buffer.position()));
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Decodifica las filas y las inserta en lotes de {@code batchSize}
+     * productos por shard; las existencias de cada lote se insertan justo
+     * después de sus productos.
+     *
+     * @return mayor id restaurado
+     * @throws IllegalStateException si las filas no terminan donde empieza el pie
+     */
+    private Long insertAll(SnapshotReader records, long count, long recordsEnd) {
+        Map<String, Batch> batches = new LinkedHashMap<>();
+        long maxId = 0;
+        for (long i = 0; i < count; i++) {
+            long id = records.getLong();
+            String name = records.getString(records.getShort());
+            int descriptionLength = records.getInt();
+            String description = descriptionLength < 0 ? null : records.getString(descriptionLength);
+            String category = records.getNullableString(records.getShort());
+            String tags = records.getNullableString(records.getShort());
+            long unscaled = records.getLong();
+            BigDecimal price = BigDecimal.valueOf(unscaled, records.get());
+            int stock = records.getInt();
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(records.getLong(), records.getInt(), ZoneOffset.UTC);
+            long updatedSeconds = records.getLong();
+            int updatedNanos = records.getInt();
+            Timestamp updatedAt = updatedNanos < 0 ? null
+                : Timestamp.valueOf(LocalDateTime.ofEpochSecond(updatedSeconds, updatedNanos, ZoneOffset.UTC));
+            int threshold = records.getInt();
+            Integer reorderThreshold = threshold >= 0 ? threshold : null;
+
+            String shard = shardRouter.shardFor(id);
+            Batch batch = batches.computeIfAbsent(shard, key -> new Batch(batchSize));
+            batch.products().add(new Object[] {id, name, description, category, tags, price, stock, reorderThreshold,
+                Timestamp.valueOf(createdAt), updatedAt});
+            int locations = records.getShort();
+            for (int l = 0; l < locations; l++) {
+                String locationId = records.getString(records.getShort());
+                batch.stock().add(new Object[] {id, locationId, records.getInt()});
+            }
+            maxId = Math.max(maxId, id);
+            if (batch.products().size() == batchSize) {
+                insertBatch(shard, batch);
+            }
+        }
+        if (records.position() != recordsEnd) {
+            throw new IllegalStateException("Las filas de la instantánea no coinciden con su recuento");
+        }
+        batches.forEach((shard, batch) -> {
+            if (!batch.products().isEmpty()) {
+                insertBatch(shard, batch);
+            }
+        });
+        return maxId;
+    }
+
+    private void insertBatch(String shard, Batch batch) {
+        shardRouter.runOnShard(shard, () -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch.products());
+            if (!batch.stock().isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_STOCK_SQL, batch.stock());
+            }
+        });
+        batch.products().clear();
+        batch.stock().clear();
+    }
+
+    /**
+     * Filas de productos y de existencias pendientes de insertar en un shard.
+     */
+    private record Batch(List<Object[]> products, List<Object[]> stock) {
+
+        private Batch(int batchSize) {
+            this(new ArrayList<>(batchSize), new ArrayList<>());
+        }
+    }
+
+    /**
+     * Lector secuencial de las filas sobre un buffer directo que se rellena
+     * desde el canal a medida que se consume.
+     */
+    private static final class SnapshotReader {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private long channelPosition;
+
+        private SnapshotReader(FileChannel channel, long start) {
+            this.channel = channel;
+            this.channelPosition = start;
+            buffer.limit(0);
+        }
+
+        /**
+         * @return posición en el archivo del siguiente byte sin leer
+         */
+        private long position() {
+            return channelPosition - buffer.remaining();
+        }
+
+        private long getLong() {
+            return require(Long.BYTES).getLong();
+        }
+
+        private int getInt() {
+            return require(Integer.BYTES).getInt();
+        }
+
+        private short getShort() {
+            return require(Short.BYTES).getShort();
+        }
+
+        private byte get() {
+            return require(1).get();
+        }
+
+        private String getNullableString(int length) {
+            return length < 0 ? null : getString(length);
+        }
+
+        private String getString(int length) {
+            byte[] bytes = new byte[length];
+            for (int offset = 0; offset < length; ) {
+                int chunk = Math.min(length - offset, BUFFER_BYTES);
+                require(chunk).get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Garantiza al menos {@code bytes} bytes legibles en el buffer.
+         */
+        private ByteBuffer require(int bytes) {
+            if (buffer.remaining() >= bytes) {
+                return buffer;
+            }
+            buffer.compact();
+            try {
+                while (buffer.position() < bytes) {
+                    int read = channel.read(buffer, channelPosition);
+                    if (read < 0) {
+                        throw new IllegalStateException("Instantánea truncada en la posición " + channelPosition);
+                    }
+                    channelPosition += read;
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("No se pudo leer la instantánea", ex);
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Serializa filas en un buffer directo que se vuelca secuencialmente al
+     * canal, acumulando el CRC32 de todo lo escrito tras la cabecera; la
+     * cabecera se añade al CRC al final, cuando ya se conoce el recuento. La
+     * consulta devuelve una fila por ubicación, así que cada producto se
+     * retiene hasta que llega el siguiente id.
+     */
+    private static final class SnapshotWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private final CRC32 crc = new CRC32();
+        private PendingProduct pending;
+        private long count;
+
+        private SnapshotWriter(FileChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER_BYTES);
+        }
+
+        private void write(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (pending == null || pending.id != id) {
+                emit();
+                pending = new PendingProduct(rs);
+            }
+            String locationId = rs.getString("location_id");
+            if (locationId != null) {
+                pending.locations.add(locationId.getBytes(StandardCharsets.UTF_8));
+                pending.quantities.add(rs.getInt("qty"));
+            }
+        }
+
+        /**
+         * Serializa el producto retenido, si lo hay.
+         */
+        private void emit() throws SQLException {
+            if (pending == null) {
+                return;
+            }
+            PendingProduct row = pending;
+            int locationBytes = 0;
+            for (byte[] location : row.locations) {
+                locationBytes += Short.BYTES + location.length + Integer.BYTES;
+            }
+            int recordBytes = Long.BYTES + Short.BYTES + row.name.length + Integer.BYTES
+                + (row.description != null ? row.description.length : 0)
+                + Short.BYTES + (row.category != null ? row.category.length : 0)
+                + Short.BYTES + (row.tags != null ? row.tags.length : 0) + Long.BYTES + 1 + Integer.BYTES
+                + (Long.BYTES + Integer.BYTES) * 2 + Integer.BYTES + Short.BYTES + locationBytes;
+            ByteBuffer target = reserve(recordBytes);
+            target.putLong(row.id);
+            target.putShort((short) row.name.length).put(row.name);
+            if (row.description != null) {
+                target.putInt(row.description.length).put(row.description);
+            } else {
+                target.putInt(-1);
+            }
+            putShortString(target, row.category);
+            putShortString(target, row.tags);
+            target.putLong(row.price.unscaledValue().longValueExact()).put((byte) row.price.scale());
+            target.putInt(row.stock);
+            target.putLong(row.createdAt.toEpochSecond(ZoneOffset.UTC)).putInt(row.createdAt.getNano());
+            if (row.updatedAt != null) {
+                LocalDateTime updated = row.updatedAt.toLocalDateTime();
+                target.putLong(updated.toEpochSecond(ZoneOffset.UTC)).putInt(updated.getNano());
+            } else {
+                target.putLong(0).putInt(-1);
+            }
+            target.putInt(row.reorderThreshold != null ? row.reorderThreshold : -1);
+            target.putShort((short) row.locations.size());
+            for (int i = 0; i < row.locations.size(); i++) {
+                putShortString(target, row.locations.get(i));
+                target.putInt(row.quantities.get(i));
+            }
+            if (target != buffer) {
+                drain(target.flip());
+            }
+            pending = null;
+            count++;
+        }
+
+        private static byte[] bytesOrNull(String value) {
+            return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+        }
+
+        private static void putShortString(ByteBuffer target, byte[] value) {
+            if (value != null) {
+                target.putShort((short) value.length).put(value);
+            } else {
+                target.putShort((short) -1);
+            }
+        }
+
+        /**
+         * Devuelve el buffer compartido con espacio suficiente, o uno
+         * temporal si la fila no cabe en él (descripciones muy largas).
+         */
+        private ByteBuffer reserve(int recordBytes) throws SQLException {
+            if (buffer.remaining() < recordBytes) {
+                flush();
+            }
+            return recordBytes <= buffer.capacity() ? buffer : ByteBuffer.allocate(recordBytes);
+        }
+
+        private void flush() throws SQLException {
+            drain(buffer.flip());
+            buffer.clear();
+        }
+
+        private void drain(ByteBuffer source) throws SQLException {
+            crc.update(source.duplicate());
+            try {
+                while (source.hasRemaining()) {
+                    channel.write(source);
+                }
+            } catch (IOException ex) {
+                throw new SQLException("Error escribiendo la instantánea", ex);
+            }
+        }
+
+        /**
+         * Vuelca lo pendiente, completa la cabecera con el número de filas y
+         * escribe el pie con el CRC de filas y cabecera.
+         */
+        private long finish() throws IOException {
+            try {
+                emit();
+                flush();
+            } catch (SQLException ex) {
+                throw new IOException(ex);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putLong(count).flip();
+            crc.update(header.duplicate());
+            channel.write(ByteBuffer.allocate(FOOTER_BYTES).putLong(0, crc.getValue()));
+            channel.write(header, 0);
+            channel.force(false);
+            return count;
+        }
+
+        /**
+         * Columnas de un producto leídas de la primera fila de su grupo, con
+         * las ubicaciones de las filas siguientes.
+         */
+        private static final class PendingProduct {
+
+            private final long id;
+            private final byte[] name;
+            private final byte[] description;
+            private final byte[] category;
+            private final byte[] tags;
+            private final BigDecimal price;
+            private final int stock;
+            private final LocalDateTime createdAt;
+            private final Timestamp updatedAt;
+            private final Integer reorderThreshold;
+            private final List<byte[]> locations = new ArrayList<>();
+            private final List<Integer> quantities = new ArrayList<>();
+
+            private PendingProduct(ResultSet rs) throws SQLException {
+                id = rs.getLong("id");
+                name = rs.getString("name").getBytes(StandardCharsets.UTF_8);
+                description = bytesOrNull(rs.getString("description"));
+                category = bytesOrNull(rs.getString("category"));
+                tags = bytesOrNull(rs.getString("tags"));
+                price = rs.getBigDecimal("price");
+                stock = rs.getInt("stock");
+                createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+                updatedAt = rs.getTimestamp("updated_at");
+                reorderThreshold = rs.getObject("reorder_threshold", Integer.class);
+            }
+        }
+    }
+}
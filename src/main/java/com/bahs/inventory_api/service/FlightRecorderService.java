@@ -0,0 +1,171 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.diagnostics.HttpRequestEvent;
+import com.bahs.inventory_api.diagnostics.RepositoryCallEvent;
+import com.bahs.inventory_api.diagnostics.ServiceCallEvent;
+import com.bahs.inventory_api.dto.RecordingInfo;
+import com.bahs.inventory_api.exception.InvalidRecordingSettingsException;
+import com.bahs.inventory_api.exception.RecordingNotActiveException;
+import com.bahs.inventory_api.exception.RecordingNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Inicia, detiene y vuelca grabaciones de JDK Flight Recorder dentro del propio
+ * proceso, para diagnosticar picos de latencia sin adjuntar agentes externos.
+ * Las grabaciones incluyen los eventos propios de {@code inventory_api}
+ * (peticiones, servicios y repositorios) además de los de la configuración JFR
+ * elegida.
+ *
+ * <p>Solo gestiona las grabaciones que inició él mismo: las de la JVM o de otras
+ * herramientas (por ejemplo {@code -XX:StartFlightRecording} o {@code jcmd}) no
+ * se listan ni se pueden detener, volcar o cerrar desde el API.</p>
+ */
+@Slf4j
+@Service
+public class FlightRecorderService {
+
+    private final Path dumpDirectory;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el servicio.
+     *
+     * @param dumpDirectory directorio donde se escriben los volcados
+     */
+    public FlightRecorderService(@Value("${inventory.diagnostics.jfr.dump-dir:data/jfr}") String dumpDirectory) {
+        this.dumpDirectory = Path.of(dumpDirectory);
+    }
+
+    /**
+     * Inicia una grabación nueva.
+     *
+     * @param settings configuración JFR predefinida ({@code default} o {@code profile})
+     * @param maxAge antigüedad máxima retenida, o {@code null} sin límite
+     * @return estado de la grabación iniciada
+     * @throws InvalidRecordingSettingsException si la configuración no existe
+     */
+    public RecordingInfo start(String settings, Duration maxAge) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException ex) {
+            throw new InvalidRecordingSettingsException("Configuración JFR desconocida: " + settings);
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName("inventory-api-" + Instant.now().getEpochSecond());
+        recording.setToDisk(true);
+        if (maxAge != null) {
+            recording.setMaxAge(maxAge);
+        }
+        recording.enable(HttpRequestEvent.class);
+        recording.enable(ServiceCallEvent.class);
+        recording.enable(RepositoryCallEvent.class);
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        log.info("Grabación JFR {} iniciada con la configuración {}", recording.getId(), settings);
+        return toInfo(recording, null);
+    }
+
+    /**
+     * @return grabaciones iniciadas por este servicio y aún no cerradas
+     */
+    public List<RecordingInfo> findAll() {
+        return recordings.values().stream()
+            .sorted(Comparator.comparingLong(Recording::getId))
+            .map(recording -> toInfo(recording, null))
+            .toList();
+    }
+
+    /**
+     * Detiene una grabación en curso.
+     *
+     * @param id identificador de la grabación
+     * @return estado de la grabación detenida
+     * @throws RecordingNotFoundException si no existe o no la inició este servicio
+     * @throws RecordingNotActiveException si no está en curso
+     */
+    public RecordingInfo stop(long id) {
+        Recording recording = find(id);
+        if (recording.getState() != RecordingState.RUNNING) {
+            throw new RecordingNotActiveException("La grabación " + id + " no está en curso");
+        }
+        recording.stop();
+        return toInfo(recording, null);
+    }
+
+    /**
+     * Vuelca el contenido actual de una grabación a un archivo {@code .jfr}
+     * local; la grabación sigue en curso si lo estaba.
+     *
+     * @param id identificador de la grabación
+     * @return estado de la grabación con la ruta del volcado
+     * @throws RecordingNotFoundException si no existe o no la inició este servicio
+     */
+    public RecordingInfo dump(long id) {
+        Recording recording = find(id);
+        Path target = dumpDirectory.resolve("inventory-api-" + id + "-" + Instant.now().toEpochMilli() + ".jfr");
+        try {
+            Files.createDirectories(dumpDirectory);
+            recording.dump(target);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo volcar la grabación " + id, ex);
+        }
+        log.info("Grabación JFR {} volcada en {}", id, target.toAbsolutePath());
+        return toInfo(recording, target.toAbsolutePath().toString());
+    }
+
+    /**
+     * Cierra una grabación y libera sus datos.
+     *
+     * @param id identificador de la grabación
+     * @throws RecordingNotFoundException si no existe o no la inició este servicio
+     */
+    public void close(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            throw notFound(id);
+        }
+        recording.close();
+    }
+
+    private Recording find(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw notFound(id);
+        }
+        return recording;
+    }
+
+    private static RecordingNotFoundException notFound(long id) {
+        return new RecordingNotFoundException("Grabación con id " + id + " no encontrada");
+    }
+
+    private RecordingInfo toInfo(Recording recording, String dumpPath) {
+        Duration maxAge = recording.getMaxAge();
+        return RecordingInfo.builder()
+            .id(recording.getId())
+            .name(recording.getName())
+            .state(recording.getState().name())
+            .startTime(recording.getStartTime())
+            .stopTime(recording.getStopTime())
+            .maxAgeSeconds(maxAge != null ? maxAge.toSeconds() : 0)
+            .dumpPath(dumpPath)
+            .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.bahs.inventory_api.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Rueda de temporización con hash (hashed timing wheel) para programar
+ * vencimientos en O(1). Cada ranura agrupa los temporizadores cuyo vencimiento
+ * cae en el mismo tic módulo el tamaño de la rueda; los que vencen más allá de
+ * una vuelta completa llevan un contador de vueltas pendientes.
+ *
+ * <p>{@link #schedule} y {@link Timeout#cancel()} son seguros desde cualquier
+ * hilo: los nuevos temporizadores se encolan y se reparten en las ranuras
+ * dentro de {@link #advanceTo}, que debe invocarse siempre desde un único
+ * hilo.</p>
+ *
+ * @param <T> tipo de dato asociado a cada temporizador
+ */
+public final class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+
+    /**
+     * Crea la rueda.
+     *
+     * @param tickMillis duración de cada tic en milisegundos
+     * @param wheelSize número de ranuras; se redondea a la siguiente potencia de 2
+     * @param startMillis instante (epoch millis) que corresponde al tic 0
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis y wheelSize deben ser positivos");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (size <= 0) {
+            size = 1;
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = size - 1;
+        this.buckets = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Programa un temporizador.
+     *
+     * @param payload dato entregado al vencer
+     * @param deadlineMillis instante de vencimiento (epoch millis)
+     * @return manejador que permite cancelarlo
+     */
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Avanza la rueda hasta {@code nowMillis}, entregando al consumidor los
+     * temporizadores vencidos que no fueron cancelados.
+     *
+     * @param nowMillis instante actual (epoch millis)
+     * @param onExpired consumidor de los datos vencidos
+     * @return número de temporizadores vencidos
+     */
+    public int advanceTo(long nowMillis, Consumer<T> onExpired) {
+        int expired = 0;
+        while (startMillis + (currentTick + 1) * tickMillis <= nowMillis) {
+            transferPending();
+            expired += expireBucket(buckets[(int) (currentTick & mask)], onExpired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * Reparte los temporizadores recién programados en su ranura.
+     */
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long targetTick = Math.max(Math.max(timeout.deadlineMillis - startMillis, 0) / tickMillis, currentTick);
+            timeout.remainingRounds = (targetTick - currentTick) / buckets.length;
+            buckets[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Recorre una ranura: entrega los vencidos de esta vuelta y descuenta una
+     * vuelta al resto.
+     */
+    private int expireBucket(ArrayDeque<Timeout<T>> bucket, Consumer<T> onExpired) {
+        int expired = 0;
+        for (int i = bucket.size(); i > 0; i--) {
+            Timeout<T> timeout = bucket.poll();
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0) {
+                expired++;
+                onExpired.accept(timeout.payload);
+            } else {
+                timeout.remainingRounds--;
+                bucket.add(timeout);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Temporizador programado en la rueda.
+     *
+     * @param <T> tipo de dato asociado
+     */
+    public static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadlineMillis;
+        private volatile boolean cancelled;
+        private long remainingRounds;
+
+        private Timeout(T payload, long deadlineMillis) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        /**
+         * Cancela el temporizador; se descarta en el siguiente recorrido de su
+         * ranura.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.service.HashedTimingWheel.Timeout;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Planificador de vencimientos de reservas basado en una
+ * {@link HashedTimingWheel}. Programar y cancelar cuestan O(1) y cada tic solo
+ * recorre la ranura actual, por lo que soporta cientos de miles de reservas
+ * vivas sin consultar la tabla {@code stock_holds}. Al arrancar recarga las
+ * reservas activas persistidas.
+ */
+@Slf4j
+@Component
+public class HoldExpiryScheduler implements ApplicationRunner {
+
+    private final ObjectProvider<HoldService> holdService;
+    private final HashedTimingWheel<Long> wheel;
+    private final Map<Long, Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el planificador.
+     *
+     * @param holdService servicio de reservas, resuelto de forma diferida para
+     *        evitar la dependencia circular
+     * @param tickMillis resolución de la rueda en milisegundos
+     * @param wheelSize número de ranuras de la rueda
+     */
+    public HoldExpiryScheduler(ObjectProvider<HoldService> holdService,
+                               @Value("${inventory.holds.tick-ms:1000}") long tickMillis,
+                               @Value("${inventory.holds.wheel-size:512}") int wheelSize) {
+        this.holdService = holdService;
+        this.wheel = new HashedTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Programa el vencimiento de una reserva.
+     *
+     * @param holdId identificador de la reserva
+     * @param expiresAt momento de vencimiento
+     */
+    public void schedule(Long holdId, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Timeout<Long> previous = timeouts.put(holdId, wheel.schedule(holdId, deadline));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * Cancela el vencimiento de una reserva confirmada o cancelada.
+     *
+     * @param holdId identificador de la reserva
+     */
+    public void cancel(Long holdId) {
+        Timeout<Long> timeout = timeouts.remove(holdId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    /**
+     * @return número de reservas con vencimiento programado
+     */
+    public int scheduledCount() {
+        return timeouts.size();
+    }
+
+    /**
+     * Avanza la rueda en cada tic y libera las reservas vencidas.
+     */
+    @Scheduled(fixedRateString = "${inventory.holds.tick-ms:1000}")
+    public void tick() {
+        expireDue(System.currentTimeMillis());
+    }
+
+    /**
+     * Avanza la rueda hasta el instante indicado y libera cada reserva vencida
+     * en su propia transacción.
+     *
+     * @param nowMillis instante actual (epoch millis)
+     * @return número de reservas vencidas
+     */
+    public synchronized int expireDue(long nowMillis) {
+        List<Long> due = new ArrayList<>();
+        wheel.advanceTo(nowMillis, due::add);
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+        int expired = 0;
+        for (Long holdId : due) {
+            timeouts.remove(holdId);
+            try {
+                if (holdService.getObject().expire(holdId, now)) {
+                    expired++;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("No se pudo vencer la reserva {}: {}", holdId, ex.getMessage());
+                schedule(holdId, LocalDateTime.now());
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Recarga las reservas activas persistidas antes de aceptar tráfico.
+     *
+     * @param args argumentos de arranque (no usados)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        int count = holdService.getObject().rescheduleActiveHolds();
+        log.info("Reservas activas reprogramadas: {}", count);
+    }
+}
@@ -0,0 +1,287 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.StockHoldRequest;
+import com.bahs.inventory_api.entity.HoldStatus;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.ProductStock;
+import com.bahs.inventory_api.entity.StockHold;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.event.ProductChangedEvent.ChangeType;
+import com.bahs.inventory_api.exception.HoldNotActiveException;
+import com.bahs.inventory_api.exception.HoldNotFoundException;
+import com.bahs.inventory_api.exception.InsufficientStockException;
+import com.bahs.inventory_api.exception.LocationRequiredException;
+import com.bahs.inventory_api.exception.ProductNotFoundException;
+import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.repository.ProductStockRepository;
+import com.bahs.inventory_api.repository.StockHoldRepository;
+import com.bahs.inventory_api.repository.StockHoldRepository.HoldExpiry;
+import com.bahs.inventory_api.routing.ShardKey;
+import com.bahs.inventory_api.routing.ShardRouter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Servicio de reservas temporales de stock para el checkout. Una reserva
+ * activa suma sus unidades a {@link Product#getReserved()}, de modo que el
+ * disponible ({@code stock - reserved}) se calcula sin recorrer las reservas.
+ * Los vencimientos se delegan en {@link HoldExpiryScheduler}, que usa una rueda
+ * de temporización en lugar de escanear la tabla.
+ *
+ * <p>Orden de bloqueo: la reserva (si existe) y después el producto, igual que
+ * {@link StockService} bloquea producto y después ubicación.</p>
+ *
+ * <p>Las reservas viven en el shard de su producto; las operaciones por id de
+ * reserva localizan ese shard con {@link ShardRouter#shardForHold}.</p>
+ */
+@Slf4j
+@Service
+@Transactional
+public class HoldService {
+
+    private final StockHoldRepository stockHoldRepository;
+    private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final StockService stockService;
+    private final HoldExpiryScheduler holdExpiryScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
+    private final Duration defaultTtl;
+
+    /**
+     * Crea el servicio con sus dependencias y la duración por defecto.
+     *
+     * @param stockHoldRepository repositorio de reservas
+     * @param productRepository repositorio de productos
+     * @param productStockRepository repositorio de existencias por ubicación
+     * @param stockService servicio de existencias por ubicación
+     * @param holdExpiryScheduler planificador de vencimientos
+     * @param eventPublisher publicador de eventos de producto
+     * @param shardRouter enrutador de shards del catálogo
+     * @param defaultTtl duración de la reserva cuando el cliente no la indica
+     */
+    public HoldService(StockHoldRepository stockHoldRepository,
+                       ProductRepository productRepository,
+                       ProductStockRepository productStockRepository,
+                       StockService stockService,
+                       HoldExpiryScheduler holdExpiryScheduler,
+                       ApplicationEventPublisher eventPublisher,
+                       ShardRouter shardRouter,
+                       @Value("${inventory.holds.default-ttl:10m}") Duration defaultTtl) {
+        this.stockHoldRepository = stockHoldRepository;
+        this.productRepository = productRepository;
+        this.productStockRepository = productStockRepository;
+        this.stockService = stockService;
+        this.holdExpiryScheduler = holdExpiryScheduler;
+        this.eventPublisher = eventPublisher;
+        this.shardRouter = shardRouter;
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * Busca una reserva por su identificador.
+     *
+     * @param holdId identificador de la reserva
+     * @return reserva encontrada
+     * @throws HoldNotFoundException si no existe
+     */
+    @Transactional(readOnly = true)
+    public StockHold findById(@ShardKey(ShardKey.Kind.HOLD) Long holdId) {
+        return stockHoldRepository.findById(holdId).orElseThrow(() -> holdNotFound(holdId));
+    }
+
+    /**
+     * Reserva unidades de un producto durante el tiempo indicado.
+     *
+     * @param productId identificador del producto
+     * @param request cantidad, ubicación opcional y duración
+     * @return reserva activa
+     * @throws ProductNotFoundException si el producto no existe
+     * @throws InsufficientStockException si no hay unidades disponibles en el
+     *         producto o, si se indica, en la ubicación
+     * @throws LocationRequiredException si el producto gestiona stock por
+     *         ubicación y no se indicó {@code locationId}
+     */
+    public StockHold create(@ShardKey Long productId, StockHoldRequest request) {
+        log.info("Reservando {} unidades del producto {}", request.getQuantity(), productId);
+        Product product = lockProduct(productId);
+        if (request.getLocationId() == null && productStockRepository.existsByProductId(productId)) {
+            throw new LocationRequiredException("El producto " + productId
+                + " gestiona stock por ubicación: indique locationId");
+        }
+        int quantity = request.getQuantity();
+        if (product.getAvailable() < quantity) {
+            throw new InsufficientStockException("Stock disponible insuficiente del producto " + productId);
+        }
+        if (request.getLocationId() != null) {
+            String locationId = request.getLocationId();
+            int locationQty = productStockRepository.findForUpdate(productId, locationId)
+                .map(ProductStock::getQty)
+                .orElse(0);
+            if (locationQty - stockHoldRepository.sumActiveQuantity(productId, locationId) < quantity) {
+                throw new InsufficientStockException("Stock disponible insuficiente del producto " + productId
+                    + " en la ubicación " + locationId);
+            }
+        }
+        product.setReserved(product.getReserved() + quantity);
+
+        Duration ttl = request.getTtlSeconds() != null ? Duration.ofSeconds(request.getTtlSeconds()) : defaultTtl;
+        StockHold hold = new StockHold();
+        hold.setProductId(productId);
+        hold.setLocationId(request.getLocationId());
+        hold.setQuantity(quantity);
+        hold.setStatus(HoldStatus.ACTIVE);
+        hold.setExpiresAt(LocalDateTime.now().plus(ttl));
+        StockHold saved = stockHoldRepository.save(hold);
+
+        eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.RESERVATION_CHANGED, product));
+        afterCommit(() -> holdExpiryScheduler.schedule(saved.getId(), saved.getExpiresAt()));
+        return saved;
+    }
+
+    /**
+     * Confirma una reserva activa: libera la retención y descuenta las unidades
+     * del stock (de la ubicación indicada, si la hay).
+     *
+     * @param holdId identificador de la reserva
+     * @return reserva confirmada
+     * @throws HoldNotFoundException si no existe
+     * @throws HoldNotActiveException si ya no está activa
+     * @throws InsufficientStockException si el stock ya no cubre la reserva
+     */
+    public StockHold confirm(@ShardKey(ShardKey.Kind.HOLD) Long holdId) {
+        log.info("Confirmando reserva {}", holdId);
+        StockHold hold = lockActive(holdId);
+        Product product = lockProduct(hold.getProductId());
+        product.setReserved(product.getReserved() - hold.getQuantity());
+        hold.setStatus(HoldStatus.CONFIRMED);
+
+        if (hold.getLocationId() != null) {
+            stockService.adjustLocationStock(hold.getProductId(), hold.getLocationId(), -hold.getQuantity());
+        } else {
+            if (product.getStock() < hold.getQuantity()) {
+                throw new InsufficientStockException("Stock insuficiente del producto " + product.getId()
+                    + " para confirmar la reserva " + holdId);
+            }
+            product.setStock(product.getStock() - hold.getQuantity());
+            eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.STOCK_CHANGED, product));
+        }
+        afterCommit(() -> holdExpiryScheduler.cancel(holdId));
+        return hold;
+    }
+
+    /**
+     * Cancela una reserva activa y devuelve sus unidades al disponible.
+     *
+     * @param holdId identificador de la reserva
+     * @return reserva cancelada
+     * @throws HoldNotFoundException si no existe
+     * @throws HoldNotActiveException si ya no está activa
+     */
+    public StockHold cancel(@ShardKey(ShardKey.Kind.HOLD) Long holdId) {
+        log.info("Cancelando reserva {}", holdId);
+        StockHold hold = release(lockActive(holdId), HoldStatus.CANCELLED);
+        afterCommit(() -> holdExpiryScheduler.cancel(holdId));
+        return hold;
+    }
+
+    /**
+     * Libera una reserva vencida. Es idempotente: si la reserva ya no está
+     * activa no hace nada, y si aún no ha vencido se reprograma. Si su
+     * producto ya no existe (reservas anteriores a que el borrado las
+     * cancelara) la marca como vencida sin más, para que no se reintente en
+     * cada tic.
+     *
+     * @param holdId identificador de la reserva
+     * @param now instante de referencia del planificador
+     * @return {@code true} si la reserva se marcó como vencida
+     */
+    public boolean expire(@ShardKey(ShardKey.Kind.HOLD) Long holdId, LocalDateTime now) {
+        StockHold hold = stockHoldRepository.findForUpdate(holdId).orElse(null);
+        if (hold == null || hold.getStatus() != HoldStatus.ACTIVE) {
+            return false;
+        }
+        if (hold.getExpiresAt().isAfter(now)) {
+            holdExpiryScheduler.schedule(holdId, hold.getExpiresAt());
+            return false;
+        }
+        if (productRepository.findForUpdate(hold.getProductId()).isEmpty()) {
+            hold.setStatus(HoldStatus.EXPIRED);
+            log.info("Reserva {} vencida sin liberar: el producto {} ya no existe", holdId, hold.getProductId());
+            return true;
+        }
+        release(hold, HoldStatus.EXPIRED);
+        log.debug("Reserva {} vencida", holdId);
+        return true;
+    }
+
+    /**
+     * Reprograma en la rueda de temporización todas las reservas activas, por
+     * ejemplo tras un reinicio. Recorre los shards de uno en uno.
+     *
+     * @return número de reservas reprogramadas
+     */
+    @Transactional(readOnly = true)
+    public int rescheduleActiveHolds() {
+        AtomicInteger count = new AtomicInteger();
+        shardRouter.readEachShard(shard -> {
+            try (Stream<HoldExpiry> holds = stockHoldRepository.streamByStatus(HoldStatus.ACTIVE)) {
+                for (HoldExpiry hold : (Iterable<HoldExpiry>) holds::iterator) {
+                    holdExpiryScheduler.schedule(hold.getId(), hold.getExpiresAt());
+                    count.incrementAndGet();
+                }
+            }
+        });
+        return count.get();
+    }
+
+    /**
+     * Devuelve las unidades retenidas al disponible y cambia el estado.
+     */
+    private StockHold release(StockHold hold, HoldStatus status) {
+        Product product = lockProduct(hold.getProductId());
+        product.setReserved(product.getReserved() - hold.getQuantity());
+        hold.setStatus(status);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.RESERVATION_CHANGED, product));
+        return hold;
+    }
+
+    private StockHold lockActive(Long holdId) {
+        StockHold hold = stockHoldRepository.findForUpdate(holdId).orElseThrow(() -> holdNotFound(holdId));
+        if (hold.getStatus() != HoldStatus.ACTIVE) {
+            throw new HoldNotActiveException("La reserva " + holdId + " no está activa (" + hold.getStatus() + ")");
+        }
+        return hold;
+    }
+
+    private Product lockProduct(Long productId) {
+        return productRepository.findForUpdate(productId)
+            .orElseThrow(() -> new ProductNotFoundException("Producto con id " + productId + " no encontrado"));
+    }
+
+    /**
+     * Ejecuta la acción solo si la transacción actual se confirma, para no
+     * programar ni cancelar temporizadores de cambios revertidos.
+     */
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private HoldNotFoundException holdNotFound(Long holdId) {
+        return new HoldNotFoundException("Reserva con id " + holdId + " no encontrada");
+    }
+}
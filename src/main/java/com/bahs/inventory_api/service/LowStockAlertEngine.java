@@ -0,0 +1,234 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.LowStockAlert;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.routing.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Motor incremental de alertas de stock bajo. Mantiene en memoria las alertas
+ * activas y reevalúa solo el producto afectado por cada
+ * {@link ProductChangedEvent} confirmado, de modo que el coste de detección es
+ * constante por escritura en lugar de recorrer el catálogo.
+ *
+ * <p>Una alerta se levanta cuando el stock baja del umbral de reposición (el
+ * del producto o {@code inventory.alerts.default-threshold}) y se despeja
+ * cuando vuelve a alcanzar el umbral más {@code inventory.alerts.hysteresis}
+ * unidades, para que un stock que oscila alrededor del umbral no dispare una
+ * alerta en cada cambio. Solo los cruces se notifican a los suscriptores del
+ * flujo SSE; el envío se hace en un hilo propio para no retener al hilo que
+ * confirmó la escritura.</p>
+ */
+@Slf4j
+@Component
+public class LowStockAlertEngine implements ApplicationRunner {
+
+    private static final String LOAD_SQL =
+        "select id, stock, reorder_threshold from products where deleted_at is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final int defaultThreshold;
+    private final int hysteresis;
+    private final long streamTimeoutMs;
+    private final Map<Long, LowStockAlert> active = new ConcurrentHashMap<>();
+    private final Map<Long, LastChange> lastChanges = new ConcurrentHashMap<>();
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService notifier =
+        Executors.newSingleThreadExecutor(Thread.ofVirtual().name("low-stock-alerts").factory());
+
+    /**
+     * Crea el motor sin alertas.
+     *
+     * @param jdbcTemplate plantilla usada para la evaluación inicial
+     * @param shardRouter enrutador de shards del catálogo
+     * @param defaultThreshold umbral de los productos sin umbral propio
+     * @param hysteresis unidades por encima del umbral necesarias para despejar una alerta
+     * @param streamTimeoutMs duración máxima de una suscripción al flujo
+     */
+    public LowStockAlertEngine(JdbcTemplate jdbcTemplate,
+                               ShardRouter shardRouter,
+                               @Value("${inventory.alerts.default-threshold:5}") int defaultThreshold,
+                               @Value("${inventory.alerts.hysteresis:2}") int hysteresis,
+                               @Value("${inventory.alerts.stream-timeout-ms:1800000}") long streamTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.defaultThreshold = defaultThreshold;
+        this.hysteresis = hysteresis;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    /**
+     * Evalúa el catálogo existente una sola vez al arrancar, tras la posible
+     * restauración de la instantánea.
+     *
+     * @param args argumentos de arranque (no usados)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        active.clear();
+        lastChanges.clear();
+        LocalDateTime now = LocalDateTime.now();
+        shardRouter.forEachShard(shard -> jdbcTemplate.query(LOAD_SQL, (RowCallbackHandler) rs ->
+            evaluate(rs.getLong("id"), rs.getInt("stock"), rs.getObject("reorder_threshold", Integer.class), now)));
+        log.info("Alertas de stock bajo evaluadas: {} activas en {} ms", active.size(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Reevalúa el producto de cada cambio confirmado que puede mover su stock
+     * o su umbral, y descarta la alerta de los productos borrados o archivados.
+     * La baja deja una lápida con su momento: los cambios de stock anteriores
+     * o simultáneos que lleguen después ya no levantan alertas.
+     *
+     * @param event cambio de producto confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED, STOCK_CHANGED ->
+                evaluate(event.productId(), event.stock(), event.reorderThreshold(), event.changedAt());
+            case DELETED, ARCHIVED -> lastChanges.compute(event.productId(), (id, last) -> {
+                if (last != null && last.isNewerThan(event.changedAt())) {
+                    return last;
+                }
+                LowStockAlert removed = active.remove(id);
+                if (removed != null) {
+                    notify("cleared", removed);
+                }
+                return new LastChange(event.changedAt(), true);
+            });
+            default -> {
+                // Las reservas no cambian el stock total.
+            }
+        }
+    }
+
+    /**
+     * Aplica la regla de histéresis a un producto. Los eventos anteriores a
+     * la última evaluación del producto, tenga o no alerta, se ignoran: los
+     * oyentes tras el commit no garantizan el orden entre transacciones, y un
+     * cambio viejo no debe despejar ni volver a levantar una alerta. Tampoco
+     * los que no son posteriores a la baja del producto.
+     *
+     * @param productId identificador del producto
+     * @param stock stock total vigente
+     * @param reorderThreshold umbral propio, o {@code null} para el de defecto
+     * @param at momento del cambio
+     */
+    void evaluate(Long productId, int stock, Integer reorderThreshold, LocalDateTime at) {
+        int threshold = reorderThreshold != null ? reorderThreshold : defaultThreshold;
+        lastChanges.compute(productId, (id, last) -> {
+            if (last != null && last.isNewerThan(at)) {
+                return last;
+            }
+            active.compute(id, (key, current) -> {
+                if (current == null) {
+                    if (stock >= threshold) {
+                        return null;
+                    }
+                    LowStockAlert raised = new LowStockAlert(key, stock, threshold, at, at);
+                    notify("raised", raised);
+                    return raised;
+                }
+                LowStockAlert updated = new LowStockAlert(key, stock, threshold, current.raisedAt(), at);
+                if (stock >= threshold + hysteresis) {
+                    notify("cleared", updated);
+                    return null;
+                }
+                return updated;
+            });
+            return new LastChange(at, false);
+        });
+    }
+
+    /**
+     * @return alertas activas, de la más antigua a la más reciente
+     */
+    public List<LowStockAlert> findActive() {
+        return active.values().stream()
+            .sorted(Comparator.comparing(LowStockAlert::raisedAt).thenComparing(LowStockAlert::productId))
+            .toList();
+    }
+
+    /**
+     * Abre una suscripción al flujo de cruces de umbral. El primer evento
+     * ({@code active}) lleva las alertas vigentes; los siguientes
+     * ({@code raised} y {@code cleared}) cada alerta levantada o despejada.
+     *
+     * @return emisor SSE registrado
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        notifier.execute(() -> send(emitter, "active", findActive()));
+        return emitter;
+    }
+
+    /**
+     * Cierra las suscripciones abiertas y detiene el hilo de envío.
+     */
+    @PreDestroy
+    public void shutdown() {
+        notifier.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    private void notify(String name, LowStockAlert alert) {
+        log.info("Alerta de stock bajo {} para el producto {}: stock {} / umbral {}", name, alert.productId(),
+            alert.stock(), alert.threshold());
+        if (!subscribers.isEmpty() && !notifier.isShutdown()) {
+            notifier.execute(() -> subscribers.forEach(emitter -> send(emitter, name, alert)));
+        }
+    }
+
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException ex) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(ex);
+        }
+    }
+
+    /**
+     * Momento del último cambio aplicado a un producto.
+     *
+     * @param at momento del cambio
+     * @param deleted {@code true} si fue una baja o un archivado (lápida)
+     */
+    private record LastChange(LocalDateTime at, boolean deleted) {
+
+        /**
+         * Un cambio anterior al último aplicado se descarta; tras una baja
+         * también uno del mismo instante.
+         */
+        boolean isNewerThan(LocalDateTime other) {
+            return deleted ? !other.isAfter(at) : other.isBefore(at);
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.ArchivedProductResponse;
+import com.bahs.inventory_api.dto.ArchivedProductSummary;
+import com.bahs.inventory_api.entity.ArchiveReason;
+import com.bahs.inventory_api.entity.ProductArchive;
+import com.bahs.inventory_api.entity.TagListConverter;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.event.ProductChangedEvent.ChangeType;
+import com.bahs.inventory_api.exception.InvalidPaginationException;
+import com.bahs.inventory_api.exception.ProductNotFoundException;
+import com.bahs.inventory_api.exception.ProductNotRestorableException;
+import com.bahs.inventory_api.repository.ProductArchiveRepository;
+import com.bahs.inventory_api.routing.ShardKey;
+import com.bahs.inventory_api.routing.ShardRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Separa el catálogo en una tabla caliente y una fría. El archivador mueve por
+ * lotes a {@code products_archive} los productos con borrado lógico y, solo con
+ * {@code inventory.archive.dormant-enabled=true}, los que llevan sin cambios
+ * más de {@code inventory.archive.dormant-after}, de modo que
+ * {@code products}, sus índices y los listados solo contienen el catálogo
+ * vivo. Cada lote es una transacción propia: lee los candidatos, los borra de
+ * {@code products} repitiendo el filtro (una fila modificada entretanto ya no
+ * cumple y se queda), inserta el producto comprimido en el archivo, borra sus
+ * existencias por ubicación y publica un {@link ChangeType#ARCHIVED} por fila.
+ *
+ * <p>Archivar un producto inactivo lo retira de {@code /api/products}: por eso
+ * está desactivado por defecto y {@link #restore(Long)} lo devuelve a la tabla
+ * caliente. Las lecturas del archivo se sirven desde
+ * {@code /api/archive/products}. Los productos con unidades reservadas o
+ * reservas activas no se archivan, tampoco los borrados. Con el
+ * catálogo particionado cada shard archiva sus propios productos en su propia
+ * tabla fría.</p>
+ */
+@Slf4j
+@Service
+public class ProductArchiveService {
+
+    /** Tamaño máximo de página admitido en los listados del archivo. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** Sin fecha de inactividad la segunda condición nunca se cumple y solo se archivan los borrados. */
+    private static final String CANDIDATE_FILTER = "reserved = 0 and not exists (select 1 from stock_holds h "
+        + "where h.product_id = products.id and h.status = 'ACTIVE') "
+        + "and (deleted_at < ? or (deleted_at is null and coalesce(updated_at, created_at) < ?))";
+    private static final String SELECT_CANDIDATES_SQL =
+        "select id, name, description, category, tags, price, stock, reorder_threshold, created_at, updated_at, "
+            + "deleted_at "
+            + "from products where " + CANDIDATE_FILTER + " order by id limit ?";
+    private static final String DELETE_PRODUCT_SQL = "delete from products where id = ? and " + CANDIDATE_FILTER;
+    private static final String INSERT_ARCHIVE_SQL =
+        "insert into products_archive (id, name, category, reason, deleted_at, archived_at, payload) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String RESTORE_PRODUCT_SQL =
+        "insert into products (id, name, description, category, tags, price, stock, reserved, reorder_threshold, "
+            + "created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    private static final TagListConverter TAGS = new TagListConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductArchiveRepository productArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
+    private final boolean enabled;
+    private final boolean dormantEnabled;
+    private final Duration dormantAfter;
+    private final Duration deletedGrace;
+    private final int chunkSize;
+
+    /**
+     * Crea el servicio de archivo.
+     *
+     * @param jdbcTemplate plantilla JDBC para mover las filas por lotes
+     * @param transactionTemplate plantilla para la transacción de cada lote
+     * @param productArchiveRepository repositorio de la tabla fría
+     * @param eventPublisher publicador de los eventos de archivado
+     * @param objectMapper serializador del payload
+     * @param shardRouter enrutador de shards del catálogo
+     * @param enabled si el archivado programado está activo
+     * @param dormantEnabled si se archivan también los productos inactivos
+     * @param dormantAfter tiempo sin cambios tras el que un producto se archiva
+     * @param deletedGrace margen entre el borrado lógico y el archivado
+     * @param chunkSize productos por lote
+     */
+    public ProductArchiveService(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ProductArchiveRepository productArchiveRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper,
+                                 ShardRouter shardRouter,
+                                 @Value("${inventory.archive.enabled:true}") boolean enabled,
+                                 @Value("${inventory.archive.dormant-enabled:false}") boolean dormantEnabled,
+                                 @Value("${inventory.archive.dormant-after:365d}") Duration dormantAfter,
+                                 @Value("${inventory.archive.deleted-grace:10m}") Duration deletedGrace,
+                                 @Value("${inventory.archive.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.productArchiveRepository = productArchiveRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+        this.dormantEnabled = dormantEnabled;
+        this.dormantAfter = dormantAfter;
+        this.deletedGrace = deletedGrace;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Ejecuta el archivado periódicamente si está activo.
+     */
+    @Scheduled(initialDelayString = "${inventory.archive.interval-ms:3600000}",
+               fixedDelayString = "${inventory.archive.interval-ms:3600000}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Mueve al archivo, lote a lote, los productos borrados antes de
+     * {@code now - deletedGrace} y, si está activo, los que no cambian desde
+     * {@code now - dormantAfter}.
+     *
+     * @param now instante de referencia
+     * @return número de productos archivados
+     */
+    public long archive(LocalDateTime now) {
+        long start = System.nanoTime();
+        Timestamp deletedBefore = Timestamp.valueOf(now.minus(deletedGrace));
+        Timestamp dormantBefore = dormantEnabled ? Timestamp.valueOf(now.minus(dormantAfter)) : null;
+        AtomicLong archived = new AtomicLong();
+        shardRouter.forEachShard(shard -> {
+            int selected;
+            do {
+                int[] chunk = transactionTemplate.execute(status -> archiveChunk(deletedBefore, dormantBefore, now));
+                selected = chunk[0];
+                archived.addAndGet(chunk[1]);
+            } while (selected == chunkSize);
+        });
+        if (archived.get() > 0) {
+            log.info("Archivados {} productos en {} ms", archived.get(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return archived.get();
+    }
+
+    /**
+     * Obtiene un producto archivado completo.
+     *
+     * @param id identificador original del producto
+     * @return producto descomprimido
+     * @throws ProductNotFoundException si el producto no está archivado
+     */
+    @Transactional(readOnly = true)
+    public ArchivedProductResponse findById(@ShardKey Long id) {
+        log.info("Buscando producto archivado con id {}", id);
+        ProductArchive archive = productArchiveRepository.findById(id)
+            .orElseThrow(() -> new ProductNotFoundException("Producto archivado con id " + id + " no encontrado"));
+        ArchivedPayload payload = decode(archive.getPayload());
+        return ArchivedProductResponse.builder()
+            .id(archive.getId())
+            .name(payload.name())
+            .description(payload.description())
+            .category(payload.category())
+            .tags(payload.tags())
+            .price(payload.price())
+            .stock(payload.stock())
+            .reorderThreshold(payload.reorderThreshold())
+            .locations(payload.locations())
+            .createdAt(payload.createdAt())
+            .updatedAt(payload.updatedAt())
+            .deletedAt(archive.getDeletedAt())
+            .archivedAt(archive.getArchivedAt())
+            .reason(archive.getReason())
+            .build();
+    }
+
+    /**
+     * Devuelve un producto archivado por inactividad a la tabla caliente con
+     * sus existencias por ubicación, como si se hubiera modificado ahora para
+     * que no vuelva a archivarse en la siguiente pasada. Los productos
+     * borrados no se restauran.
+     *
+     * @param id identificador original del producto
+     * @throws ProductNotFoundException si el producto no está archivado
+     * @throws ProductNotRestorableException si el producto se archivó por borrado
+     */
+    @Transactional
+    public void restore(@ShardKey Long id) {
+        log.info("Restaurando producto archivado con id {}", id);
+        ProductArchive archive = productArchiveRepository.findById(id)
+            .orElseThrow(() -> new ProductNotFoundException("Producto archivado con id " + id + " no encontrado"));
+        if (archive.getReason() != ArchiveReason.DORMANT) {
+            throw new ProductNotRestorableException("El producto " + id
+                + " se archivó por borrado y no se puede restaurar");
+        }
+        ArchivedPayload payload = decode(archive.getPayload());
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(RESTORE_PRODUCT_SQL, payload.id(), payload.name(), payload.description(),
+            payload.category(), TAGS.convertToDatabaseColumn(payload.tags()), payload.price(), payload.stock(),
+            payload.reorderThreshold(), Timestamp.valueOf(payload.createdAt()), Timestamp.valueOf(now));
+        jdbcTemplate.batchUpdate("insert into product_stock (product_id, location_id, qty) values (?, ?, ?)",
+            payload.locations().entrySet().stream()
+                .map(location -> new Object[] {id, location.getKey(), location.getValue()})
+                .toList());
+        jdbcTemplate.update("delete from products_archive where id = ?", id);
+        eventPublisher.publishEvent(new ProductChangedEvent(ChangeType.CREATED, id, payload.category(),
+            payload.tags(), payload.price(), payload.stock(), payload.reorderThreshold(), now));
+    }
+
+    /**
+     * Lista productos archivados, opcionalmente de una categoría. Con el
+     * catálogo particionado cada shard devuelve sus primeras
+     * {@code (page + 1) * size} filas y la página se corta tras combinarlas
+     * por id.
+     *
+     * @param category categoría exigida, o {@code null} para cualquiera
+     * @param page página, empezando en 0
+     * @param size tamaño de página, entre 1 y {@link #MAX_PAGE_SIZE}
+     * @return resúmenes ordenados por id
+     * @throws InvalidPaginationException si la paginación no es válida
+     */
+    @Transactional(readOnly = true)
+    public List<ArchivedProductSummary> findAll(String category, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidPaginationException("Paginación inválida: page >= 0 y size entre 1 y " + MAX_PAGE_SIZE);
+        }
+        String normalizedCategory = ProductMapper.normalizeCategory(category);
+        log.info("Listando productos archivados de la categoría {}", normalizedCategory);
+        if (!shardRouter.isSharded()) {
+            return findSummaries(normalizedCategory, PageRequest.of(page, size));
+        }
+        PageRequest prefix = PageRequest.of(0, Math.multiplyExact(page + 1, size));
+        return shardRouter.scatter(shard -> findSummaries(normalizedCategory, prefix)).stream()
+            .sorted(Comparator.comparing(ArchivedProductSummary::id))
+            .skip((long) page * size)
+            .limit(size)
+            .toList();
+    }
+
+    private List<ArchivedProductSummary> findSummaries(String category, PageRequest pageable) {
+        return category == null
+            ? productArchiveRepository.findSummaries(pageable)
+            : productArchiveRepository.findSummariesByCategory(category, pageable);
+    }
+
+    /**
+     * Mueve un lote dentro de la transacción en curso.
+     *
+     * @return filas candidatas leídas y filas archivadas
+     */
+    private int[] archiveChunk(Timestamp deletedBefore, Timestamp dormantBefore, LocalDateTime now) {
+        List<ArchivedPayload> candidates = jdbcTemplate.query(SELECT_CANDIDATES_SQL, this::mapCandidate,
+            deletedBefore, dormantBefore, chunkSize);
+        if (candidates.isEmpty()) {
+            return new int[] {0, 0};
+        }
+        Map<Long, Map<String, Integer>> locations = loadLocations(candidates);
+        int[] deleted = jdbcTemplate.batchUpdate(DELETE_PRODUCT_SQL, candidates.stream()
+            .map(candidate -> new Object[] {candidate.id(), deletedBefore, dormantBefore})
+            .toList());
+
+        Timestamp archivedAt = Timestamp.valueOf(now);
+        List<Object[]> inserts = new ArrayList<>(candidates.size());
+        List<Object[]> stockDeletes = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (deleted[i] == 0) {
+                continue;
+            }
+            ArchivedPayload payload = candidates.get(i)
+                .withLocations(locations.getOrDefault(candidates.get(i).id(), Map.of()));
+            ArchiveReason reason = payload.deletedAt() != null ? ArchiveReason.DELETED : ArchiveReason.DORMANT;
+            inserts.add(new Object[] {payload.id(), payload.name(), payload.category(), reason.name(),
+                payload.deletedAt() != null ? Timestamp.valueOf(payload.deletedAt()) : null, archivedAt,
+                encode(payload)});
+            if (!payload.locations().isEmpty()) {
+                stockDeletes.add(new Object[] {payload.id()});
+            }
+            eventPublisher.publishEvent(new ProductChangedEvent(ChangeType.ARCHIVED, payload.id(),
+                payload.category(), payload.tags(), payload.price(), payload.stock(), payload.reorderThreshold(), now));
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ARCHIVE_SQL, inserts);
+        }
+        if (!stockDeletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("delete from product_stock where product_id = ?", stockDeletes);
+        }
+        return new int[] {candidates.size(), inserts.size()};
+    }
+
+    private ArchivedPayload mapCandidate(ResultSet rs, int rowNum) throws SQLException {
+        return new ArchivedPayload(rs.getLong("id"), rs.getString("name"), rs.getString("description"),
+            rs.getString("category"), TagListConverter.parse(rs.getString("tags")), rs.getBigDecimal("price"),
+            rs.getInt("stock"), rs.getObject("reorder_threshold", Integer.class), Map.of(), toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")), toLocalDateTime(rs.getTimestamp("deleted_at")));
+    }
+
+    /**
+     * Carga las existencias por ubicación de los productos no borrados del
+     * lote; las de los borrados ya se eliminaron con el borrado lógico.
+     */
+    private Map<Long, Map<String, Integer>> loadLocations(List<ArchivedPayload> candidates) {
+        List<Long> ids = candidates.stream()
+            .filter(candidate -> candidate.deletedAt() == null)
+            .map(ArchivedPayload::id)
+            .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Map<String, Integer>> locations = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query("select product_id, location_id, qty from product_stock where product_id in ("
+                + placeholders + ")", (RowCallbackHandler) rs ->
+                locations.computeIfAbsent(rs.getLong("product_id"), key -> new HashMap<>())
+                    .put(rs.getString("location_id"), rs.getInt("qty")),
+            ids.toArray());
+        return locations;
+    }
+
+    private byte[] encode(ArchivedPayload payload) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, payload);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo comprimir el producto " + payload.id(), ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private ArchivedPayload decode(byte[] payload) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, ArchivedPayload.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo descomprimir un producto archivado", ex);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /**
+     * Contenido comprimido de cada fila archivada.
+     */
+    record ArchivedPayload(Long id, String name, String description, String category, List<String> tags,
+                           BigDecimal price, Integer stock, Integer reorderThreshold, Map<String, Integer> locations,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+
+        ArchivedPayload withLocations(Map<String, Integer> stockByLocation) {
+            return new ArchivedPayload(id, name, description, category, tags, price, stock, reorderThreshold,
+                stockByLocation, createdAt, updatedAt, deletedAt);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.entity.Product;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fachada no bloqueante sobre las lecturas de {@link ProductService}. Cada
+ * operación se despacha al ejecutor acotado {@code productReadExecutor} y
+ * devuelve un {@link CompletableFuture}, lo que permite a los agregadores
+ * componer la respuesta con otros servicios sin retener hilos de Tomcat.
+ */
+@Service
+public class ProductAsyncService {
+
+    private final ProductService productService;
+    private final AsyncTaskExecutor executor;
+
+    /**
+     * Crea la fachada sobre el servicio transaccional y el pool dedicado.
+     *
+     * @param productService servicio con las lecturas transaccionales
+     * @param executor pool acotado para lecturas
+     */
+    public ProductAsyncService(ProductService productService,
+                               @Qualifier("productReadExecutor") AsyncTaskExecutor executor) {
+        this.productService = productService;
+        this.executor = executor;
+    }
+
+    /**
+     * Obtiene todos los productos de forma asíncrona.
+     *
+     * @return futuro con la lista completa
+     */
+    public CompletableFuture<List<Product>> findAll() {
+        return CompletableFuture.supplyAsync(productService::findAll, executor);
+    }
+
+    /**
+     * Busca un producto por id de forma asíncrona. El futuro termina con
+     * {@link com.bahs.inventory_api.exception.ProductNotFoundException} si no
+     * existe.
+     *
+     * @param id identificador del producto
+     * @return futuro con el producto
+     */
+    public CompletableFuture<Product> findById(Long id) {
+        return CompletableFuture.supplyAsync(() -> productService.findDetachedById(id), executor);
+    }
+
+    /**
+     * Obtiene varios productos en una única consulta; los ids inexistentes se
+     * omiten.
+     *
+     * @param ids identificadores solicitados
+     * @return futuro con los productos encontrados
+     */
+    public CompletableFuture<List<Product>> findAllById(List<Long> ids) {
+        return CompletableFuture.supplyAsync(() -> productService.findAllById(ids), executor);
+    }
+}
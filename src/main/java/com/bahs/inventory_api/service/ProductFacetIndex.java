@@ -0,0 +1,314 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.entity.TagListConverter;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.routing.ShardRouter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Índice de facetas en memoria: un {@link RoaringBitmap} de ids de producto por
+ * categoría y por etiqueta. Los filtros se resuelven con intersecciones de
+ * bitmaps y los conteos con {@link RoaringBitmap#andCardinality}, sin
+ * materializar resultados ni recorrer la tabla con {@code GROUP BY}.
+ *
+ * <p>Se construye al arrancar leyendo {@code products} de todos los shards y
+ * se mantiene con los {@link ProductChangedEvent} de alta, edición, baja y
+ * archivado tras el commit. Los ids deben caber en un {@code int}, que es el
+ * dominio de {@link RoaringBitmap}. Las lecturas comparten un cerrojo de
+ * lectura; las actualizaciones toman el de escritura y solo tocan los bitmaps
+ * de la categoría y las etiquetas que el índice recuerda para ese producto,
+ * no todos los de la faceta.</p>
+ *
+ * <p>Los oyentes tras el commit no garantizan el orden entre transacciones:
+ * el índice recuerda el {@code changedAt} del último evento aplicado a cada
+ * producto y descarta los anteriores. Las bajas dejan una lápida con su
+ * momento, de modo que una edición vieja entregada después no devuelve el
+ * producto al índice.</p>
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex implements ApplicationRunner {
+
+    private static final String LOAD_SQL = "select id, category, tags from products where deleted_at is null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> categories = new HashMap<>();
+    private final Map<String, RoaringBitmap> tags = new HashMap<>();
+    private final Map<Integer, Facets> facetsById = new HashMap<>();
+    private final Map<Integer, LastChange> lastChanges = new HashMap<>();
+
+    /**
+     * Crea el índice vacío.
+     *
+     * @param jdbcTemplate plantilla usada para la carga inicial
+     * @param shardRouter enrutador de shards del catálogo
+     */
+    public ProductFacetIndex(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * Carga el índice con el catálogo existente al arrancar, tras la posible
+     * restauración de la instantánea.
+     *
+     * @param args argumentos de arranque (no usados)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            categories.clear();
+            tags.clear();
+            facetsById.clear();
+            lastChanges.clear();
+            shardRouter.forEachShard(shard -> jdbcTemplate.query(LOAD_SQL, (RowCallbackHandler) rs ->
+                add(Math.toIntExact(rs.getLong("id")), rs.getString("category"),
+                    TagListConverter.parse(rs.getString("tags")))));
+            all.runOptimize();
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            tags.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de facetas cargado: {} productos, {} categorías, {} etiquetas en {} ms",
+            all.getLongCardinality(), categories.size(), tags.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Refleja en el índice las altas, ediciones y bajas confirmadas, salvo
+     * las anteriores al último cambio aplicado al producto o a su baja.
+     *
+     * @param event cambio de producto confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        boolean deleted;
+        switch (event.type()) {
+            case CREATED, UPDATED -> deleted = false;
+            case DELETED, ARCHIVED -> deleted = true;
+            default -> {
+                // Los cambios de stock y reservas no alteran las facetas.
+                return;
+            }
+        }
+        int id = Math.toIntExact(event.productId());
+        lock.writeLock().lock();
+        try {
+            LastChange last = lastChanges.get(id);
+            if (last != null && last.isNewerThan(event.changedAt())) {
+                log.debug("Evento {} del producto {} anterior al último aplicado, se ignora", event.type(), id);
+                return;
+            }
+            lastChanges.put(id, new LastChange(event.changedAt(), deleted));
+            removeFromFacets(id);
+            if (deleted) {
+                all.remove(id);
+            } else {
+                add(id, event.category(), event.tags());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexa o reindexa un producto con su categoría y etiquetas.
+     *
+     * @param productId identificador del producto
+     * @param category categoría, puede ser {@code null}
+     * @param productTags etiquetas normalizadas
+     */
+    public void index(Long productId, String category, Collection<String> productTags) {
+        int id = Math.toIntExact(productId);
+        lock.writeLock().lock();
+        try {
+            removeFromFacets(id);
+            add(id, category, productTags);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un producto del índice.
+     *
+     * @param productId identificador del producto
+     */
+    public void remove(Long productId) {
+        int id = Math.toIntExact(productId);
+        lock.writeLock().lock();
+        try {
+            removeFromFacets(id);
+            all.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Resuelve un filtro por categoría y etiquetas (todas obligatorias) y
+     * cuenta las facetas. Los conteos de categoría ignoran el filtro de
+     * categoría para mostrar las alternativas; los de etiqueta aplican el
+     * filtro completo.
+     *
+     * @param category categoría exigida, o {@code null}
+     * @param requiredTags etiquetas exigidas, normalizadas
+     * @param offset posición del primer id devuelto
+     * @param limit máximo de ids devueltos
+     * @return ids de la página, total y conteos por faceta
+     */
+    public FacetResult search(String category, Collection<String> requiredTags, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap tagMatches = tagFilter(requiredTags);
+            RoaringBitmap matches = category == null
+                ? tagMatches
+                : RoaringBitmap.and(tagMatches, categories.getOrDefault(category, new RoaringBitmap()));
+            return new FacetResult(matches.getLongCardinality(), page(matches, offset, limit),
+                counts(categories, tagMatches), counts(tags, matches));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap tagFilter(Collection<String> requiredTags) {
+        if (requiredTags.isEmpty()) {
+            return all;
+        }
+        List<RoaringBitmap> bitmaps = new ArrayList<>(requiredTags.size());
+        for (String tag : requiredTags) {
+            RoaringBitmap bitmap = tags.get(tag);
+            if (bitmap == null) {
+                return new RoaringBitmap();
+            }
+            bitmaps.add(bitmap);
+        }
+        return FastAggregation.and(bitmaps.iterator());
+    }
+
+    private static List<Long> page(RoaringBitmap matches, int offset, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        if (offset >= matches.getLongCardinality()) {
+            return ids;
+        }
+        PeekableIntIterator iterator = matches.getIntIterator();
+        iterator.advanceIfNeeded(matches.select(offset));
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add(Integer.toUnsignedLong(iterator.next()));
+        }
+        return ids;
+    }
+
+    /**
+     * Cuenta cuántos ids del filtro tiene cada faceta, omitiendo las vacías y
+     * ordenando de mayor a menor.
+     */
+    private static Map<String, Long> counts(Map<String, RoaringBitmap> facets, RoaringBitmap filter) {
+        List<Map.Entry<String, Long>> counted = new ArrayList<>(facets.size());
+        for (Map.Entry<String, RoaringBitmap> facet : facets.entrySet()) {
+            long count = RoaringBitmap.andCardinality(facet.getValue(), filter);
+            if (count > 0) {
+                counted.add(Map.entry(facet.getKey(), count));
+            }
+        }
+        counted.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Long> result = new LinkedHashMap<>();
+        counted.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private void add(int id, String category, Collection<String> productTags) {
+        all.add(id);
+        facetsById.put(id, new Facets(category, List.copyOf(productTags)));
+        if (category != null) {
+            categories.computeIfAbsent(category, key -> new RoaringBitmap()).add(id);
+        }
+        for (String tag : productTags) {
+            tags.computeIfAbsent(tag, key -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private void removeFromFacets(int id) {
+        Facets previous = facetsById.remove(id);
+        if (previous == null) {
+            return;
+        }
+        if (previous.category() != null) {
+            removeFrom(categories, previous.category(), id);
+        }
+        for (String tag : previous.tags()) {
+            removeFrom(tags, tag, id);
+        }
+    }
+
+    private static void removeFrom(Map<String, RoaringBitmap> facets, String facet, int id) {
+        RoaringBitmap bitmap = facets.get(facet);
+        if (bitmap != null && bitmap.checkedRemove(id) && bitmap.isEmpty()) {
+            facets.remove(facet);
+        }
+    }
+
+    /**
+     * Momento del último evento aplicado a un producto.
+     *
+     * @param at {@code changedAt} del evento
+     * @param deleted {@code true} si fue una baja o un archivado (lápida)
+     */
+    private record LastChange(LocalDateTime at, boolean deleted) {
+
+        /**
+         * Un evento anterior al último aplicado se descarta; tras una baja
+         * también uno del mismo instante.
+         */
+        boolean isNewerThan(LocalDateTime other) {
+            return deleted ? !other.isAfter(at) : other.isBefore(at);
+        }
+    }
+
+    /**
+     * Categoría y etiquetas con las que está indexado un producto.
+     *
+     * @param category categoría, puede ser {@code null}
+     * @param tags etiquetas normalizadas
+     */
+    private record Facets(String category, List<String> tags) {
+    }
+
+    /**
+     * Resultado de una búsqueda por facetas.
+     *
+     * @param total número de productos que cumplen el filtro
+     * @param ids ids de la página solicitada, en orden ascendente
+     * @param categories conteo por categoría
+     * @param tags conteo por etiqueta
+     */
+    public record FacetResult(long total, List<Long> ids, Map<String, Long> categories, Map<String, Long> tags) {
+    }
+}
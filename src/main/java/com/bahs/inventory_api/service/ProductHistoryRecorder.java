@@ -0,0 +1,132 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.routing.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Registra cada cambio de precio o stock en la tabla de solo inserción
+ * {@code product_history}. Los eventos se encolan en memoria después del commit
+ * de la transacción principal y se vuelcan periódicamente con inserciones por
+ * lotes, de modo que el historial no añade ningún viaje a la base de datos a
+ * {@link ProductService#update(Long, com.bahs.inventory_api.dto.ProductRequest)}.
+ * Con el catálogo particionado cada lote se reparte entre los shards de sus
+ * productos.
+ *
+ * <p>El historial es de mejor esfuerzo: los cambios aún en la cola (como mucho
+ * los de {@code inventory.history.flush-interval-ms}, o la cola entera si la
+ * base no responde) se pierden si el proceso muere sin pasar por
+ * {@link #flushOnShutdown()}. El cambio del producto en sí ya está confirmado;
+ * solo falta su entrada en el historial. Se acepta a cambio de no escribir en
+ * el historial dentro de cada transacción.</p>
+ */
+@Slf4j
+@Component
+public class ProductHistoryRecorder {
+
+    private static final String INSERT_SQL =
+        "insert into product_history (product_id, changed_at, price, stock) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final BlockingQueue<ProductChangedEvent> pending;
+    private final int batchSize;
+
+    /**
+     * Crea el registrador con una cola acotada.
+     *
+     * @param jdbcTemplate plantilla JDBC para las inserciones por lotes
+     * @param shardRouter enrutador de shards del catálogo
+     * @param capacity capacidad máxima de la cola en memoria
+     * @param batchSize número máximo de filas por lote
+     */
+    public ProductHistoryRecorder(JdbcTemplate jdbcTemplate,
+                                  ShardRouter shardRouter,
+                                  @Value("${inventory.history.queue-capacity:100000}") int capacity,
+                                  @Value("${inventory.history.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.pending = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Encola el cambio una vez confirmada la transacción que lo produjo. Si la
+     * cola está llena se vuelca en el hilo actual, ya fuera de la transacción.
+     * Solo se registran cambios de precio o stock; las reservas y borrados no
+     * alteran el historial.
+     *
+     * @param event cambio publicado por los servicios
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED, STOCK_CHANGED -> enqueue(event);
+            default -> { }
+        }
+    }
+
+    private void enqueue(ProductChangedEvent event) {
+        while (!pending.offer(event)) {
+            log.warn("Cola de historial llena, volcando en el hilo de la petición");
+            flush();
+        }
+    }
+
+    /**
+     * Vuelca los cambios pendientes en lotes de hasta {@code batchSize} filas.
+     *
+     * @return número de filas insertadas
+     */
+    @Scheduled(fixedDelayString = "${inventory.history.flush-interval-ms:500}")
+    public int flush() {
+        int written = 0;
+        List<ProductChangedEvent> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            if (shardRouter.isSharded()) {
+                Map<String, List<ProductChangedEvent>> byShard = batch.stream()
+                    .collect(Collectors.groupingBy(event -> shardRouter.shardFor(event.productId())));
+                byShard.forEach((shard, events) -> shardRouter.runOnShard(shard, () -> insert(events)));
+            } else {
+                insert(batch);
+            }
+            written += batch.size();
+            batch.clear();
+        }
+        if (written > 0) {
+            log.debug("Historial: {} cambios registrados", written);
+        }
+        return written;
+    }
+
+    private void insert(List<ProductChangedEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.productId());
+            ps.setTimestamp(2, Timestamp.valueOf(event.changedAt()));
+            ps.setBigDecimal(3, event.price());
+            ps.setInt(4, event.stock());
+        });
+    }
+
+    /**
+     * Vuelca los cambios pendientes antes de cerrar el contexto.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,48 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.DailyPriceAggregate;
+import com.bahs.inventory_api.entity.ProductHistory;
+import com.bahs.inventory_api.repository.ProductHistoryRepository;
+import com.bahs.inventory_api.routing.ShardKey;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio de consulta del historial de precio y stock. Permite responder qué
+ * precio tenía un producto en un momento dado sin sistemas de auditoría
+ * externos.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductHistoryService {
+
+    private final ProductHistoryRepository productHistoryRepository;
+
+    /**
+     * Obtiene los cambios de un producto dentro de un rango de fechas.
+     *
+     * @param productId identificador del producto
+     * @param from inicio del rango (inclusive)
+     * @param to fin del rango (inclusive)
+     * @return entradas ordenadas por fecha
+     */
+    public List<ProductHistory> findHistory(@ShardKey Long productId, LocalDateTime from, LocalDateTime to) {
+        return productHistoryRepository.findByProductIdAndChangedAtBetweenOrderByChangedAt(productId, from, to);
+    }
+
+    /**
+     * Obtiene el mínimo, máximo y media diaria del precio dentro de un rango.
+     *
+     * @param productId identificador del producto
+     * @param from inicio del rango (inclusive)
+     * @param to fin del rango (inclusive)
+     * @return agregados diarios ordenados por día
+     */
+    public List<DailyPriceAggregate> findDailyAggregates(@ShardKey Long productId, LocalDateTime from, LocalDateTime to) {
+        return productHistoryRepository.aggregateDaily(productId, from, to);
+    }
+}
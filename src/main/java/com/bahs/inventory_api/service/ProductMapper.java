@@ -2,6 +2,8 @@ package com.bahs.inventory_api.service;
 
 import com.bahs.inventory_api.dto.ProductRequest;
 import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.TagListConverter;
+import java.util.ArrayList;
 import org.springframework.stereotype.Component;
 
 /**
@@ -44,8 +46,11 @@ public class ProductMapper {
         ProductRequest request = new ProductRequest();
         request.setName(product.getName());
         request.setDescription(product.getDescription());
+        request.setCategory(product.getCategory());
+        request.setTags(new ArrayList<>(product.getTags()));
         request.setPrice(product.getPrice());
         request.setStock(product.getStock());
+        request.setReorderThreshold(product.getReorderThreshold());
         return request;
     }
 
@@ -58,7 +63,23 @@ public class ProductMapper {
     private void copy(ProductRequest request, Product product) {
         product.setName(request.getName());
         product.setDescription(request.getDescription());
+        product.setCategory(normalizeCategory(request.getCategory()));
+        product.setTags(new ArrayList<>(TagListConverter.normalize(request.getTags())));
         product.setPrice(request.getPrice());
         product.setStock(request.getStock());
+        product.setReorderThreshold(request.getReorderThreshold());
+    }
+
+    /**
+     * Recorta la categoría y trata la cadena vacía como ausencia de categoría.
+     *
+     * @param category categoría recibida
+     * @return categoría normalizada o {@code null}
+     */
+    public static String normalizeCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return category.trim();
     }
 }
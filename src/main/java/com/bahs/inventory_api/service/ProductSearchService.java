@@ -0,0 +1,66 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.FacetedSearchResponse;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.TagListConverter;
+import com.bahs.inventory_api.exception.InvalidPaginationException;
+import com.bahs.inventory_api.service.ProductFacetIndex.FacetResult;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Búsqueda por categoría y etiquetas. El filtro y los conteos salen del
+ * {@link ProductFacetIndex}; la base solo se consulta para cargar los
+ * productos de la página, en su shard si el catálogo está particionado.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    /** Tamaño máximo de página admitido. */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductFacetIndex facetIndex;
+    private final ProductService productService;
+
+    /**
+     * Busca productos por categoría y etiquetas (todas obligatorias).
+     *
+     * @param category categoría exigida, o {@code null} para cualquiera
+     * @param tags etiquetas exigidas, puede estar vacía
+     * @param page página, empezando en 0; {@code page * size} debe caber en un {@code int}
+     * @param size tamaño de página, entre 1 y {@link #MAX_PAGE_SIZE}
+     * @return página de productos con los conteos por faceta
+     * @throws InvalidPaginationException si la paginación no es válida
+     */
+    @Transactional(readOnly = true)
+    public FacetedSearchResponse search(String category, List<String> tags, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE || (long) page * size > Integer.MAX_VALUE) {
+            throw new InvalidPaginationException("Paginación inválida: page >= 0, size entre 1 y " + MAX_PAGE_SIZE
+                + " y page * size hasta " + Integer.MAX_VALUE);
+        }
+        String normalizedCategory = ProductMapper.normalizeCategory(category);
+        List<String> normalizedTags = TagListConverter.normalize(tags);
+        log.info("Buscando productos por categoría {} y etiquetas {}", normalizedCategory, normalizedTags);
+
+        FacetResult result = facetIndex.search(normalizedCategory, normalizedTags, page * size, size);
+        List<Product> products = result.ids().isEmpty()
+            ? List.of()
+            : productService.findAllById(result.ids()).stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .toList();
+        return FacetedSearchResponse.builder()
+            .total(result.total())
+            .page(page)
+            .size(size)
+            .products(products)
+            .categories(result.categories())
+            .tags(result.tags())
+            .build();
+    }
+}
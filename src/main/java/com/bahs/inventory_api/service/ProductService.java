@@ -1,12 +1,30 @@
 package com.bahs.inventory_api.service;
 
+import com.bahs.inventory_api.dto.ProductField;
 import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.entity.HoldStatus;
 import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.StockHold;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.event.ProductChangedEvent.ChangeType;
+import com.bahs.inventory_api.exception.InsufficientStockException;
 import com.bahs.inventory_api.exception.ProductNotFoundException;
 import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.repository.ProductStockRepository;
+import com.bahs.inventory_api.repository.StockHoldRepository;
+import com.bahs.inventory_api.routing.ShardKey;
+import com.bahs.inventory_api.routing.ShardRouter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,7 +32,12 @@ import org.springframework.transaction.annotation.Transactional;
  * Servicio que encapsula la lógica de negocio relacionada con productos y
  * delega las operaciones persistentes al {@link ProductRepository}. Es
  * reutilizado tanto por el controlador REST ({@code /api/products}) como por el
- * controlador de vistas ({@code /products}).
+ * controlador de vistas ({@code /products}). Cada escritura publica un
+ * {@link ProductChangedEvent} que los oyentes procesan tras el commit.
+ *
+ * <p>Con el catálogo particionado, las operaciones por id van al shard del
+ * producto ({@link ShardKey}) y los listados se reparten entre todos los
+ * shards con {@link ShardRouter#scatter} y se combinan ordenados por id.</p>
  */
 @Slf4j
 @Service
@@ -23,70 +46,188 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final StockHoldRepository stockHoldRepository;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
 
     /**
-     * Obtiene todos los productos registrados en la base de datos.
+     * Obtiene todos los productos registrados en la base de datos. La
+     * descripción, que la entidad carga de forma diferida, se incluye en la
+     * misma consulta para no lanzar una lectura adicional por producto.
      *
      * @return lista completa de productos disponibles
      */
     @Transactional(readOnly = true)
     public List<Product> findAll() {
         log.info("Listando todos los productos");
-        return productRepository.findAll();
+        if (!shardRouter.isSharded()) {
+            return productRepository.findAllWithDescription();
+        }
+        return shardRouter.scatter(shard -> productRepository.findAllWithDescription()).stream()
+            .sorted(Comparator.comparing(Product::getId))
+            .toList();
     }
 
     /**
-     * Busca un producto por su identificador.
+     * Lista todos los productos proyectando solo los campos pedidos; las
+     * columnas no solicitadas no se seleccionan.
+     *
+     * @param fields campos solicitados
+     * @return una fila por producto ordenada por id
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAllFields(Set<ProductField> fields) {
+        log.info("Listando productos con los campos {}", fields);
+        if (!shardRouter.isSharded()) {
+            return productRepository.findAllFields(fields);
+        }
+        boolean withId = fields.contains(ProductField.ID);
+        Set<ProductField> selected = EnumSet.copyOf(fields);
+        selected.add(ProductField.ID);
+        String id = ProductField.ID.getProperty();
+        List<Map<String, Object>> rows = new ArrayList<>(
+            shardRouter.scatter(shard -> productRepository.findAllFields(selected)));
+        rows.sort(Comparator.comparing((Map<String, Object> row) -> (Long) row.get(id)));
+        if (!withId) {
+            rows.forEach(row -> row.remove(id));
+        }
+        return rows;
+    }
+
+    /**
+     * Busca un producto por su identificador. La descripción queda sin cargar
+     * y solo puede leerse dentro de la transacción; para serializar el
+     * producto se usa {@link #findDetachedById(Long)}.
      *
      * @param id identificador del producto
      * @return producto encontrado
      * @throws ProductNotFoundException cuando no existe un registro con el id solicitado
      */
     @Transactional(readOnly = true)
-    public Product findById(Long id) {
+    public Product findById(@ShardKey Long id) {
         log.info("Buscando producto con id {}", id);
-        return productRepository.findById(id)
-            .orElseThrow(() -> new ProductNotFoundException("Producto con id " + id + " no encontrado"));
+        return productRepository.findById(id).orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Busca un producto por id con todas sus columnas en una única consulta y
+     * lo devuelve desacoplado, listo para serializarse fuera de la sesión.
+     *
+     * @param id identificador del producto
+     * @return producto completo
+     * @throws ProductNotFoundException cuando no existe un registro con el id solicitado
+     */
+    @Transactional(readOnly = true)
+    public Product findDetachedById(@ShardKey Long id) {
+        log.info("Buscando producto completo con id {}", id);
+        return productRepository.findWithDescriptionById(id).orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Obtiene los campos pedidos de un producto.
+     *
+     * @param id identificador del producto
+     * @param fields campos solicitados
+     * @return propiedades del producto en orden de respuesta
+     * @throws ProductNotFoundException cuando no existe un registro con el id solicitado
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findFieldsById(@ShardKey Long id, Set<ProductField> fields) {
+        log.info("Buscando producto con id {} y campos {}", id, fields);
+        return productRepository.findFieldsById(id, fields).orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Obtiene varios productos por sus identificadores en una sola consulta
+     * por shard.
+     *
+     * @param ids identificadores solicitados
+     * @return productos encontrados; los ids inexistentes se omiten
+     */
+    @Transactional(readOnly = true)
+    public List<Product> findAllById(List<Long> ids) {
+        log.info("Buscando {} productos por id", ids.size());
+        if (!shardRouter.isSharded()) {
+            return productRepository.findAllWithDescriptionById(ids);
+        }
+        Map<String, List<Long>> idsByShard = ids.stream().collect(Collectors.groupingBy(shardRouter::shardFor));
+        return shardRouter.scatter(shard -> idsByShard.containsKey(shard)
+            ? productRepository.findAllWithDescriptionById(idsByShard.get(shard))
+            : List.of());
     }
 
     /**
-     * Crea un nuevo producto a partir de los datos enviados en el DTO.
+     * Crea un nuevo producto a partir de los datos enviados en el DTO. Con el
+     * catálogo particionado el id se reserva antes en la secuencia global y la
+     * fila se inserta en el shard que le corresponde.
      *
      * @param request datos validados a persistir
      * @return producto guardado
      */
     public Product create(ProductRequest request) {
         log.info("Creando un nuevo producto con nombre {}", request.getName());
-        Product product = productMapper.toEntity(request);
-        return productRepository.save(product);
+        Product product = shardRouter.isSharded()
+            ? insertOnShard(productMapper.toEntity(request))
+            : productRepository.save(productMapper.toEntity(request));
+        eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.CREATED, product));
+        return product;
     }
 
     /**
-     * Actualiza un producto existente usando la información del DTO.
+     * Actualiza un producto existente usando la información del DTO. Si el
+     * producto gestiona su stock por ubicaciones, el total se conserva: solo
+     * cambia a través de {@link StockService} para no romper el contador
+     * desnormalizado.
      *
      * @param id identificador del producto a actualizar
      * @param request datos nuevos
      * @return producto actualizado
      * @throws ProductNotFoundException si el producto no existe
+     * @throws InsufficientStockException si el nuevo stock no cubre las
+     *         unidades reservadas
      */
-    public Product update(Long id, ProductRequest request) {
+    public Product update(@ShardKey Long id, ProductRequest request) {
         log.info("Actualizando producto con id {}", id);
-        Product product = findById(id);
+        Product product = productRepository.findForUpdate(id).orElseThrow(() -> notFound(id));
+        Integer total = product.getStock();
         productMapper.updateEntity(request, product);
-        return productRepository.save(product);
+        if (productStockRepository.existsByProductId(id)) {
+            product.setStock(total);
+        } else if (product.getStock() < product.getReserved()) {
+            throw new InsufficientStockException("El stock del producto " + id + " no puede ser menor que las "
+                + product.getReserved() + " unidades reservadas");
+        }
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.UPDATED, saved));
+        return saved;
     }
 
     /**
-     * Elimina un producto en base a su identificador.
+     * Elimina un producto de forma lógica: marca {@code deleted_at}, con lo que
+     * deja de aparecer en las consultas, borra sus existencias por ubicación y
+     * cancela sus reservas activas, que ya no podrían confirmarse.
+     * {@link ProductArchiveService} mueve después la fila a
+     * {@code products_archive}. Las reservas se bloquean antes que el
+     * producto, en el mismo orden que {@link HoldService}; sus temporizadores
+     * pendientes no hacen nada al vencer.
      *
      * @param id identificador del producto a eliminar
      * @throws ProductNotFoundException si el producto no existe
      */
-    public void delete(Long id) {
+    public void delete(@ShardKey Long id) {
         log.info("Eliminando producto con id {}", id);
-        Product product = findById(id);
-        productRepository.delete(product);
+        List<StockHold> holds = stockHoldRepository.findActiveForUpdate(id);
+        Product product = productRepository.findForUpdate(id).orElseThrow(() -> notFound(id));
+        for (StockHold hold : holds) {
+            hold.setStatus(HoldStatus.CANCELLED);
+            product.setReserved(product.getReserved() - hold.getQuantity());
+        }
+        productStockRepository.deleteByProductId(id);
+        product.setDeletedAt(LocalDateTime.now());
+        productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.DELETED, product));
     }
 
     /**
@@ -98,8 +239,25 @@ public class ProductService {
      * @throws ProductNotFoundException si no existe el producto
      */
     @Transactional(readOnly = true)
-    public ProductRequest getProductForm(Long id) {
+    public ProductRequest getProductForm(@ShardKey Long id) {
         Product product = findById(id);
         return productMapper.toRequest(product);
     }
+
+    /**
+     * Reserva el id e inserta el producto fijando antes su shard; la inserción
+     * es la primera sentencia de la transacción, así que la conexión física se
+     * pide ya a ese shard.
+     */
+    private Product insertOnShard(Product product) {
+        product.setId(shardRouter.nextProductId());
+        return shardRouter.callOnShard(shardRouter.shardFor(product.getId()), () -> {
+            productRepository.insertWithId(product);
+            return product;
+        });
+    }
+
+    private ProductNotFoundException notFound(Long id) {
+        return new ProductNotFoundException("Producto con id " + id + " no encontrado");
+    }
 }
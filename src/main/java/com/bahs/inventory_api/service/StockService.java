@@ -0,0 +1,196 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.LocationStockTotal;
+import com.bahs.inventory_api.dto.ProductStockSummary;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.ProductStock;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.event.ProductChangedEvent.ChangeType;
+import com.bahs.inventory_api.exception.InsufficientStockException;
+import com.bahs.inventory_api.exception.ProductNotFoundException;
+import com.bahs.inventory_api.exception.UnlocatedHoldsException;
+import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.repository.ProductStockRepository;
+import com.bahs.inventory_api.routing.ShardKey;
+import com.bahs.inventory_api.routing.ShardRouter;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio que gestiona las existencias por ubicación ({@link ProductStock}).
+ * Cada escritura bloquea la fila del producto y la fila
+ * {@code (product_id, location_id)} y aplica la diferencia al total
+ * desnormalizado de {@link Product#getStock()} en la misma transacción, de modo
+ * que leer el total de un producto sigue siendo una única búsqueda por clave
+ * primaria. La primera ubicación de un producto sustituye el stock que tenía
+ * sin ubicación, de modo que el total siempre es la suma de sus ubicaciones.
+ * Las existencias viven en el shard de su producto; los listados
+ * y totales por ubicación se calculan en todos los shards y se combinan.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StockService {
+
+    private final ProductStockRepository productStockRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
+
+    /**
+     * Obtiene el total de un producto junto con su desglose por ubicación.
+     *
+     * @param productId identificador del producto
+     * @return resumen de existencias
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    @Transactional(readOnly = true)
+    public ProductStockSummary getProductStock(@ShardKey Long productId) {
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> notFound(productId));
+        return ProductStockSummary.builder()
+            .productId(productId)
+            .total(product.getStock())
+            .locations(productStockRepository.findByProductIdOrderByLocationId(productId))
+            .build();
+    }
+
+    /**
+     * Fija la cantidad absoluta de un producto en una ubicación, creando la
+     * fila si no existía.
+     *
+     * @param productId identificador del producto
+     * @param locationId código de la ubicación
+     * @param qty nueva cantidad (no negativa)
+     * @return existencia actualizada
+     * @throws ProductNotFoundException si el producto no existe
+     * @throws InsufficientStockException si el total quedaría por debajo de lo reservado
+     * @throws UnlocatedHoldsException si es la primera ubicación de un
+     *         producto con reservas activas
+     */
+    public ProductStock setLocationStock(@ShardKey Long productId, String locationId, int qty) {
+        log.info("Fijando stock del producto {} en {} a {}", productId, locationId, qty);
+        Product product = lockProduct(productId);
+        ProductStock stock = lockOrCreate(product, locationId);
+        int delta = qty - stock.getQty();
+        stock.setQty(qty);
+        return applyDelta(product, stock, delta);
+    }
+
+    /**
+     * Suma o resta unidades a la existencia de un producto en una ubicación.
+     *
+     * @param productId identificador del producto
+     * @param locationId código de la ubicación
+     * @param delta unidades a sumar; negativo para restar
+     * @return existencia actualizada
+     * @throws ProductNotFoundException si el producto no existe
+     * @throws InsufficientStockException si la ubicación quedaría en negativo o
+     *         el total por debajo de lo reservado
+     * @throws UnlocatedHoldsException si es la primera ubicación de un
+     *         producto con reservas activas
+     */
+    public ProductStock adjustLocationStock(@ShardKey Long productId, String locationId, int delta) {
+        log.info("Ajustando stock del producto {} en {} en {}", productId, locationId, delta);
+        Product product = lockProduct(productId);
+        ProductStock stock = lockOrCreate(product, locationId);
+        int qty = stock.getQty() + delta;
+        if (qty < 0) {
+            throw new InsufficientStockException("Stock insuficiente del producto " + productId
+                + " en la ubicación " + locationId);
+        }
+        stock.setQty(qty);
+        return applyDelta(product, stock, delta);
+    }
+
+    /**
+     * Lista los productos de una ubicación con menos unidades que el umbral.
+     *
+     * @param locationId código de la ubicación
+     * @param threshold umbral exclusivo
+     * @return existencias con bajo stock, de menor a mayor cantidad
+     */
+    @Transactional(readOnly = true)
+    public List<ProductStock> findLowStock(String locationId, int threshold) {
+        if (!shardRouter.isSharded()) {
+            return productStockRepository.findByLocationIdAndQtyLessThanOrderByQtyAsc(locationId, threshold);
+        }
+        return shardRouter.scatter(shard ->
+                productStockRepository.findByLocationIdAndQtyLessThanOrderByQtyAsc(locationId, threshold)).stream()
+            .sorted(Comparator.comparingInt(ProductStock::getQty))
+            .toList();
+    }
+
+    /**
+     * Calcula el total de unidades almacenadas en una ubicación.
+     *
+     * @param locationId código de la ubicación
+     * @return total de la ubicación
+     */
+    @Transactional(readOnly = true)
+    public LocationStockTotal getLocationTotal(String locationId) {
+        return LocationStockTotal.builder()
+            .locationId(locationId)
+            .total(shardRouter.scatter(shard -> List.of(productStockRepository.sumQtyByLocationId(locationId)))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum())
+            .build();
+    }
+
+    /**
+     * Bloquea la fila del producto; todas las escrituras de stock del mismo
+     * producto se serializan sobre ella.
+     */
+    private Product lockProduct(Long productId) {
+        return productRepository.findForUpdate(productId).orElseThrow(() -> notFound(productId));
+    }
+
+    /**
+     * Bloquea la existencia de la ubicación o crea una nueva con cantidad 0.
+     * Si es la primera ubicación del producto, su total pasa a 0 para que
+     * quede igual a la suma de ubicaciones: el stock que tenía sin ubicación
+     * no está en ninguna y no se arrastra. No se admite mientras tenga
+     * reservas activas, que no tienen ubicación de la que descontar.
+     */
+    private ProductStock lockOrCreate(Product product, String locationId) {
+        Long productId = product.getId();
+        return productStockRepository.findForUpdate(productId, locationId).orElseGet(() -> {
+            if (!productStockRepository.existsByProductId(productId)) {
+                if (product.getReserved() > 0) {
+                    throw new UnlocatedHoldsException("El producto " + productId
+                        + " tiene reservas activas sin ubicación: confírmelas o cancélelas antes");
+                }
+                product.setStock(0);
+            }
+            return new ProductStock(productId, locationId, 0);
+        });
+    }
+
+    /**
+     * Persiste la existencia, aplica la diferencia al total del producto y
+     * publica el cambio. Una bajada que deje el total por debajo de las
+     * unidades reservadas se rechaza.
+     */
+    private ProductStock applyDelta(Product product, ProductStock stock, int delta) {
+        int total = product.getStock() + delta;
+        if (delta < 0 && total < product.getReserved()) {
+            throw new InsufficientStockException("Stock insuficiente del producto " + product.getId()
+                + ": quedaría por debajo de las " + product.getReserved() + " unidades reservadas");
+        }
+        product.setStock(total);
+        ProductStock saved = productStockRepository.save(stock);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.STOCK_CHANGED, product));
+        return saved;
+    }
+
+    private ProductNotFoundException notFound(Long productId) {
+        return new ProductNotFoundException("Producto con id " + productId + " no encontrado");
+    }
+}
@@ -0,0 +1,48 @@
+package com.bahs.inventory_api.warmup;
+
+/**
+ * Decide cuándo la latencia se ha estabilizado: el p99 de cada ronda debe
+ * variar menos de la tolerancia respecto al de la ronda anterior durante un
+ * número de rondas consecutivas.
+ */
+public class LatencyStabilityTracker {
+
+    private final int requiredRounds;
+    private final double tolerance;
+    private long previousP99 = -1;
+    private int stableRounds;
+
+    /**
+     * Crea el detector.
+     *
+     * @param requiredRounds rondas consecutivas estables necesarias
+     * @param tolerance variación relativa admitida, p. ej. {@code 0.2}
+     */
+    public LatencyStabilityTracker(int requiredRounds, double tolerance) {
+        this.requiredRounds = requiredRounds;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Registra el p99 de una ronda.
+     *
+     * @param p99Nanos percentil 99 de la ronda en nanosegundos
+     * @return {@code true} si con esta ronda la latencia es estable
+     */
+    public boolean record(long p99Nanos) {
+        if (previousP99 > 0 && Math.abs(p99Nanos - previousP99) <= previousP99 * tolerance) {
+            stableRounds++;
+        } else {
+            stableRounds = 0;
+        }
+        previousP99 = p99Nanos;
+        return isStable();
+    }
+
+    /**
+     * @return {@code true} si se alcanzaron las rondas estables requeridas
+     */
+    public boolean isStable() {
+        return stableRounds >= requiredRounds;
+    }
+}
@@ -0,0 +1,46 @@
+package com.bahs.inventory_api.warmup;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica en {@code /actuator/health/warmup} el resultado del calentamiento:
+ * rondas, tiempo hasta la latencia estable y p99 inicial y final. Siempre
+ * informa {@code UP}; la readiness ya queda retenida mientras el calentamiento
+ * corre.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final ObjectProvider<WarmupRunner> warmupRunner;
+
+    /**
+     * Crea el indicador.
+     *
+     * @param warmupRunner calentador, ausente si está desactivado
+     */
+    public WarmupHealthIndicator(ObjectProvider<WarmupRunner> warmupRunner) {
+        this.warmupRunner = warmupRunner;
+    }
+
+    @Override
+    public Health health() {
+        WarmupRunner runner = warmupRunner.getIfAvailable();
+        WarmupReport report = runner != null ? runner.getReport() : null;
+        if (report == null) {
+            return Health.up().withDetail("executed", false).build();
+        }
+        return Health.up()
+            .withDetail("executed", true)
+            .withDetail("stable", report.stable())
+            .withDetail("rounds", report.rounds())
+            .withDetail("requests", report.requests())
+            .withDetail("errors", report.errors())
+            .withDetail("timeToStableMillis", report.timeToStableMillis())
+            .withDetail("firstRoundP99Millis", report.firstRoundP99Millis())
+            .withDetail("lastRoundP99Millis", report.lastRoundP99Millis())
+            .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.bahs.inventory_api.warmup;
+
+/**
+ * Resultado de la fase de calentamiento.
+ *
+ * @param rounds rondas ejecutadas
+ * @param requests peticiones enviadas
+ * @param errors peticiones con error de red o estado 5xx
+ * @param stable {@code true} si la latencia se estabilizó antes del límite
+ * @param timeToStableMillis tiempo hasta estabilizarse, o total si no lo hizo
+ * @param firstRoundP99Millis p99 de la primera ronda
+ * @param lastRoundP99Millis p99 de la última ronda
+ */
+public record WarmupReport(int rounds, long requests, long errors, boolean stable, long timeToStableMillis,
+                           double firstRoundP99Millis, double lastRoundP99Millis) {
+}
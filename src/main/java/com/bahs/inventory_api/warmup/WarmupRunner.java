@@ -0,0 +1,192 @@
+package com.bahs.inventory_api.warmup;
+
+import com.bahs.inventory_api.config.WarmupProperties;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fase de calentamiento previa a la readiness. Spring Boot publica
+ * {@code ReadinessState.ACCEPTING_TRAFFIC} solo cuando terminan los
+ * {@link ApplicationRunner}, así que mientras este se ejecuta el probe
+ * {@code /actuator/health/readiness} sigue en {@code OUT_OF_SERVICE} aunque
+ * Tomcat ya escuche en el puerto.
+ *
+ * <p>Envía tráfico sintético de solo lectura al propio servidor: lecturas por
+ * id y por campos, lectura asíncrona, vistas Thymeleaf de detalle, edición y
+ * alta, un alta inválida que recorre la validación y el manejador de errores,
+ * y los listados completos si el catálogo es pequeño. Así se inicializan los
+ * planes de consulta de Hibernate, los serializadores de Jackson, las
+ * plantillas, las conexiones de Hikari y el código caliente del JIT. Se
+ * ejecuta por rondas hasta que el p99 se estabiliza o se agota
+ * {@code inventory.warmup.max-duration}, e informa del tiempo hasta la
+ * latencia estable.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(name = "inventory.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String INVALID_PRODUCT = "{\"name\":\"\",\"price\":0,\"stock\":-1}";
+
+    private final ApplicationContext applicationContext;
+    private final JdbcTemplate jdbcTemplate;
+    private final WarmupProperties properties;
+    private volatile WarmupReport report;
+
+    /**
+     * Crea el calentador.
+     *
+     * @param applicationContext contexto, para conocer el puerto del servidor
+     * @param jdbcTemplate plantilla para muestrear ids existentes
+     * @param properties configuración del calentamiento
+     */
+    public WarmupRunner(ApplicationContext applicationContext, JdbcTemplate jdbcTemplate,
+                        WarmupProperties properties) {
+        this.applicationContext = applicationContext;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Ejecuta el calentamiento si hay un servidor web real escuchando.
+     *
+     * @param args argumentos de arranque (no usados)
+     */
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!(applicationContext instanceof WebServerApplicationContext web) || web.getWebServer() == null) {
+            log.debug("Sin servidor web, se omite el calentamiento");
+            return;
+        }
+        List<HttpRequest> requests = syntheticRequests("http://localhost:" + web.getWebServer().getPort());
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getConcurrency());
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build()) {
+            report = warmUp(client, executor, requests);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("Calentamiento {} en {} ms: {} rondas, {} peticiones, {} errores, p99 {} ms -> {} ms",
+            report.stable() ? "estable" : "sin estabilizar", report.timeToStableMillis(), report.rounds(),
+            report.requests(), report.errors(), report.firstRoundP99Millis(), report.lastRoundP99Millis());
+    }
+
+    /**
+     * @return resultado del último calentamiento, o {@code null} si no se ejecutó
+     */
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    private WarmupReport warmUp(HttpClient client, ExecutorService executor, List<HttpRequest> requests)
+            throws Exception {
+        LatencyStabilityTracker tracker = new LatencyStabilityTracker(properties.getStableRounds(),
+            properties.getTolerance());
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+        AtomicLong errors = new AtomicLong();
+        int rounds = 0;
+        long firstP99 = 0;
+        long lastP99 = 0;
+        while (!tracker.isStable() && System.nanoTime() < deadline) {
+            lastP99 = round(client, executor, requests, rounds, errors);
+            if (rounds == 0) {
+                firstP99 = lastP99;
+            }
+            rounds++;
+            tracker.record(lastP99);
+            log.debug("Ronda de calentamiento {}: p99 {} ms", rounds, lastP99 / 1_000_000.0);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new WarmupReport(rounds, (long) rounds * properties.getRoundSize(), errors.get(), tracker.isStable(),
+            elapsedMillis, firstP99 / 1_000_000.0, lastP99 / 1_000_000.0);
+    }
+
+    /**
+     * Envía una ronda repartiendo las peticiones sintéticas en orden circular.
+     *
+     * @return p99 de la ronda en nanosegundos
+     */
+    private long round(HttpClient client, ExecutorService executor, List<HttpRequest> requests, int round,
+                       AtomicLong errors) throws Exception {
+        int size = properties.getRoundSize();
+        long[] latencies = new long[size];
+        List<Future<?>> pending = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            HttpRequest request = requests.get((round * size + i) % requests.size());
+            pending.add(executor.submit(() -> {
+                long begin = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 500) {
+                        errors.incrementAndGet();
+                    }
+                } catch (Exception ex) {
+                    errors.incrementAndGet();
+                }
+                latencies[index] = System.nanoTime() - begin;
+            }));
+        }
+        for (Future<?> future : pending) {
+            future.get();
+        }
+        Arrays.sort(latencies);
+        return latencies[Math.max(0, (int) Math.ceil(size * 0.99) - 1)];
+    }
+
+    private List<HttpRequest> syntheticRequests(String base) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "select id from products where deleted_at is null order by id limit ?", Long.class,
+            properties.getSampleIds());
+        if (ids.isEmpty()) {
+            ids = List.of(0L);
+        }
+        List<HttpRequest> requests = new ArrayList<>();
+        for (Long id : ids) {
+            requests.add(get(base + "/api/products/" + id));
+            requests.add(get(base + "/api/products/" + id + "?fields=id,name,price,stock"));
+            requests.add(get(base + "/api/async/products/" + id));
+            requests.add(get(base + "/products/" + id));
+            requests.add(get(base + "/products/" + id + "/edit"));
+        }
+        requests.add(get(base + "/products/new"));
+        requests.add(HttpRequest.newBuilder(URI.create(base + "/api/products"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(INVALID_PRODUCT))
+            .build());
+        Long rows = jdbcTemplate.queryForObject("select count(*) from products where deleted_at is null",
+            Long.class);
+        if (rows != null && rows <= properties.getListMaxRows()) {
+            requests.add(get(base + "/api/products"));
+            requests.add(get(base + "/products"));
+        }
+        return requests;
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.bahs.inventory_api.benchmark;
+
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.service.ProductService;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark que compara la lectura síncrona ({@code /api/products/{id}}) con la
+ * no bloqueante ({@code /api/async/products/{id}}) bajo miles de clientes
+ * concurrentes. Reporta latencias p50/p99 y el pico de hilos vivos de la JVM en
+ * cada escenario. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AsyncReadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncReadBenchmarkTest.class);
+
+    private static final int CONCURRENT_CLIENTS = 2_000;
+    private static final int PRODUCTS = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    /**
+     * Siembra un catálogo pequeño para las lecturas.
+     */
+    @BeforeAll
+    void seedCatalog() {
+        for (int i = 0; i < PRODUCTS; i++) {
+            ProductRequest request = new ProductRequest();
+            request.setName("Producto " + i);
+            request.setPrice(new BigDecimal("10.00"));
+            request.setStock(i);
+            Product product = productService.create(request);
+            ids.add(product.getId());
+        }
+    }
+
+    /**
+     * Lanza la misma ráfaga contra ambos caminos y registra los resultados.
+     */
+    @Test
+    @DisplayName("concurrentReads_shouldCompareSyncAndAsyncPaths")
+    void concurrentReads_shouldCompareSyncAndAsyncPaths() {
+        burst("/api/products/");
+        burst("/api/products/");
+        burst("/api/async/products/");
+    }
+
+    /**
+     * Dispara {@link #CONCURRENT_CLIENTS} peticiones simultáneas y registra las
+     * latencias y el pico de hilos.
+     */
+    private void burst(String path) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()) {
+            long[] latencies = new long[CONCURRENT_CLIENTS];
+            List<CompletableFuture<Void>> requests = new ArrayList<>(CONCURRENT_CLIENTS);
+            for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+                int index = i;
+                long start = System.nanoTime();
+                HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + path + ids.get(i % ids.size()))).GET().build();
+                requests.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        latencies[index] = System.nanoTime() - start;
+                        assertThat(response.statusCode()).isEqualTo(200);
+                    }));
+            }
+            CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+
+            Arrays.sort(latencies);
+            log.info("{}: p50 {} ms, p99 {} ms, pico de hilos {}", path,
+                latencies[CONCURRENT_CLIENTS / 2] / 1_000_000.0,
+                latencies[CONCURRENT_CLIENTS * 99 / 100] / 1_000_000.0,
+                threads.getPeakThreadCount());
+        }
+    }
+}
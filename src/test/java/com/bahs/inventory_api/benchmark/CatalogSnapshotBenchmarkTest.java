@@ -0,0 +1,76 @@
+package com.bahs.inventory_api.benchmark;
+
+import com.bahs.inventory_api.service.CatalogSnapshotService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de la instantánea del catálogo: siembra {@code benchmark.snapshot.products}
+ * productos (un millón por defecto) con categoría, etiquetas y descripción
+ * corta, escribe la instantánea, vacía la tabla y mide la restauración, que es
+ * lo que retrasa el arranque en caliente. Registra tiempos, tamaño del archivo
+ * y filas por segundo; no los comprueba porque dependen de la máquina. Se
+ * ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "inventory.snapshot.enabled=true",
+    "inventory.snapshot.path=target/snapshot-benchmark/products.snapshot",
+    "inventory.snapshot.interval-ms=3600000"
+})
+class CatalogSnapshotBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotBenchmarkTest.class);
+
+    private static final int PRODUCTS = Integer.getInteger("benchmark.snapshot.products", 1_000_000);
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Mide escritura y restauración de la instantánea sobre el catálogo
+     * sembrado.
+     */
+    @Test
+    @DisplayName("restore_shouldMeasureLargeCatalog")
+    void restore_shouldMeasureLargeCatalog() throws IOException {
+        jdbcTemplate.update("delete from products");
+        jdbcTemplate.update("insert into products (name, description, category, tags, price, stock, reserved, "
+            + "created_at, updated_at) select 'Producto ' || x, 'Descripción del producto ' || x, "
+            + "'Categoría ' || mod(x, 50), 'tag' || mod(x, 20) || ',tag' || mod(x, 7), 9.99, mod(x, 500), 0, "
+            + "current_timestamp, current_timestamp from system_range(1, ?)", PRODUCTS);
+        Path snapshot = tempDir.resolve("products.snapshot");
+
+        long start = System.nanoTime();
+        assertThat(catalogSnapshotService.writeSnapshot(snapshot)).isEqualTo(PRODUCTS);
+        long writeMs = (System.nanoTime() - start) / 1_000_000;
+        jdbcTemplate.update("delete from products");
+
+        start = System.nanoTime();
+        assertThat(catalogSnapshotService.restore(snapshot)).isEqualTo(PRODUCTS);
+        long restoreMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from products", Long.class)).isEqualTo(PRODUCTS);
+        log.info("Instantánea de {} productos: {} MB, escritura {} ms, restauración {} ms ({} filas/s)", PRODUCTS,
+            Files.size(snapshot) / (1024 * 1024), writeMs, restoreMs, PRODUCTS * 1000L / Math.max(restoreMs, 1));
+        jdbcTemplate.update("delete from products");
+    }
+}
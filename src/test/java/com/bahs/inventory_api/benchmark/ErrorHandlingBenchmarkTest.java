@@ -0,0 +1,179 @@
+package com.bahs.inventory_api.benchmark;
+
+import com.bahs.inventory_api.controller.ProductController;
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.exception.GlobalExceptionHandler;
+import com.bahs.inventory_api.exception.ProductNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.Getter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark del camino de error del API: compara el coste de un 404 y de un 400
+ * con el manejador anterior ({@code ApiErrorResponse}, excepción con traza de
+ * pila, stream de errores y {@code LocalDateTime.now()}, reproducido tal cual
+ * en {@link LegacyExceptionHandler}) frente al {@link GlobalExceptionHandler}
+ * actual con excepciones sin traza y respuestas problem+json. Cada operación
+ * crea la excepción, la maneja y serializa el cuerpo con Jackson, como en una
+ * petición real. Los tiempos se registran, no se comprueban: dependen de la
+ * máquina. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ErrorHandlingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ErrorHandlingBenchmarkTest.class);
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 500_000;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final LegacyExceptionHandler legacyHandler = new LegacyExceptionHandler();
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    /** Evita que el JIT elimine el trabajo medido. */
+    private long sink;
+
+    /**
+     * Mide el coste por petición 404 con el manejador anterior y el actual.
+     */
+    @Test
+    @DisplayName("notFound_shouldMeasureBeforeAndAfter")
+    void notFound_shouldMeasureBeforeAndAfter() throws JsonProcessingException {
+        assertThat(legacyHandler.handleProductNotFound(new LegacyProductNotFoundException("x")).getStatusCode())
+            .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(handler.handleProductNotFound(new ProductNotFoundException("x")).getStatusCode())
+            .isEqualTo(HttpStatus.NOT_FOUND);
+
+        double before = nanosPerOp("404 antes", () -> serialize(legacyHandler.handleProductNotFound(
+            new LegacyProductNotFoundException("Producto con id " + sink + " no encontrado"))));
+        double after = nanosPerOp("404 después", () -> serialize(handler.handleProductNotFound(
+            new ProductNotFoundException("Producto con id " + sink + " no encontrado"))));
+        log.info("404: {}x", String.format("%.2f", before / after));
+    }
+
+    /**
+     * Mide el coste por petición 400 con tres errores de campo con el
+     * manejador anterior y el actual.
+     */
+    @Test
+    @DisplayName("validation_shouldMeasureBeforeAndAfter")
+    void validation_shouldMeasureBeforeAndAfter() throws NoSuchMethodException, JsonProcessingException {
+        MethodArgumentNotValidException ex = buildValidationException();
+        assertThat(legacyHandler.handleValidationErrors(ex).getBody().getErrors()).hasSize(3);
+        assertThat(handler.handleValidationErrors(ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        double before = nanosPerOp("400 antes", () -> serialize(legacyHandler.handleValidationErrors(ex)));
+        double after = nanosPerOp("400 después", () -> serialize(handler.handleValidationErrors(ex)));
+        log.info("400: {}x", String.format("%.2f", before / after));
+    }
+
+    private long serialize(ResponseEntity<?> response) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(response.getBody()).length + response.getStatusCode().value();
+    }
+
+    /**
+     * Ejecuta la operación en un bucle caliente y registra los nanosegundos
+     * medios por invocación.
+     */
+    private double nanosPerOp(String label, Operation operation) throws JsonProcessingException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += operation.run();
+        }
+        double nanos = (double) (System.nanoTime() - start) / MEASURED_ITERATIONS;
+        log.info("{}: {} ns/op", label, String.format("%.1f", nanos));
+        return nanos;
+    }
+
+    /**
+     * Construye la misma excepción que Spring lanza al validar un
+     * {@link ProductRequest} con nombre, precio y stock inválidos.
+     */
+    private MethodArgumentNotValidException buildValidationException() throws NoSuchMethodException {
+        MethodParameter parameter = new MethodParameter(
+            ProductController.class.getMethod("createProduct", ProductRequest.class), 0);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new ProductRequest(), "productRequest");
+        bindingResult.rejectValue("name", "NotBlank", "El nombre es obligatorio");
+        bindingResult.rejectValue("price", "DecimalMin", "El precio debe ser mayor a 0");
+        bindingResult.rejectValue("stock", "Min", "El stock debe ser mayor o igual a 0");
+        return new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    /** Operación medida. */
+    @FunctionalInterface
+    private interface Operation {
+        long run() throws JsonProcessingException;
+    }
+
+    /** Excepción de producto no encontrado anterior, con traza de pila. */
+    static class LegacyProductNotFoundException extends RuntimeException {
+
+        LegacyProductNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    /** Cuerpo de error anterior a problem+json. */
+    @Getter
+    @Builder
+    static class LegacyApiErrorResponse {
+
+        private final LocalDateTime timestamp;
+        private final int status;
+        private final String message;
+        private final List<String> errors;
+    }
+
+    /** Manejador de errores anterior, sin cambios salvo los nombres de tipo. */
+    static class LegacyExceptionHandler {
+
+        ResponseEntity<LegacyApiErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
+            List<String> errors = ex.getBindingResult().getAllErrors().stream()
+                .map(error -> {
+                    if (error instanceof FieldError fieldError) {
+                        return fieldError.getField() + ": " + fieldError.getDefaultMessage();
+                    }
+                    return error.getDefaultMessage();
+                })
+                .collect(Collectors.toList());
+
+            LegacyApiErrorResponse response = LegacyApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .message("Error de validación")
+                .errors(errors)
+                .build();
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        ResponseEntity<LegacyApiErrorResponse> handleProductNotFound(LegacyProductNotFoundException ex) {
+            LegacyApiErrorResponse response = LegacyApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .message(ex.getMessage())
+                .build();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.bahs.inventory_api.benchmark;
+
+import com.bahs.inventory_api.service.ProductFacetIndex;
+import com.bahs.inventory_api.service.ProductFacetIndex.FacetResult;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark del {@link ProductFacetIndex} con un millón de productos
+ * repartidos en 50 categorías y 200 etiquetas: mide el tiempo de una búsqueda
+ * con filtro de categoría y etiqueta más todos los conteos de facetas. Se
+ * ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class FacetCountBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FacetCountBenchmarkTest.class);
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int CATEGORIES = 50;
+    private static final int TAGS = 200;
+    private static final int TAGS_PER_PRODUCT = 4;
+    private static final int ITERATIONS = 200;
+
+    /**
+     * Construye el índice y mide búsquedas con conteo de facetas.
+     */
+    @Test
+    @DisplayName("search_shouldCountFacetsOverOneMillionProductsInMilliseconds")
+    void search_shouldCountFacetsOverOneMillionProductsInMilliseconds() {
+        ProductFacetIndex index = new ProductFacetIndex(null, null);
+        SplittableRandom random = new SplittableRandom(42);
+        long buildStart = System.nanoTime();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            List<String> tags = random.ints(TAGS_PER_PRODUCT, 0, TAGS).distinct().sorted()
+                .mapToObj(tag -> "tag-" + tag).toList();
+            index.index(id, "cat-" + random.nextInt(CATEGORIES), tags);
+        }
+        log.info("Índice construido en {} ms", (System.nanoTime() - buildStart) / 1_000_000);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            index.search("cat-" + (i % CATEGORIES), List.of("tag-" + (i % TAGS)), 0, 20);
+        }
+        long start = System.nanoTime();
+        FacetResult result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = index.search("cat-" + (i % CATEGORIES), List.of("tag-" + (i % TAGS)), 0, 20);
+        }
+        double millisPerSearch = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+        log.info("Búsqueda con {} conteos de categoría y {} de etiqueta: {} ms", result.categories().size(),
+            result.tags().size(), millisPerSearch);
+        assertThat(result.total()).isPositive();
+    }
+}
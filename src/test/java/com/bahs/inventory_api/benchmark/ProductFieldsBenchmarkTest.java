@@ -0,0 +1,108 @@
+package com.bahs.inventory_api.benchmark;
+
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.service.ProductService;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de {@code fields=}: compara el listado completo con la proyección
+ * {@code id,name,price,stock} sobre un catálogo con descripciones largas.
+ * Reporta bytes leídos de la columna {@code description}, bytes serializados
+ * por respuesta y latencia p50/p99. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "logging.level.org.hibernate.SQL=INFO")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductFieldsBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFieldsBenchmarkTest.class);
+
+    private static final int PRODUCTS = 500;
+    private static final int DESCRIPTION_LENGTH = 4_096;
+    private static final int ITERATIONS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Siembra productos con descripciones de varios KB.
+     */
+    @BeforeAll
+    void seedCatalog() {
+        String description = "x".repeat(DESCRIPTION_LENGTH);
+        for (int i = 0; i < PRODUCTS; i++) {
+            ProductRequest request = new ProductRequest();
+            request.setName("Producto " + i);
+            request.setDescription(description);
+            request.setPrice(new BigDecimal("10.00"));
+            request.setStock(i);
+            productService.create(request);
+        }
+    }
+
+    /**
+     * Mide ambos caminos con el mismo cliente HTTP.
+     */
+    @Test
+    @DisplayName("listProducts_shouldCompareFullAndSparsePayloads")
+    void listProducts_shouldCompareFullAndSparsePayloads() throws Exception {
+        Long descriptionBytes = jdbcTemplate.queryForObject(
+            "select sum(octet_length(description)) from products", Long.class);
+        log.info("Bytes de description por listado completo: {}; con fields=: 0", descriptionBytes);
+
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            measure(client, "/api/products");
+            int full = measure(client, "/api/products");
+            int sparse = measure(client, "/api/products?fields=id,name,price,stock");
+            assertThat(sparse).isLessThan(full);
+        }
+    }
+
+    /**
+     * Lanza {@link #ITERATIONS} peticiones secuenciales y registra tamaño y
+     * latencias.
+     *
+     * @return bytes del cuerpo de la respuesta
+     */
+    private int measure(HttpClient client, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        long[] latencies = new long[ITERATIONS];
+        int bytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            latencies[i] = System.nanoTime() - start;
+            assertThat(response.statusCode()).isEqualTo(200);
+            bytes = response.body().length;
+        }
+        Arrays.sort(latencies);
+        log.info("{}: {} bytes serializados, p50 {} ms, p99 {} ms", path, bytes,
+            latencies[ITERATIONS / 2] / 1_000_000.0, latencies[ITERATIONS * 99 / 100] / 1_000_000.0);
+        return bytes;
+    }
+}
@@ -0,0 +1,114 @@
+package com.bahs.inventory_api.benchmark;
+
+import com.bahs.inventory_api.entity.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark que compara JSON, CBOR y Smile (con y sin gzip) al serializar el
+ * listado de {@code GET /api/products} con 10k productos. Reporta bytes en la
+ * red y tiempos de codificación/decodificación. Se ejecuta con
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ProductPayloadEncodingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPayloadEncodingBenchmarkTest.class);
+
+    private static final int PRODUCTS = 10_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Mide cada formato con el mismo payload y verifica que los formatos
+     * binarios ocupen menos bytes que JSON.
+     */
+    @Test
+    @DisplayName("encodeProducts_shouldCompareJsonCborAndSmile")
+    void encodeProducts_shouldCompareJsonCborAndSmile() throws IOException {
+        List<Product> products = buildProducts();
+
+        long jsonBytes = measure("json", Jackson2ObjectMapperBuilder.json().build(), products);
+        long cborBytes = measure("cbor", Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build(), products);
+        long smileBytes = measure("smile", Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build(), products);
+
+        assertThat(cborBytes).isLessThan(jsonBytes);
+        assertThat(smileBytes).isLessThan(jsonBytes);
+    }
+
+    /**
+     * Codifica y decodifica el payload varias veces y registra tamaños y
+     * tiempos medios.
+     */
+    private long measure(String format, ObjectMapper mapper, List<Product> products) throws IOException {
+        byte[] encoded = null;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            encoded = mapper.writeValueAsBytes(products);
+            mapper.readValue(encoded, Product[].class);
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoded = mapper.writeValueAsBytes(products);
+            encodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Product[] decoded = mapper.readValue(encoded, Product[].class);
+            decodeNanos += System.nanoTime() - start;
+            assertThat(decoded).hasSize(PRODUCTS);
+        }
+
+        int gzipped = gzip(encoded).length;
+        log.info("{}: {} bytes ({} gzip), encode {} ms, decode {} ms", format, encoded.length, gzipped,
+            encodeNanos / MEASURED_ROUNDS / 1_000_000.0, decodeNanos / MEASURED_ROUNDS / 1_000_000.0);
+        return encoded.length;
+    }
+
+    /**
+     * Comprime el payload con gzip tal como lo haría la compresión de Tomcat.
+     */
+    private byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Genera productos sintéticos con descripciones de longitud realista.
+     */
+    private List<Product> buildProducts() {
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            Product product = new Product();
+            product.setId((long) i);
+            product.setName("Producto " + i);
+            product.setDescription("Descripción del producto " + i + " para pruebas de serialización");
+            product.setPrice(BigDecimal.valueOf(i % 1000 + 1, 2));
+            product.setStock(i % 250);
+            product.setCreatedAt(now.minusMinutes(i));
+            products.add(product);
+        }
+        return products;
+    }
+}
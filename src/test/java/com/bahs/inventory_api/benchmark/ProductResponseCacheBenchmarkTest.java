@@ -0,0 +1,121 @@
+package com.bahs.inventory_api.benchmark;
+
+import com.bahs.inventory_api.cache.ProductResponseCache;
+import com.bahs.inventory_api.entity.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark que compara construir la respuesta de {@code GET /api/products/{id}}
+ * y de un listado de 1000 productos serializando con Jackson en cada petición
+ * (ruta actual) frente a servir los bytes de {@link ProductResponseCache}.
+ * Reporta peticiones por segundo y bytes asignados por petición en el hilo que
+ * mide. Se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ProductResponseCacheBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductResponseCacheBenchmarkTest.class);
+
+    private static final int LIST_PRODUCTS = 1_000;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 50_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Mide ambas rutas para un producto y para el listado, y verifica que la
+     * caché asigne menos memoria por petición que volver a serializar.
+     */
+    @Test
+    @DisplayName("respond_shouldCompareCachedBytesWithSerialization")
+    void respond_shouldCompareCachedBytesWithSerialization() throws Exception {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ProductResponseCache cache = new ProductResponseCache(new MappingJackson2HttpMessageConverter(json),
+            new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build()),
+            new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build()),
+            LIST_PRODUCTS, Duration.ofHours(1), DataSize.ofMegabytes(16), false, Duration.ZERO);
+        List<Product> products = buildProducts();
+        Product product = products.getFirst();
+        HttpHeaders headers = new HttpHeaders();
+
+        double serializedSingle = measure("producto serializado", MEASURED_REQUESTS,
+            () -> ResponseEntity.ok(json.writeValueAsBytes(product)));
+        double cachedSingle = measure("producto en caché", MEASURED_REQUESTS,
+            () -> cache.respond(product.getId(), "", headers, () -> product));
+        double serializedList = measure("listado serializado", MEASURED_REQUESTS / 100,
+            () -> ResponseEntity.ok(json.writeValueAsBytes(products)));
+        double cachedList = measure("listado en caché", MEASURED_REQUESTS / 100,
+            () -> cache.respond(null, "", headers, () -> products));
+
+        assertThat(cachedSingle).isLessThan(serializedSingle);
+        assertThat(cachedList).isLessThan(serializedList);
+    }
+
+    /**
+     * Ejecuta la petición simulada, calienta el JIT y registra peticiones por
+     * segundo y bytes asignados por petición.
+     *
+     * @return bytes asignados por petición
+     */
+    private double measure(String label, int requests, Callable<ResponseEntity<?>> request) throws Exception {
+        for (int i = 0; i < Math.min(WARMUP_REQUESTS, requests); i++) {
+            request.call();
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            request.call();
+        }
+        long elapsed = System.nanoTime() - start;
+        double bytesPerRequest = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / (double) requests;
+        log.info("{}: {} peticiones/s, {} bytes asignados por petición", label,
+            String.format("%.0f", requests / (elapsed / 1_000_000_000.0)), String.format("%.0f", bytesPerRequest));
+        return bytesPerRequest;
+    }
+
+    /**
+     * Genera productos sintéticos con descripciones de longitud realista.
+     */
+    private List<Product> buildProducts() {
+        List<Product> products = new ArrayList<>(LIST_PRODUCTS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= LIST_PRODUCTS; i++) {
+            Product product = new Product();
+            product.setId((long) i);
+            product.setName("Producto " + i);
+            product.setDescription("Descripción del producto " + i + " para pruebas de serialización");
+            product.setCategory("Categoría " + (i % 20));
+            product.setTags(List.of("etiqueta-" + (i % 7), "lote-" + (i % 3)));
+            product.setPrice(BigDecimal.valueOf(i % 1000 + 1, 2));
+            product.setStock(i % 250);
+            product.setCreatedAt(now.minusMinutes(i));
+            products.add(product);
+        }
+        return products;
+    }
+}
@@ -0,0 +1,170 @@
+package com.bahs.inventory_api.cache;
+
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.routing.ReadYourWritesContext;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas unitarias de {@link ProductResponseCache}: aciertos sin volver a
+ * cargar, ETag y 304, formato negociado, invalidación y lecturas desde
+ * réplicas tras un cambio.
+ */
+class ProductResponseCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private ProductResponseCache cache;
+    private Product product;
+
+    /**
+     * Crea una caché con los convertidores de Jackson y un producto de prueba.
+     */
+    @BeforeEach
+    void setUp() {
+        cache = buildCache(false);
+        product = new Product();
+        product.setId(7L);
+        product.setName("Teclado");
+        product.setPrice(new BigDecimal("45.50"));
+        product.setStock(3);
+    }
+
+    /**
+     * Verifica que la segunda lectura reutilice los bytes y el ETag sin volver
+     * a cargar ni serializar, y que un {@code If-None-Match} coincidente dé 304.
+     */
+    @Test
+    @DisplayName("respond_shouldServeCachedBytesAndNotModified")
+    void respond_shouldServeCachedBytesAndNotModified() throws HttpMediaTypeNotAcceptableException {
+        ResponseEntity<byte[]> first = cache.respond(7L, "", new HttpHeaders(), this::load);
+        ResponseEntity<byte[]> second = cache.respond(7L, "", new HttpHeaders(), this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(second.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(second.getHeaders().getContentLength()).isEqualTo(first.getBody().length);
+        assertThat(new String(first.getBody())).contains("\"name\":\"Teclado\"");
+
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(first.getHeaders().getETag());
+        ResponseEntity<byte[]> notModified = cache.respond(7L, "", conditional, this::load);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+        assertThat(first.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(notModified.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+    }
+
+    /**
+     * Comprueba que cada formato negociado tenga su propia entrada, que a
+     * igual calidad gane el tipo más específico como en Spring MVC y que un
+     * {@code Accept} sin formato compatible se rechace.
+     */
+    @Test
+    @DisplayName("respond_shouldKeyEntriesByNegotiatedFormat")
+    void respond_shouldKeyEntriesByNegotiatedFormat() throws HttpMediaTypeNotAcceptableException {
+        HttpHeaders cbor = new HttpHeaders();
+        cbor.setAccept(List.of(MediaType.APPLICATION_CBOR));
+
+        ResponseEntity<byte[]> json = cache.respond(7L, "", new HttpHeaders(), this::load);
+        ResponseEntity<byte[]> binary = cache.respond(7L, "", cbor, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(binary.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(binary.getHeaders().getETag()).isNotEqualTo(json.getHeaders().getETag());
+
+        HttpHeaders anyOrCbor = new HttpHeaders();
+        anyOrCbor.set(HttpHeaders.ACCEPT, "*/*, application/cbor");
+        assertThat(cache.respond(7L, "", anyOrCbor, this::load).getHeaders().getContentType())
+            .isEqualTo(MediaType.APPLICATION_CBOR);
+
+        HttpHeaders html = new HttpHeaders();
+        html.setAccept(List.of(MediaType.TEXT_HTML));
+        assertThatThrownBy(() -> cache.respond(7L, "", html, this::load))
+            .isInstanceOf(HttpMediaTypeNotAcceptableException.class);
+    }
+
+    /**
+     * Valida que invalidar un producto descarte su entrada y las de listado.
+     */
+    @Test
+    @DisplayName("invalidate_shouldDropProductAndListEntries")
+    void invalidate_shouldDropProductAndListEntries() throws HttpMediaTypeNotAcceptableException {
+        cache.respond(7L, "", new HttpHeaders(), this::load);
+        cache.respond(null, "", new HttpHeaders(), () -> {
+            loads.incrementAndGet();
+            return List.of(product);
+        });
+
+        cache.invalidate(7L);
+        product.setStock(9);
+        ResponseEntity<byte[]> reloaded = cache.respond(7L, "", new HttpHeaders(), this::load);
+        cache.respond(null, "", new HttpHeaders(), () -> {
+            loads.incrementAndGet();
+            return List.of(product);
+        });
+
+        assertThat(loads).hasValue(4);
+        assertThat(new String(reloaded.getBody())).contains("\"stock\":9");
+    }
+
+    /**
+     * Verifica que, con réplicas, una carga desde réplica justo después de un
+     * cambio se sirva sin guardarse, mientras que la de un cliente con
+     * read-your-writes, que lee del primario, sí se guarda.
+     */
+    @Test
+    @DisplayName("respond_shouldNotStoreReplicaLoadsWithinReplicationWindow")
+    void respond_shouldNotStoreReplicaLoadsWithinReplicationWindow() throws HttpMediaTypeNotAcceptableException {
+        ProductResponseCache replicated = buildCache(true);
+        replicated.respond(7L, "", new HttpHeaders(), this::load);
+        replicated.respond(7L, "", new HttpHeaders(), this::load);
+        assertThat(loads).hasValue(1);
+
+        replicated.invalidate(7L);
+        replicated.respond(7L, "", new HttpHeaders(), this::load);
+        replicated.respond(7L, "", new HttpHeaders(), this::load);
+        assertThat(loads).hasValue(3);
+
+        ReadYourWritesContext.requirePrimary();
+        try {
+            replicated.respond(7L, "", new HttpHeaders(), this::load);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+        replicated.respond(7L, "", new HttpHeaders(), this::load);
+        assertThat(loads).hasValue(4);
+    }
+
+    private ProductResponseCache buildCache(boolean replicaReads) {
+        return new ProductResponseCache(
+            new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()),
+            new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build()),
+            new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build()),
+            100, Duration.ofMinutes(1), DataSize.ofMegabytes(1), replicaReads, Duration.ofMinutes(1));
+    }
+
+    private Product load() {
+        loads.incrementAndGet();
+        return product;
+    }
+}
@@ -0,0 +1,102 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.exception.ProductNotFoundException;
+import com.bahs.inventory_api.service.ProductAsyncService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas del controlador no bloqueante bajo <code>/api/async/products</code>.
+ * Cada petición se inicia en modo asíncrono y se completa con
+ * {@code asyncDispatch} para validar el cuerpo y los códigos HTTP.
+ */
+@WebMvcTest(ProductAsyncController.class)
+class ProductAsyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductAsyncService productAsyncService;
+
+    /**
+     * Verifica que la búsqueda por id complete la respuesta asíncrona con 200.
+     */
+    @Test
+    @DisplayName("getProductById_shouldReturnOk_whenFutureCompletes")
+    void getProductById_shouldReturnOk_whenFutureCompletes() throws Exception {
+        given(productAsyncService.findById(3L)).willReturn(CompletableFuture.completedFuture(buildProduct(3L, "Silla")));
+
+        MvcResult result = mockMvc.perform(get("/api/async/products/{id}", 3L))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name", is("Silla")));
+    }
+
+    /**
+     * Comprueba que la consulta múltiple por ids devuelva todos los productos.
+     */
+    @Test
+    @DisplayName("getProductsByIds_shouldReturnRequestedProducts")
+    void getProductsByIds_shouldReturnRequestedProducts() throws Exception {
+        given(productAsyncService.findAllById(List.of(1L, 2L))).willReturn(CompletableFuture.completedFuture(
+            List.of(buildProduct(1L, "Mesa"), buildProduct(2L, "Silla"))));
+
+        MvcResult result = mockMvc.perform(get("/api/async/products").param("ids", "1,2"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    /**
+     * Garantiza que un futuro fallido con la excepción de dominio termine en
+     * 404 a través del manejador global.
+     */
+    @Test
+    @DisplayName("getProductById_shouldReturnNotFound_whenFutureFails")
+    void getProductById_shouldReturnNotFound_whenFutureFails() throws Exception {
+        given(productAsyncService.findById(99L)).willReturn(
+            CompletableFuture.failedFuture(new ProductNotFoundException("Producto con id 99 no encontrado")));
+
+        MvcResult result = mockMvc.perform(get("/api/async/products/{id}", 99L))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.status", is(404)));
+    }
+
+    private Product buildProduct(Long id, String name) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStock(1);
+        return product;
+    }
+}
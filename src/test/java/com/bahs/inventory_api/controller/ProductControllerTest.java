@@ -1,5 +1,6 @@
 package com.bahs.inventory_api.controller;
 
+import com.bahs.inventory_api.dto.ProductField;
 import com.bahs.inventory_api.dto.ProductRequest;
 import com.bahs.inventory_api.entity.Product;
 import com.bahs.inventory_api.exception.ProductNotFoundException;
@@ -7,7 +8,9 @@ import com.bahs.inventory_api.service.ProductService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,14 +19,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -65,6 +73,47 @@ class ProductControllerTest {
             .andExpect(jsonPath("$[1].stock", is(35)));
     }
 
+    /**
+     * Verifica que el listado negocie CBOR cuando el cliente lo solicita en la
+     * cabecera {@code Accept}.
+     */
+    @Test
+    @DisplayName("getAllProducts_shouldReturnCbor_whenRequested")
+    void getAllProducts_shouldReturnCbor_whenRequested() throws Exception {
+        given(productService.findAll()).willReturn(List.of(buildProduct(1L, "Teclado", new BigDecimal("45.50"), 20)));
+
+        mockMvc.perform(get("/api/products").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+    }
+
+    /**
+     * Verifica que {@code fields=} devuelva solo las propiedades pedidas.
+     */
+    @Test
+    @DisplayName("getAllProductFields_shouldReturnRequestedFieldsOnly")
+    void getAllProductFields_shouldReturnRequestedFieldsOnly() throws Exception {
+        given(productService.findAllFields(EnumSet.of(ProductField.ID, ProductField.NAME)))
+            .willReturn(List.of(Map.of("id", 1L, "name", "Teclado")));
+
+        mockMvc.perform(get("/api/products").param("fields", "id,name"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].name", is("Teclado")))
+            .andExpect(jsonPath("$[0]", not(hasKey("description"))));
+    }
+
+    /**
+     * Garantiza que un campo fuera de la lista permitida responda 400.
+     */
+    @Test
+    @DisplayName("getProductFieldsById_shouldReturnBadRequest_whenFieldIsUnknown")
+    void getProductFieldsById_shouldReturnBadRequest_whenFieldIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/products/{id}", 1L).param("fields", "id,password"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message", is("Campo desconocido: password")));
+    }
+
     /**
      * Comprueba que al solicitar un producto por ID existente se retorne 200 y
      * el cuerpo contenga los datos serializados.
@@ -73,7 +122,7 @@ class ProductControllerTest {
     @DisplayName("getProductById_shouldReturnOk_whenProductExists")
     void getProductById_shouldReturnOk_whenProductExists() throws Exception {
         Product product = buildProduct(10L, "Monitor", new BigDecimal("199.99"), 5);
-        given(productService.findById(10L)).willReturn(product);
+        given(productService.findDetachedById(10L)).willReturn(product);
 
         mockMvc.perform(get("/api/products/{id}", 10L))
             .andExpect(status().isOk())
@@ -88,10 +137,11 @@ class ProductControllerTest {
     @Test
     @DisplayName("getProductById_shouldReturnNotFound_whenProductDoesNotExist")
     void getProductById_shouldReturnNotFound_whenProductDoesNotExist() throws Exception {
-        given(productService.findById(99L)).willThrow(new ProductNotFoundException("Producto con id 99 no encontrado"));
+        given(productService.findDetachedById(99L)).willThrow(new ProductNotFoundException("Producto con id 99 no encontrado"));
 
         mockMvc.perform(get("/api/products/{id}", 99L))
             .andExpect(status().isNotFound())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
             .andExpect(jsonPath("$.status", is(404)))
             .andExpect(jsonPath("$.message", is("Producto con id 99 no encontrado")));
     }
@@ -148,6 +198,20 @@ class ProductControllerTest {
             .andExpect(status().isNoContent());
     }
 
+    /**
+     * Comprueba que una {@link IllegalArgumentException} inesperada del
+     * servicio no se traduzca a 400 con su mensaje, sino que siga el camino
+     * de los errores internos.
+     */
+    @Test
+    @DisplayName("deleteProduct_shouldNotMapUnexpectedIllegalArgument")
+    void deleteProduct_shouldNotMapUnexpectedIllegalArgument() {
+        willThrow(new IllegalArgumentException("detalle interno")).given(productService).delete(7L);
+
+        assertThatThrownBy(() -> mockMvc.perform(delete("/api/products/{id}", 7L)))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
     /**
      * Construye un producto simulado con los datos proporcionados para reutilizar
      * en los diferentes escenarios de prueba.
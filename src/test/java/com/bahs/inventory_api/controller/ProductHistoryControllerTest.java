@@ -0,0 +1,45 @@
+package com.bahs.inventory_api.controller;
+
+import com.bahs.inventory_api.service.ProductHistoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas de la API de historial bajo
+ * <code>/api/products/{id}/history</code> centradas en las respuestas de
+ * error.
+ */
+@WebMvcTest(ProductHistoryController.class)
+class ProductHistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductHistoryService productHistoryService;
+
+    /**
+     * Verifica que una fecha mal formada devuelva un 400 problem+json con el
+     * nombre del parámetro.
+     */
+    @Test
+    @DisplayName("getHistory_shouldReturnProblem_whenFromIsInvalid")
+    void getHistory_shouldReturnProblem_whenFromIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/products/1/history").param("from", "ayer"))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.status", is(400)))
+            .andExpect(jsonPath("$.message", is("Valor inválido para el parámetro from")));
+    }
+}
@@ -0,0 +1,263 @@
+package com.bahs.inventory_api.loadtest;
+
+import com.bahs.inventory_api.loadtest.OpenLoopDriver.Operation;
+import com.bahs.inventory_api.loadtest.OpenLoopDriver.Result;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Prueba de carga de extremo a extremo: arranca la aplicación en un puerto
+ * aleatorio, siembra un catálogo de {@code loadtest.products} productos y
+ * genera tráfico mixto de lectura, escritura y UI con llegadas de lazo abierto.
+ * Reporta throughput, percentiles HdrHistogram y comportamiento de heap/GC, y
+ * falla si la mediana de {@code loadtest.windows} ventanas empeora respecto a
+ * la línea base almacenada; si la línea base se registró con otro JDK u otro
+ * número de CPU, la comparación se omite. Todo
+ * corre en una sola máquina, sin servicios externos:
+ * {@code mvn test -Pload-test -Dloadtest.products=100000 -Dloadtest.rate=1000}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InventoryLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryLoadTest.class);
+
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 10_000);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 150);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.duration", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 10));
+    private static final int WINDOWS = Integer.getInteger("loadtest.windows", 3);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25"));
+    private static final int SOAK_WINDOWS = Integer.getInteger("loadtest.soak.windows", 10);
+    private static final long SOAK_MAX_HEAP_GROWTH_MB = Long.getLong("loadtest.soak.maxHeapGrowthMb", 128);
+    private static final int SEED_BATCH = 5_000;
+    private static final String LOCATION = "LOAD-1";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long minId;
+    private long maxId;
+
+    /**
+     * Siembra el catálogo por lotes JDBC; a partir de cientos de miles de filas
+     * pasar por el servicio dominaría el tiempo de la prueba.
+     */
+    @BeforeAll
+    void seedCatalog() {
+        long start = System.nanoTime();
+        String description = "Producto sembrado para pruebas de carga. ".repeat(5);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < PRODUCTS; from += SEED_BATCH) {
+            List<Object[]> rows = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < Math.min(from + SEED_BATCH, PRODUCTS); i++) {
+                rows.add(new Object[] {"Producto " + i, description, new BigDecimal("10.00").add(BigDecimal.valueOf(i % 500)),
+                    1_000, now});
+            }
+            jdbcTemplate.batchUpdate("insert into products (name, description, price, stock, reserved, created_at) "
+                + "values (?, ?, ?, ?, 0, ?)", rows);
+        }
+        minId = jdbcTemplate.queryForObject("select min(id) from products", Long.class);
+        maxId = jdbcTemplate.queryForObject("select max(id) from products", Long.class);
+        log.info("Catálogo de {} productos sembrado en {} ms", PRODUCTS, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Ejecuta la mezcla de tráfico tras un calentamiento durante
+     * {@code loadtest.windows} ventanas y compara la mediana de cada métrica
+     * con la línea base.
+     */
+    @Test
+    @DisplayName("mixedTraffic_shouldStayWithinBaseline")
+    void mixedTraffic_shouldStayWithinBaseline() throws Exception {
+        PerformanceBaseline baseline = PerformanceBaseline.load();
+        try (HttpClient client = newClient()) {
+            OpenLoopDriver driver = new OpenLoopDriver(client, trafficMix());
+            driver.run(RATE, WARMUP);
+
+            List<Map<String, Double>> windows = new ArrayList<>(WINDOWS);
+            for (int window = 1; window <= WINDOWS; window++) {
+                GcSnapshot before = GcSnapshot.take();
+                resetPeakHeap();
+                Result result = driver.run(RATE, DURATION);
+                GcSnapshot after = GcSnapshot.take();
+
+                log.info("Ventana {}/{}", window, WINDOWS);
+                report(result, before, after);
+                windows.add(PerformanceBaseline.metrics(result));
+            }
+            Map<String, Double> metrics = PerformanceBaseline.median(windows);
+            log.info("Mediana de {} ventanas: {}", WINDOWS, metrics);
+            if (Boolean.getBoolean("loadtest.recordBaseline")) {
+                Path target = Path.of("target", "loadtest", "baseline.properties");
+                baseline.write(metrics, target);
+                log.info("Línea base candidata escrita en {}", target.toAbsolutePath());
+            }
+            List<String> mismatches = baseline.environmentMismatches();
+            assumeTrue(mismatches.isEmpty(), () -> "Línea base de otro entorno, regénérala: " + mismatches);
+            assertThat(baseline.regressions(metrics, TOLERANCE)).isEmpty();
+        }
+    }
+
+    /**
+     * Mantiene la carga durante {@code loadtest.soak.windows} ventanas y
+     * comprueba que el heap ocupado tras un GC no crezca de forma sostenida.
+     * Solo se ejecuta con {@code -Dloadtest.soak=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "loadtest.soak", matches = "true")
+    @DisplayName("soak_shouldKeepHeapStable")
+    void soak_shouldKeepHeapStable() throws Exception {
+        try (HttpClient client = newClient()) {
+            OpenLoopDriver driver = new OpenLoopDriver(client, trafficMix());
+            driver.run(RATE, WARMUP);
+            long firstHeap = usedHeapAfterGc();
+            long lastHeap = firstHeap;
+            for (int window = 1; window <= SOAK_WINDOWS; window++) {
+                Result result = driver.run(RATE, DURATION);
+                lastHeap = usedHeapAfterGc();
+                log.info("Soak {}/{}: {} req/s, p99 {} ms, errores {}, heap tras GC {} MB", window, SOAK_WINDOWS,
+                    Math.round(result.throughput()), result.all().getValueAtPercentile(99) / 1_000.0,
+                    result.errors(), lastHeap / (1024 * 1024));
+                assertThat(result.errorRate()).isLessThan(0.01);
+            }
+            assertThat((lastHeap - firstHeap) / (1024 * 1024)).isLessThanOrEqualTo(SOAK_MAX_HEAP_GROWTH_MB);
+        }
+    }
+
+    /**
+     * Mezcla de tráfico: lecturas de API y UI, y escrituras de stock y edición.
+     */
+    private List<Operation> trafficMix() {
+        String base = "http://localhost:" + port;
+        return List.of(
+            new Operation("read-by-id", 50, () -> get(base + "/api/products/" + randomId())),
+            new Operation("read-fields", 15, () -> get(base + "/api/products/" + randomId() + "?fields=id,name,price,stock")),
+            new Operation("multi-get", 10, () -> get(base + "/api/async/products?ids=" + randomIds(5))),
+            new Operation("ui-detail", 10, () -> get(base + "/products/" + randomId())),
+            new Operation("stock-adjust", 10, () -> json(base + "/api/products/" + randomId() + "/stock/" + LOCATION
+                + "/adjustments", "POST", "{\"delta\":1}")),
+            new Operation("update", 5, () -> {
+                long id = randomId();
+                return json(base + "/api/products/" + id, "PUT",
+                    "{\"name\":\"Producto " + id + "\",\"price\":12.50,\"stock\":1000}");
+            }));
+    }
+
+    private void report(Result result, GcSnapshot before, GcSnapshot after) {
+        log.info("Ofrecido {} req/s, atendido {} req/s, errores {} de {}", RATE, Math.round(result.throughput()),
+            result.errors(), result.completed());
+        result.histograms().forEach((name, histogram) -> log.info("{}: n={} p50 {} ms, p99 {} ms, p99.9 {} ms, max {} ms",
+            name, histogram.getTotalCount(), histogram.getValueAtPercentile(50) / 1_000.0,
+            histogram.getValueAtPercentile(99) / 1_000.0, histogram.getValueAtPercentile(99.9) / 1_000.0,
+            histogram.getMaxValue() / 1_000.0));
+        log.info("GC: {} colecciones, {} ms de pausa; pico de heap {} MB", after.count() - before.count(),
+            after.timeMillis() - before.timeMillis(), peakHeap() / (1024 * 1024));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(minId, maxId + 1);
+    }
+
+    private String randomIds(int count) {
+        StringJoiner ids = new StringJoiner(",");
+        for (int i = 0; i < count; i++) {
+            ids.add(Long.toString(randomId()));
+        }
+        return ids.toString();
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static HttpRequest json(String uri, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    private static void resetPeakHeap() {
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .mapToLong(pool -> pool.getPeakUsage().getUsed())
+            .sum();
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Contadores acumulados de todos los recolectores.
+     *
+     * @param count colecciones
+     * @param timeMillis tiempo total de recolección
+     */
+    private record GcSnapshot(long count, long timeMillis) {
+
+        static GcSnapshot take() {
+            long count = 0;
+            long time = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(gc.getCollectionCount(), 0);
+                time += Math.max(gc.getCollectionTime(), 0);
+            }
+            return new GcSnapshot(count, time);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.bahs.inventory_api.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Generador de carga de lazo abierto: las peticiones se emiten a una tasa fija
+ * sin esperar a que terminen las anteriores, como llega el tráfico real. La
+ * latencia se mide desde el instante en que la petición debía salir, no desde
+ * que salió, para no ocultar las colas cuando el servidor se retrasa
+ * (omisión coordinada).
+ */
+final class OpenLoopDriver {
+
+    private final HttpClient client;
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    /**
+     * Crea el generador.
+     *
+     * @param client cliente HTTP compartido
+     * @param operations mezcla de operaciones con sus pesos
+     */
+    OpenLoopDriver(HttpClient client, List<Operation> operations) {
+        this.client = client;
+        this.operations = List.copyOf(operations);
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    /**
+     * Emite peticiones a {@code ratePerSecond} durante {@code duration} y
+     * espera a que terminen todas.
+     *
+     * @param ratePerSecond tasa de llegada
+     * @param duration duración de la ventana
+     * @return histogramas y contadores de la ventana
+     */
+    Result run(int ratePerSecond, Duration duration) throws InterruptedException {
+        long total = ratePerSecond * duration.toSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        operations.forEach(operation -> histograms.put(operation.name(), new ConcurrentHistogram(3)));
+        Histogram all = new ConcurrentHistogram(3);
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch pending = new CountDownLatch(Math.toIntExact(total));
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = pick();
+            Histogram histogram = histograms.get(operation.name());
+            client.sendAsync(operation.request().get(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long micros = (System.nanoTime() - intended) / 1_000;
+                    histogram.recordValue(micros);
+                    all.recordValue(micros);
+                    if (failure != null || response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                    }
+                    pending.countDown();
+                });
+        }
+        pending.await(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return new Result(histograms, all, total - pending.getCount(), errors.get(), elapsedSeconds, ratePerSecond);
+    }
+
+    private Operation pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.getLast();
+    }
+
+    /**
+     * Operación de la mezcla de tráfico.
+     *
+     * @param name nombre usado en el informe y la línea base
+     * @param weight peso relativo en la mezcla
+     * @param request fábrica de peticiones (una nueva por llegada)
+     */
+    record Operation(String name, int weight, Supplier<HttpRequest> request) {
+    }
+
+    /**
+     * Resultado de una ventana de carga.
+     *
+     * @param histograms latencias por operación, en microsegundos
+     * @param all latencias de todas las operaciones, en microsegundos
+     * @param completed peticiones terminadas
+     * @param errors peticiones fallidas o con estado 4xx/5xx
+     * @param elapsedSeconds duración real de la ventana
+     * @param offeredRate tasa de llegada solicitada
+     */
+    record Result(Map<String, Histogram> histograms, Histogram all, long completed, long errors,
+                  double elapsedSeconds, int offeredRate) {
+
+        /** @return peticiones terminadas por segundo */
+        double throughput() {
+            return completed / elapsedSeconds;
+        }
+
+        /** @return fracción de la tasa ofrecida que el servidor atendió */
+        double throughputRatio() {
+            return throughput() / offeredRate;
+        }
+
+        /** @return fracción de peticiones fallidas */
+        double errorRate() {
+            return completed == 0 ? 1.0 : (double) errors / completed;
+        }
+    }
+}
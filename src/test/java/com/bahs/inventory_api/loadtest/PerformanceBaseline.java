@@ -0,0 +1,182 @@
+package com.bahs.inventory_api.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Línea base de rendimiento guardada en
+ * {@code src/test/resources/loadtest/baseline.properties}. Las claves
+ * {@code *.p99.ms} y {@code *.p999.ms} son latencias registradas que se
+ * comparan con una tolerancia relativa; {@code throughput.ratio.min} y
+ * {@code error.rate.max} son límites absolutos fijados a mano, con margen, que
+ * la regeneración conserva. Las claves {@code env.*} indican el JDK y las CPU
+ * donde se registró: en otro entorno las latencias no son comparables.
+ */
+final class PerformanceBaseline {
+
+    private static final String RESOURCE = "/loadtest/baseline.properties";
+    private static final String MIN_SUFFIX = ".min";
+    private static final String MAX_SUFFIX = ".max";
+    private static final String ENV_PREFIX = "env.";
+
+    private final Properties values;
+
+    private PerformanceBaseline(Properties values) {
+        this.values = values;
+    }
+
+    /**
+     * Carga la línea base del classpath de pruebas.
+     *
+     * @return línea base almacenada
+     */
+    static PerformanceBaseline load() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = PerformanceBaseline.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IOException("No se encontró " + RESOURCE);
+            }
+            properties.load(in);
+        }
+        return new PerformanceBaseline(properties);
+    }
+
+    /**
+     * @return JDK y CPU de la ejecución actual, con las claves {@code env.*}
+     */
+    static Map<String, String> environment() {
+        Map<String, String> environment = new TreeMap<>();
+        environment.put("env.java.feature", Integer.toString(Runtime.version().feature()));
+        environment.put("env.cpus", Integer.toString(Runtime.getRuntime().availableProcessors()));
+        return environment;
+    }
+
+    /**
+     * Indica si la línea base se registró en un entorno como el actual.
+     *
+     * @return descripción de cada diferencia; vacía si coinciden
+     */
+    List<String> environmentMismatches() {
+        List<String> mismatches = new ArrayList<>();
+        environment().forEach((key, actual) -> {
+            String expected = values.getProperty(key);
+            if (!actual.equals(expected)) {
+                mismatches.add("%s: %s frente a línea base %s".formatted(key, actual, expected));
+            }
+        });
+        return mismatches;
+    }
+
+    /**
+     * Convierte un resultado en métricas con el formato de la línea base.
+     *
+     * @param result resultado de la ventana de carga
+     * @return métricas ordenadas por clave
+     */
+    static Map<String, Double> metrics(OpenLoopDriver.Result result) {
+        Map<String, Double> metrics = new TreeMap<>();
+        metrics.put("throughput.ratio", result.throughputRatio());
+        metrics.put("error.rate", result.errorRate());
+        metrics.put("all.p99.ms", result.all().getValueAtPercentile(99) / 1_000.0);
+        metrics.put("all.p999.ms", result.all().getValueAtPercentile(99.9) / 1_000.0);
+        result.histograms().forEach((name, histogram) ->
+            metrics.put(name + ".p99.ms", histogram.getValueAtPercentile(99) / 1_000.0));
+        return metrics;
+    }
+
+    /**
+     * Combina las métricas de varias ventanas con la mediana de cada clave,
+     * de modo que una ventana afectada por el ruido del host no decide el
+     * resultado.
+     *
+     * @param windows métricas de cada ventana
+     * @return mediana por clave
+     */
+    static Map<String, Double> median(List<Map<String, Double>> windows) {
+        Map<String, List<Double>> byKey = new TreeMap<>();
+        windows.forEach(window -> window.forEach((key, value) ->
+            byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(value)));
+        Map<String, Double> median = new TreeMap<>();
+        byKey.forEach((key, values) -> {
+            values.sort(null);
+            int middle = values.size() / 2;
+            median.put(key, values.size() % 2 == 1
+                ? values.get(middle)
+                : (values.get(middle - 1) + values.get(middle)) / 2);
+        });
+        return median;
+    }
+
+    /**
+     * Compara las métricas con la línea base: las latencias con la tolerancia
+     * relativa y los límites {@code .min}/{@code .max} tal cual.
+     *
+     * @param metrics métricas de la ejecución
+     * @param tolerance tolerancia relativa de las latencias, p. ej. {@code 0.25}
+     * @return descripción de cada regresión; vacía si no hay ninguna
+     */
+    List<String> regressions(Map<String, Double> metrics, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (String key : values.stringPropertyNames()) {
+            if (key.startsWith(ENV_PREFIX)) {
+                continue;
+            }
+            String metric = key.endsWith(MIN_SUFFIX) || key.endsWith(MAX_SUFFIX)
+                ? key.substring(0, key.lastIndexOf('.'))
+                : key;
+            Double actual = metrics.get(metric);
+            if (actual == null) {
+                continue;
+            }
+            double expected = Double.parseDouble(values.getProperty(key));
+            boolean regressed;
+            if (key.endsWith(MIN_SUFFIX)) {
+                regressed = actual < expected;
+            } else if (key.endsWith(MAX_SUFFIX)) {
+                regressed = actual > expected;
+            } else {
+                regressed = actual > expected * (1 + tolerance);
+            }
+            if (regressed) {
+                regressions.add("%s: %.3f frente a línea base %.3f".formatted(key, actual, expected));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Escribe una línea base candidata: el entorno actual, los límites de la
+     * línea base vigente y las latencias medidas.
+     *
+     * @param metrics métricas de la ejecución
+     * @param target fichero de salida
+     */
+    void write(Map<String, Double> metrics, Path target) throws IOException {
+        Map<String, String> lines = new TreeMap<>(environment());
+        for (String key : values.stringPropertyNames()) {
+            if (key.endsWith(MIN_SUFFIX) || key.endsWith(MAX_SUFFIX)) {
+                lines.put(key, values.getProperty(key));
+            }
+        }
+        metrics.forEach((key, value) -> {
+            if (key.endsWith(".ms")) {
+                lines.put(key, String.format(Locale.ROOT, "%.3f", value));
+            }
+        });
+        Files.createDirectories(target.getParent());
+        try (Writer writer = Files.newBufferedWriter(target)) {
+            for (Map.Entry<String, String> line : lines.entrySet()) {
+                writer.write("%s=%s%n".formatted(line.getKey(), line.getValue()));
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bahs.inventory_api.routing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas unitarias de {@link ConsistentHashRing}: reparto equilibrado de ids
+ * consecutivos y movimiento mínimo de claves al añadir un nodo.
+ */
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 30_000;
+
+    /**
+     * Verifica que ids consecutivos se repartan entre los nodos con una
+     * desviación acotada respecto a la media.
+     */
+    @Test
+    @DisplayName("nodeFor_shouldSpreadSequentialIdsEvenly")
+    void nodeFor_shouldSpreadSequentialIdsEvenly() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(List.of("s1", "s2", "s3"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long id = 1; id <= KEYS; id++) {
+            counts.merge(ring.nodeFor(id), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys("s1", "s2", "s3");
+        assertThat(counts.values()).allSatisfy(count ->
+            assertThat(count).isBetween(KEYS / 3 * 3 / 4, KEYS / 3 * 5 / 4));
+    }
+
+    /**
+     * Comprueba que al añadir un nodo solo cambie de dueño en torno a
+     * {@code 1/n} de las claves y que todas las que cambian vayan al nodo
+     * nuevo.
+     */
+    @Test
+    @DisplayName("addingNode_shouldOnlyMoveKeysToNewNode")
+    void addingNode_shouldOnlyMoveKeysToNewNode() {
+        ConsistentHashRing<String> before = new ConsistentHashRing<>(List.of("s1", "s2", "s3"), 128);
+        ConsistentHashRing<String> after = new ConsistentHashRing<>(List.of("s1", "s2", "s3", "s4"), 128);
+
+        int moved = 0;
+        for (long id = 1; id <= KEYS; id++) {
+            String owner = after.nodeFor(id);
+            if (!owner.equals(before.nodeFor(id))) {
+                assertThat(owner).isEqualTo("s4");
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(KEYS * 15 / 100, KEYS * 35 / 100);
+    }
+
+    /**
+     * Verifica que un anillo sin nodos se rechace.
+     */
+    @Test
+    @DisplayName("constructor_shouldRejectEmptyRing")
+    void constructor_shouldRejectEmptyRing() {
+        assertThatThrownBy(() -> new ConsistentHashRing<String>(List.of(), 128))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bahs.inventory_api.routing;
+
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.exception.ProductNotFoundException;
+import com.bahs.inventory_api.service.ProductService;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pruebas de integración del enrutamiento a réplicas con un primario y una
+ * réplica H2 en memoria mantenida por {@link H2ReplicationStandIn}. El
+ * intervalo de replicación es de una hora, así que la réplica solo cambia
+ * cuando la prueba llama a {@link H2ReplicationStandIn#replicate()} y lo que
+ * aún no se ha copiado delata desde qué base se leyó.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-it-primary;DB_CLOSE_DELAY=-1",
+    "inventory.datasource.routing-enabled=true",
+    "inventory.datasource.replicas[0].name=replica1",
+    "inventory.datasource.replicas[0].url=jdbc:h2:mem:routing-it-replica1;DB_CLOSE_DELAY=-1",
+    "inventory.datasource.replication-stand-in=true",
+    "inventory.datasource.replication-interval-ms=3600000",
+    "inventory.datasource.read-your-writes-window=1m",
+    "inventory.response-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private H2ReplicationStandIn replicationStandIn;
+
+    /**
+     * Verifica que una transacción de solo lectura lea de la réplica: el
+     * producto recién creado en el primario no aparece hasta replicar.
+     */
+    @Test
+    @DisplayName("findById_shouldReadFromReplica")
+    void findById_shouldReadFromReplica() {
+        Product product = productService.create(buildRequest("Teclado"));
+
+        assertThatThrownBy(() -> productService.findById(product.getId()))
+            .isInstanceOf(ProductNotFoundException.class);
+
+        replicationStandIn.replicate();
+
+        assertThat(productService.findById(product.getId()).getName()).isEqualTo("Teclado");
+    }
+
+    /**
+     * Comprueba que el cliente que escribe lea su escritura desde el primario
+     * mientras los demás clientes siguen leyendo de la réplica atrasada.
+     */
+    @Test
+    @DisplayName("getProductById_shouldKeepWriterOnPrimary")
+    void getProductById_shouldKeepWriterOnPrimary() throws Exception {
+        String location = mockMvc.perform(post("/api/products")
+                .header(ReadYourWritesFilter.CLIENT_ID_HEADER, "writer")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ratón\",\"price\":12.50,\"stock\":4}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getHeader("Location");
+
+        mockMvc.perform(get(location).header(ReadYourWritesFilter.CLIENT_ID_HEADER, "writer"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Ratón"));
+        mockMvc.perform(get(location).header(ReadYourWritesFilter.CLIENT_ID_HEADER, "reader"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get(location))
+            .andExpect(status().isNotFound());
+    }
+
+    private ProductRequest buildRequest(String name) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setPrice(new BigDecimal("9.99"));
+        request.setStock(3);
+        return request;
+    }
+}
@@ -0,0 +1,86 @@
+package com.bahs.inventory_api.routing;
+
+import com.bahs.inventory_api.routing.ReplicaRoutingDataSource.ReplicaNode;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas unitarias de {@link ReplicaRoutingDataSource}: reparto round-robin,
+ * exclusión de réplicas caídas y lecturas forzadas al primario.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = h2("routing-primary");
+    private final DataSource replica1 = h2("routing-replica1");
+    private final DataSource replica2 = h2("routing-replica2");
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    /**
+     * Verifica que las lecturas alternen entre las réplicas sanas.
+     */
+    @Test
+    @DisplayName("select_shouldRoundRobinAcrossReplicas")
+    void select_shouldRoundRobinAcrossReplicas() {
+        ReplicaRoutingDataSource router = router(replica1, replica2);
+
+        assertThat(List.of(router.select(), router.select(), router.select(), router.select()))
+            .containsExactly(replica1, replica2, replica1, replica2);
+    }
+
+    /**
+     * Comprueba que una réplica que no responde quede fuera del reparto y que,
+     * sin réplicas sanas, se use el primario.
+     */
+    @Test
+    @DisplayName("checkHealth_shouldSkipUnavailableReplicas")
+    void checkHealth_shouldSkipUnavailableReplicas() {
+        DataSource down = new DriverManagerDataSource("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE", "sa", "");
+        ReplicaRoutingDataSource router = router(down, replica1);
+
+        router.checkHealth();
+
+        assertThat(router.select()).isSameAs(replica1);
+        assertThat(router.select()).isSameAs(replica1);
+
+        ReplicaRoutingDataSource allDown = router(down);
+        allDown.checkHealth();
+        assertThat(allDown.select()).isSameAs(primary);
+    }
+
+    /**
+     * Garantiza que una petición marcada con read-your-writes lea del
+     * primario.
+     */
+    @Test
+    @DisplayName("select_shouldUsePrimaryWhenReadYourWritesRequired")
+    void select_shouldUsePrimaryWhenReadYourWritesRequired() {
+        ReplicaRoutingDataSource router = router(replica1, replica2);
+
+        ReadYourWritesContext.requirePrimary();
+
+        assertThat(router.select()).isSameAs(primary);
+    }
+
+    private ReplicaRoutingDataSource router(DataSource... replicas) {
+        List<ReplicaNode> nodes = Arrays.stream(replicas)
+            .map(dataSource -> new ReplicaNode(dataSource.toString(), dataSource))
+            .toList();
+        return new ReplicaRoutingDataSource(primary, nodes, Duration.ofSeconds(5));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
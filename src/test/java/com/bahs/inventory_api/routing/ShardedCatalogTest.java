@@ -0,0 +1,189 @@
+package com.bahs.inventory_api.routing;
+
+import com.bahs.inventory_api.dto.ProductField;
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.dto.StockHoldRequest;
+import com.bahs.inventory_api.entity.HoldStatus;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.StockHold;
+import com.bahs.inventory_api.service.HoldService;
+import com.bahs.inventory_api.service.ProductService;
+import com.bahs.inventory_api.service.StockService;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de integración del catálogo particionado en tres bases H2 en
+ * memoria: ubicación de cada producto en su shard, listados combinados,
+ * operaciones puntuales enrutadas y rebalanceo de filas mal ubicadas.
+ */
+@SpringBootTest(properties = {
+    "inventory.sharding.enabled=true",
+    "inventory.sharding.shards[0].name=s1",
+    "inventory.sharding.shards[0].url=jdbc:h2:mem:sharded-catalog-1;DB_CLOSE_DELAY=-1",
+    "inventory.sharding.shards[1].name=s2",
+    "inventory.sharding.shards[1].url=jdbc:h2:mem:sharded-catalog-2;DB_CLOSE_DELAY=-1",
+    "inventory.sharding.shards[2].name=s3",
+    "inventory.sharding.shards[2].url=jdbc:h2:mem:sharded-catalog-3;DB_CLOSE_DELAY=-1"
+})
+class ShardedCatalogTest {
+
+    private static final List<String> TABLES =
+        List.of("products_archive", "product_history", "stock_holds", "product_stock", "products");
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private HoldService holdService;
+
+    /**
+     * Vacía las tablas del catálogo en todos los shards.
+     */
+    @BeforeEach
+    void cleanShards() {
+        for (String shard : shardRouter.shards()) {
+            TABLES.forEach(table -> jdbc(shard).update("delete from " + table));
+        }
+    }
+
+    /**
+     * Verifica que cada producto creado quede solo en el shard que le asigna
+     * el anillo y que el catálogo se reparta entre varios shards.
+     */
+    @Test
+    @DisplayName("create_shouldStoreProductOnOwningShard")
+    void create_shouldStoreProductOnOwningShard() {
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            Product product = productService.create(buildRequest("Producto " + i, i));
+            String owner = shardRouter.shardFor(product.getId());
+            used.add(owner);
+            for (String shard : shardRouter.shards()) {
+                assertThat(count(shard, product.getId())).isEqualTo(shard.equals(owner) ? 1 : 0);
+            }
+            assertThat(productService.findById(product.getId()).getName()).isEqualTo("Producto " + i);
+        }
+
+        assertThat(used).hasSizeGreaterThan(1);
+    }
+
+    /**
+     * Comprueba que los listados reúnan todos los shards ordenados por id,
+     * también cuando la proyección no pide el id.
+     */
+    @Test
+    @DisplayName("findAll_shouldMergeShardsOrderedById")
+    void findAll_shouldMergeShardsOrderedById() {
+        List<Long> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            names.add("Producto " + i);
+            ids.add(productService.create(buildRequest(names.getLast(), i)).getId());
+        }
+
+        assertThat(productService.findAll()).extracting(Product::getId).containsExactlyElementsOf(ids);
+        List<Map<String, Object>> rows = productService.findAllFields(EnumSet.of(ProductField.NAME));
+        assertThat(rows).extracting(row -> row.get("name"))
+            .containsExactlyElementsOf(names);
+        assertThat(rows).allSatisfy(row -> assertThat(row).containsOnlyKeys("name"));
+        assertThat(productService.findAllById(List.of(ids.get(3), ids.get(11))))
+            .extracting(Product::getId)
+            .containsExactlyInAnyOrder(ids.get(3), ids.get(11));
+    }
+
+    /**
+     * Verifica que existencias y reservas se escriban en el shard del producto
+     * y que los totales por ubicación sumen todos los shards.
+     */
+    @Test
+    @DisplayName("stockAndHolds_shouldRouteToOwningShard")
+    void stockAndHolds_shouldRouteToOwningShard() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Product product = productService.create(buildRequest("Producto " + i, 0));
+            stockService.setLocationStock(product.getId(), "MAD", 10);
+            products.add(product);
+        }
+        Product first = products.getFirst();
+        StockHoldRequest request = new StockHoldRequest();
+        request.setQuantity(4);
+        request.setLocationId("MAD");
+
+        StockHold hold = holdService.create(first.getId(), request);
+        StockHold confirmed = holdService.confirm(hold.getId());
+
+        assertThat(confirmed.getStatus()).isEqualTo(HoldStatus.CONFIRMED);
+        assertThat(jdbc(shardRouter.shardFor(first.getId()))
+            .queryForObject("select count(*) from stock_holds where id = ?", Integer.class, hold.getId()))
+            .isEqualTo(1);
+        assertThat(stockService.getProductStock(first.getId()).getTotal()).isEqualTo(6);
+        assertThat(stockService.getLocationTotal("MAD").getTotal()).isEqualTo(56);
+        assertThat(stockService.findLowStock("MAD", 8)).hasSize(1);
+    }
+
+    /**
+     * Comprueba que el rebalanceo mueva al shard dueño un producto guardado
+     * en otro, junto con sus existencias.
+     */
+    @Test
+    @DisplayName("rebalance_shouldMoveMisplacedProducts")
+    void rebalance_shouldMoveMisplacedProducts() {
+        long id = shardRouter.nextProductId();
+        String owner = shardRouter.shardFor(id);
+        String wrong = shardRouter.shards().stream().filter(shard -> !shard.equals(owner)).findFirst().orElseThrow();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc(wrong).update("insert into products (id, name, price, stock, reserved, created_at, updated_at) "
+            + "values (?, 'Mal ubicado', 5.00, 3, 0, ?, ?)", id, now, now);
+        jdbc(wrong).update("insert into product_stock (product_id, location_id, qty) values (?, 'MAD', 3)", id);
+
+        assertThat(shardRebalancer.rebalance()).isEqualTo(1);
+
+        assertThat(count(wrong, id)).isZero();
+        assertThat(count(owner, id)).isEqualTo(1);
+        assertThat(productService.findById(id).getName()).isEqualTo("Mal ubicado");
+        assertThat(stockService.getProductStock(id).getLocations()).hasSize(1);
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(shardRouter.dataSource(shard));
+    }
+
+    private int count(String shard, long productId) {
+        Integer rows = jdbc(shard).queryForObject("select count(*) from products where id = ?", Integer.class,
+            productId);
+        return rows != null ? rows : 0;
+    }
+
+    private ProductRequest buildRequest(String name, int stock) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setPrice(new BigDecimal("10.00"));
+        request.setStock(stock);
+        return request;
+    }
+}
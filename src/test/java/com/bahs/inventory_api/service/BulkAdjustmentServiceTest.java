@@ -0,0 +1,323 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest;
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest.Adjustment;
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest.Field;
+import com.bahs.inventory_api.dto.BulkAdjustmentRequest.Operation;
+import com.bahs.inventory_api.dto.BulkJobResponse;
+import com.bahs.inventory_api.dto.BulkJobResponse.Status;
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.dto.StockHoldRequest;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.exception.BulkJobNotFoundException;
+import com.bahs.inventory_api.exception.InvalidBulkAdjustmentException;
+import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.repository.ProductStockRepository;
+import com.bahs.inventory_api.repository.StockHoldRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Pruebas de integración sobre {@link BulkAdjustmentService}: selección por
+ * filtro, ajuste por lotes, filas omitidas por las reglas de stock, progreso y
+ * cancelación entre lotes, escrituras individuales concurrentes y validación
+ * del ajuste. {@link ChunkGate} detiene el trabajo tras su primer lote para
+ * observarlo entre lotes.
+ */
+@SpringBootTest(properties = "inventory.bulk.chunk-size=3")
+@AutoConfigureTestDatabase
+class BulkAdjustmentServiceTest {
+
+    @Autowired
+    private BulkAdjustmentService bulkAdjustmentService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    @Autowired
+    private ChunkGate chunkGate;
+
+    /**
+     * Limpia reservas, existencias y productos entre pruebas.
+     */
+    @BeforeEach
+    void cleanDatabase() {
+        stockHoldRepository.deleteAll();
+        productStockRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    /**
+     * Libera el trabajo detenido si una prueba falla antes de hacerlo.
+     */
+    @AfterEach
+    void releaseGate() {
+        chunkGate.release();
+    }
+
+    /**
+     * Verifica que una subida porcentual afecte solo a los productos del
+     * filtro, en varios lotes, y que el trabajo informe del progreso.
+     */
+    @Test
+    @DisplayName("submit_shouldRepriceMatchingProductsInChunks")
+    void submit_shouldRepriceMatchingProductsInChunks() {
+        for (int i = 0; i < 7; i++) {
+            productService.create(buildRequest("Barato " + i, "9.00", "ofertas", 5));
+        }
+        Product expensive = productService.create(buildRequest("Caro", "50.00", "ofertas", 5));
+        Product otherCategory = productService.create(buildRequest("Otro", "9.00", "hogar", 5));
+
+        BulkAdjustmentRequest request = request(Field.PRICE, Operation.PERCENT, "10");
+        request.getFilter().setCategory("ofertas");
+        request.getFilter().setMaxPrice(new BigDecimal("10"));
+        BulkJobResponse job = await(bulkAdjustmentService.submit(request).getId());
+
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getEstimatedRows()).isEqualTo(7);
+        assertThat(job.getUpdatedRows()).isEqualTo(7);
+        assertThat(job.getChunks()).isEqualTo(3);
+        assertThat(job.getProgress()).isEqualTo(100.0);
+        assertThat(productService.findAll())
+            .filteredOn(product -> product.getName().startsWith("Barato"))
+            .allSatisfy(product -> assertThat(product.getPrice()).isEqualByComparingTo("9.90"));
+        assertThat(productService.findById(expensive.getId()).getPrice()).isEqualByComparingTo("50.00");
+        assertThat(productService.findById(otherCategory.getId()).getPrice()).isEqualByComparingTo("9.00");
+    }
+
+    /**
+     * Comprueba que el ajuste de stock omita los productos con stock por
+     * ubicación y los que quedarían por debajo de lo reservado.
+     */
+    @Test
+    @DisplayName("submit_shouldSkipRowsThatWouldBreakStockRules")
+    void submit_shouldSkipRowsThatWouldBreakStockRules() {
+        Product plain = productService.create(buildRequest("Simple", "5.00", null, 10));
+        Product located = productService.create(buildRequest("Por ubicación", "5.00", null, 0));
+        stockService.setLocationStock(located.getId(), "MAD", 10);
+        Product reserved = productService.create(buildRequest("Reservado", "5.00", null, 10));
+        StockHoldRequest hold = new StockHoldRequest();
+        hold.setQuantity(8);
+        holdService.create(reserved.getId(), hold);
+
+        BulkJobResponse job = await(bulkAdjustmentService.submit(request(Field.STOCK, Operation.ADD, "-4")).getId());
+
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getUpdatedRows()).isEqualTo(1);
+        assertThat(job.getSkippedRows()).isEqualTo(1);
+        assertThat(productService.findById(plain.getId()).getStock()).isEqualTo(6);
+        assertThat(productService.findById(located.getId()).getStock()).isEqualTo(10);
+        assertThat(productService.findById(reserved.getId()).getStock()).isEqualTo(10);
+    }
+
+    /**
+     * Verifica que, detenido tras su primer lote, el trabajo informe del
+     * progreso parcial y que una cancelación lo pare antes del siguiente lote
+     * conservando lo ya confirmado.
+     */
+    @Test
+    @DisplayName("cancel_shouldStopBetweenChunksAndReportProgress")
+    void cancel_shouldStopBetweenChunksAndReportProgress() throws InterruptedException {
+        for (int i = 0; i < 7; i++) {
+            productService.create(buildRequest("Barato " + i, "9.00", "ofertas", 5));
+        }
+        chunkGate.arm();
+
+        long jobId = bulkAdjustmentService.submit(request(Field.PRICE, Operation.PERCENT, "10")).getId();
+        chunkGate.awaitPaused();
+
+        BulkJobResponse running = bulkAdjustmentService.findById(jobId);
+        assertThat(running.getStatus()).isEqualTo(Status.RUNNING);
+        assertThat(running.getEstimatedRows()).isEqualTo(7);
+        assertThat(running.getProcessedRows()).isEqualTo(3);
+        assertThat(running.getChunks()).isEqualTo(1);
+        assertThat(running.getProgress()).isCloseTo(300.0 / 7, within(0.01));
+
+        assertThat(bulkAdjustmentService.cancel(jobId).getStatus()).isEqualTo(Status.RUNNING);
+        chunkGate.release();
+        BulkJobResponse cancelled = await(jobId);
+
+        assertThat(cancelled.getStatus()).isEqualTo(Status.CANCELLED);
+        assertThat(cancelled.getUpdatedRows()).isEqualTo(3);
+        assertThat(cancelled.getChunks()).isEqualTo(1);
+        assertThat(productService.findAll())
+            .extracting(Product::getPrice)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactlyInAnyOrder(new BigDecimal("9.90"), new BigDecimal("9.90"), new BigDecimal("9.90"),
+                new BigDecimal("9.00"), new BigDecimal("9.00"), new BigDecimal("9.00"), new BigDecimal("9.00"));
+    }
+
+    /**
+     * Comprueba que una edición individual confirmada mientras el trabajo
+     * está en curso se respete: el producto que deja de cumplir el filtro se
+     * omite y el que sigue cumpliéndolo recibe el ajuste sobre su nuevo valor.
+     */
+    @Test
+    @DisplayName("submit_shouldReevaluateRowsChangedDuringJob")
+    void submit_shouldReevaluateRowsChangedDuringJob() throws InterruptedException {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            products.add(productService.create(buildRequest("Barato " + i, "9.00", "ofertas", 5)));
+        }
+        Product leaves = products.get(4);
+        Product changes = products.get(5);
+        BulkAdjustmentRequest request = request(Field.PRICE, Operation.PERCENT, "10");
+        request.getFilter().setMaxPrice(new BigDecimal("10"));
+        chunkGate.arm();
+
+        long jobId = bulkAdjustmentService.submit(request).getId();
+        chunkGate.awaitPaused();
+        productService.update(leaves.getId(), buildRequest("Barato 4", "20.00", "ofertas", 5));
+        productService.update(changes.getId(), buildRequest("Barato 5", "8.00", "ofertas", 5));
+        chunkGate.release();
+        BulkJobResponse job = await(jobId);
+
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getUpdatedRows()).isEqualTo(6);
+        assertThat(productService.findById(leaves.getId()).getPrice()).isEqualByComparingTo("20.00");
+        assertThat(productService.findById(changes.getId()).getPrice()).isEqualByComparingTo("8.80");
+        assertThat(productService.findById(products.get(6).getId()).getPrice()).isEqualByComparingTo("9.90");
+    }
+
+    /**
+     * Garantiza que los comodines de {@code LIKE} de la etiqueta del filtro
+     * se comparen literalmente.
+     */
+    @Test
+    @DisplayName("submit_shouldMatchTagLiterally")
+    void submit_shouldMatchTagLiterally() {
+        ProductRequest underscore = buildRequest("Con guion bajo", "10.00", null, 5);
+        underscore.setTags(List.of("a_b"));
+        Product literal = productService.create(underscore);
+        ProductRequest lookalike = buildRequest("Parecido", "10.00", null, 5);
+        lookalike.setTags(List.of("axb"));
+        Product other = productService.create(lookalike);
+
+        BulkAdjustmentRequest request = request(Field.PRICE, Operation.SET, "12");
+        request.getFilter().setTag("A_B");
+        BulkJobResponse job = await(bulkAdjustmentService.submit(request).getId());
+
+        assertThat(job.getUpdatedRows()).isEqualTo(1);
+        assertThat(productService.findById(literal.getId()).getPrice()).isEqualByComparingTo("12.00");
+        assertThat(productService.findById(other.getId()).getPrice()).isEqualByComparingTo("10.00");
+    }
+
+    /**
+     * Verifica que se rechacen los ajustes no aplicables y los trabajos
+     * inexistentes.
+     */
+    @Test
+    @DisplayName("submit_shouldRejectInvalidAdjustments")
+    void submit_shouldRejectInvalidAdjustments() {
+        assertThatThrownBy(() -> bulkAdjustmentService.submit(request(Field.PRICE, Operation.PERCENT, "-100")))
+            .isInstanceOf(InvalidBulkAdjustmentException.class);
+        assertThatThrownBy(() -> bulkAdjustmentService.submit(request(Field.STOCK, Operation.ADD, "1.5")))
+            .isInstanceOf(InvalidBulkAdjustmentException.class);
+        assertThatThrownBy(() -> bulkAdjustmentService.submit(request(Field.STOCK, Operation.SET, "3000000000")))
+            .isInstanceOf(InvalidBulkAdjustmentException.class);
+        assertThatThrownBy(() -> bulkAdjustmentService.findById(Long.MAX_VALUE))
+            .isInstanceOf(BulkJobNotFoundException.class);
+    }
+
+    private BulkJobResponse await(long jobId) {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        BulkJobResponse job = bulkAdjustmentService.findById(jobId);
+        while ((job.getStatus() == Status.PENDING || job.getStatus() == Status.RUNNING)
+                && Instant.now().isBefore(deadline)) {
+            Thread.onSpinWait();
+            job = bulkAdjustmentService.findById(jobId);
+        }
+        return job;
+    }
+
+    private BulkAdjustmentRequest request(Field field, Operation operation, String value) {
+        Adjustment adjustment = new Adjustment();
+        adjustment.setField(field);
+        adjustment.setOperation(operation);
+        adjustment.setValue(new BigDecimal(value));
+        BulkAdjustmentRequest request = new BulkAdjustmentRequest();
+        request.setAdjustment(adjustment);
+        return request;
+    }
+
+    private ProductRequest buildRequest(String name, String price, String category, int stock) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setPrice(new BigDecimal(price));
+        request.setCategory(category);
+        request.setStock(stock);
+        return request;
+    }
+
+    /**
+     * Detiene el hilo de un trabajo al confirmar su primer lote, cuando los
+     * eventos del lote se entregan tras el commit, hasta que la prueba lo
+     * libera.
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ChunkGate {
+
+        private final AtomicBoolean armed = new AtomicBoolean();
+        private volatile CountDownLatch paused = new CountDownLatch(1);
+        private volatile CountDownLatch released = new CountDownLatch(1);
+
+        void arm() {
+            paused = new CountDownLatch(1);
+            released = new CountDownLatch(1);
+            armed.set(true);
+        }
+
+        void awaitPaused() throws InterruptedException {
+            assertThat(paused.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            armed.set(false);
+            released.countDown();
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+        public void onProductChanged(ProductChangedEvent event) throws InterruptedException {
+            if (Thread.currentThread().getName().startsWith("bulk-adjustment-") && armed.compareAndSet(true, false)) {
+                paused.countDown();
+                released.await(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.ProductStock;
+import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.repository.ProductStockRepository;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Pruebas de integración de {@link CatalogSnapshotService}: ida y vuelta de la
+ * instantánea binaria, existencias por ubicación y rechazo de archivos
+ * dañados.
+ */
+@SpringBootTest(properties = {
+    "inventory.snapshot.enabled=true",
+    "inventory.snapshot.path=target/snapshot-test/products.snapshot",
+    "inventory.snapshot.interval-ms=3600000"
+})
+@AutoConfigureTestDatabase
+class CatalogSnapshotServiceTest {
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Limpia la tabla de productos entre pruebas.
+     */
+    @BeforeEach
+    void cleanDatabase() {
+        productStockRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    /**
+     * Verifica que restaurar la instantánea reproduzca ids y valores, y que los
+     * nuevos productos continúen la secuencia de ids.
+     */
+    @Test
+    @DisplayName("writeAndRestore_shouldRoundTripProducts")
+    void writeAndRestore_shouldRoundTripProducts() {
+        ProductRequest keyboardRequest = buildRequest("Teclado", "Mecánico", new BigDecimal("45.50"), 3);
+        keyboardRequest.setCategory("Periféricos");
+        keyboardRequest.setTags(List.of("usb", "gaming"));
+        Product first = productService.create(keyboardRequest);
+        Product second = productService.create(buildRequest("Mouse", null, new BigDecimal("15.00"), 8));
+        Path snapshot = tempDir.resolve("products.snapshot");
+
+        assertThat(catalogSnapshotService.writeSnapshot(snapshot)).isEqualTo(2);
+        productRepository.deleteAll();
+        assertThat(catalogSnapshotService.restore(snapshot)).isEqualTo(2);
+
+        List<Product> restored = productRepository.findAllById(List.of(first.getId(), second.getId()));
+        assertThat(restored).hasSize(2);
+        Product keyboard = productService.findDetachedById(first.getId());
+        assertThat(keyboard.getName()).isEqualTo("Teclado");
+        assertThat(keyboard.getDescription()).isEqualTo("Mecánico");
+        assertThat(keyboard.getPrice()).isEqualByComparingTo("45.50");
+        assertThat(keyboard.getStock()).isEqualTo(3);
+        assertThat(keyboard.getCategory()).isEqualTo("Periféricos");
+        assertThat(keyboard.getTags()).containsExactly("gaming", "usb");
+        Product mouse = productService.findDetachedById(second.getId());
+        assertThat(mouse.getDescription()).isNull();
+        assertThat(mouse.getCategory()).isNull();
+        assertThat(mouse.getTags()).isEmpty();
+
+        Product next = productService.create(buildRequest("Monitor", null, new BigDecimal("199.99"), 1));
+        assertThat(next.getId()).isGreaterThan(second.getId());
+    }
+
+    /**
+     * Verifica que las existencias por ubicación se restauren con su producto,
+     * de modo que la siguiente ubicación se sume al total restaurado en lugar
+     * de reemplazarlo.
+     */
+    @Test
+    @DisplayName("restore_shouldKeepLocationStock")
+    void restore_shouldKeepLocationStock() {
+        Product product = productService.create(buildRequest("Teclado", null, new BigDecimal("45.50"), 0));
+        stockService.setLocationStock(product.getId(), "MAD", 7);
+        stockService.setLocationStock(product.getId(), "BCN", 3);
+        Path snapshot = tempDir.resolve("locations.snapshot");
+        catalogSnapshotService.writeSnapshot(snapshot);
+        productStockRepository.deleteAll();
+        productRepository.deleteAll();
+
+        catalogSnapshotService.restore(snapshot);
+
+        assertThat(stockService.getProductStock(product.getId()).getLocations())
+            .extracting(ProductStock::getLocationId, ProductStock::getQty)
+            .containsExactlyInAnyOrder(tuple("BCN", 3), tuple("MAD", 7));
+        stockService.setLocationStock(product.getId(), "VLC", 5);
+        assertThat(stockService.getProductStock(product.getId()).getTotal()).isEqualTo(15);
+        assertThat(productService.findById(product.getId()).getStock()).isEqualTo(15);
+    }
+
+    /**
+     * Comprueba que un archivo con un byte alterado se rechace sin insertar
+     * filas.
+     */
+    @Test
+    @DisplayName("restore_shouldRejectCorruptedSnapshot")
+    void restore_shouldRejectCorruptedSnapshot() throws IOException {
+        productService.create(buildRequest("Teclado", "Mecánico", new BigDecimal("45.50"), 3));
+        Path snapshot = tempDir.resolve("corrupted.snapshot");
+        catalogSnapshotService.writeSnapshot(snapshot);
+        productRepository.deleteAll();
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[20] ^= 0x7F;
+        Files.write(snapshot, bytes);
+
+        assertThatThrownBy(() -> catalogSnapshotService.restore(snapshot))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Checksum");
+        assertThat(productRepository.count()).isZero();
+    }
+
+    /**
+     * Verifica que un recuento alterado en la cabecera se rechace por el
+     * checksum antes de decodificar ninguna fila.
+     */
+    @Test
+    @DisplayName("restore_shouldRejectCorruptedHeader")
+    void restore_shouldRejectCorruptedHeader() throws IOException {
+        productService.create(buildRequest("Teclado", "Mecánico", new BigDecimal("45.50"), 3));
+        Path snapshot = tempDir.resolve("corrupted-header.snapshot");
+        catalogSnapshotService.writeSnapshot(snapshot);
+        productRepository.deleteAll();
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[15] = 5;
+        Files.write(snapshot, bytes);
+
+        assertThatThrownBy(() -> catalogSnapshotService.restore(snapshot))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Checksum");
+        assertThat(productRepository.count()).isZero();
+    }
+
+    private ProductRequest buildRequest(String name, String description, BigDecimal price, int stock) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setDescription(description);
+        request.setPrice(price);
+        request.setStock(stock);
+        return request;
+    }
+}
@@ -0,0 +1,101 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.dto.RecordingInfo;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.exception.RecordingNotFoundException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas de integración de {@link FlightRecorderService}: ciclo de vida de una
+ * grabación y presencia de los eventos propios de servicios y repositorios.
+ */
+@SpringBootTest(properties = "inventory.diagnostics.jfr.dump-dir=target/jfr-test")
+@AutoConfigureTestDatabase
+class FlightRecorderServiceTest {
+
+    @Autowired
+    private FlightRecorderService flightRecorderService;
+
+    @Autowired
+    private ProductService productService;
+
+    /**
+     * Verifica que una grabación capture las llamadas al servicio y al
+     * repositorio con el id del producto, y que el volcado sea legible.
+     */
+    @Test
+    @DisplayName("dump_shouldContainServiceAndRepositoryEvents")
+    void dump_shouldContainServiceAndRepositoryEvents() throws Exception {
+        RecordingInfo started = flightRecorderService.start("default", null);
+        assertThat(started.getState()).isEqualTo("RUNNING");
+
+        ProductRequest request = new ProductRequest();
+        request.setName("Teclado");
+        request.setPrice(new BigDecimal("45.50"));
+        request.setStock(3);
+        Product product = productService.create(request);
+        productService.findById(product.getId());
+
+        flightRecorderService.stop(started.getId());
+        RecordingInfo dumped = flightRecorderService.dump(started.getId());
+        flightRecorderService.close(started.getId());
+        assertThat(flightRecorderService.findAll()).extracting(RecordingInfo::getId).doesNotContain(started.getId());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of(dumped.getDumpPath()));
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("com.bahs.inventory_api.ServiceCall"))
+            .anySatisfy(event -> {
+                assertThat(event.getString("operation")).isEqualTo("ProductService.findById");
+                assertThat(event.getLong("productId")).isEqualTo(product.getId());
+                assertThat(event.getLong("rows")).isEqualTo(1);
+            });
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("com.bahs.inventory_api.RepositoryCall"))
+            .anySatisfy(event -> assertThat(event.getString("operation")).isEqualTo("ProductRepository.findById"));
+    }
+
+    /**
+     * Comprueba que operar sobre una grabación inexistente falle con la
+     * excepción de dominio.
+     */
+    @Test
+    @DisplayName("stop_shouldThrowException_whenRecordingDoesNotExist")
+    void stop_shouldThrowException_whenRecordingDoesNotExist() {
+        assertThatThrownBy(() -> flightRecorderService.stop(-1))
+            .isInstanceOf(RecordingNotFoundException.class);
+    }
+
+    /**
+     * Verifica que una grabación iniciada fuera del servicio no se liste ni
+     * se pueda detener, volcar o cerrar a través de él.
+     */
+    @Test
+    @DisplayName("findAll_shouldIgnoreRecordingsStartedElsewhere")
+    void findAll_shouldIgnoreRecordingsStartedElsewhere() {
+        try (Recording external = new Recording()) {
+            external.start();
+            long id = external.getId();
+
+            assertThat(flightRecorderService.findAll()).extracting(RecordingInfo::getId).doesNotContain(id);
+            assertThatThrownBy(() -> flightRecorderService.stop(id)).isInstanceOf(RecordingNotFoundException.class);
+            assertThatThrownBy(() -> flightRecorderService.dump(id)).isInstanceOf(RecordingNotFoundException.class);
+            assertThatThrownBy(() -> flightRecorderService.close(id)).isInstanceOf(RecordingNotFoundException.class);
+            assertThat(external.getState()).isEqualTo(RecordingState.RUNNING);
+        }
+    }
+}
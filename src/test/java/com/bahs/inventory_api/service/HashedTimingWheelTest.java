@@ -0,0 +1,89 @@
+package com.bahs.inventory_api.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas unitarias de {@link HashedTimingWheel}: vencimiento en el tic
+ * correcto, temporizadores de varias vueltas y cancelación.
+ */
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    /**
+     * Verifica que cada temporizador venza en cuanto pasa su tic y no antes.
+     */
+    @Test
+    @DisplayName("advanceTo_shouldExpireTimeoutsInDeadlineOrder")
+    void advanceTo_shouldExpireTimeoutsInDeadlineOrder() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("a", START + 250);
+        wheel.schedule("b", START + 50);
+
+        wheel.advanceTo(START + 99, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advanceTo(START + 100, expired::add);
+        assertThat(expired).containsExactly("b");
+
+        wheel.advanceTo(START + 300, expired::add);
+        assertThat(expired).containsExactly("b", "a");
+    }
+
+    /**
+     * Comprueba que un vencimiento más allá de una vuelta completa espere las
+     * vueltas necesarias.
+     */
+    @Test
+    @DisplayName("advanceTo_shouldHonorMultipleRounds")
+    void advanceTo_shouldHonorMultipleRounds() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 4, START);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("late", START + 95);
+
+        wheel.advanceTo(START + 90, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advanceTo(START + 100, expired::add);
+        assertThat(expired).containsExactly("late");
+    }
+
+    /**
+     * Garantiza que un temporizador cancelado no se entregue.
+     */
+    @Test
+    @DisplayName("cancel_shouldPreventExpiry")
+    void cancel_shouldPreventExpiry() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("kept", START + 150);
+        wheel.schedule("cancelled", START + 150).cancel();
+
+        int count = wheel.advanceTo(START + 1_000, expired::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(expired).containsExactly("kept");
+    }
+
+    /**
+     * Valida que un vencimiento ya pasado se entregue en el siguiente tic.
+     */
+    @Test
+    @DisplayName("schedule_shouldExpireOverdueTimeoutOnNextTick")
+    void schedule_shouldExpireOverdueTimeoutOnNextTick() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(START + 500, expired::add);
+        wheel.schedule("overdue", START + 10);
+
+        wheel.advanceTo(START + 600, expired::add);
+
+        assertThat(expired).containsExactly("overdue");
+    }
+}
@@ -0,0 +1,204 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.dto.StockHoldRequest;
+import com.bahs.inventory_api.entity.HoldStatus;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.StockHold;
+import com.bahs.inventory_api.exception.HoldNotActiveException;
+import com.bahs.inventory_api.exception.InsufficientStockException;
+import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.repository.ProductStockRepository;
+import com.bahs.inventory_api.repository.StockHoldRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas de integración de las reservas temporales de stock: disponible,
+ * confirmación, cancelación y vencimiento mediante la rueda de temporización.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+class HoldServiceTest {
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private HoldExpiryScheduler holdExpiryScheduler;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    /**
+     * Limpia reservas y productos entre pruebas.
+     */
+    @BeforeEach
+    void cleanDatabase() {
+        stockHoldRepository.deleteAll();
+        productStockRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    /**
+     * Verifica que una reserva descuente del disponible y que no se pueda
+     * reservar más de lo disponible.
+     */
+    @Test
+    @DisplayName("create_shouldReduceAvailable_andRejectOverbooking")
+    void create_shouldReduceAvailable_andRejectOverbooking() {
+        Product product = productService.create(buildProduct(10));
+
+        holdService.create(product.getId(), buildHold(7, null));
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getAvailable()).isEqualTo(3);
+        assertThatThrownBy(() -> holdService.create(product.getId(), buildHold(4, null)))
+            .isInstanceOf(InsufficientStockException.class);
+    }
+
+    /**
+     * Comprueba que confirmar descuente el stock y que cancelar devuelva el
+     * disponible.
+     */
+    @Test
+    @DisplayName("confirmAndCancel_shouldUpdateStockAndAvailable")
+    void confirmAndCancel_shouldUpdateStockAndAvailable() {
+        Product product = productService.create(buildProduct(10));
+        StockHold confirmed = holdService.create(product.getId(), buildHold(3, null));
+        StockHold cancelled = holdService.create(product.getId(), buildHold(2, null));
+
+        holdService.confirm(confirmed.getId());
+        holdService.cancel(cancelled.getId());
+
+        Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(reloaded.getStock()).isEqualTo(7);
+        assertThat(reloaded.getReserved()).isZero();
+        assertThatThrownBy(() -> holdService.confirm(cancelled.getId()))
+            .isInstanceOf(HoldNotActiveException.class);
+    }
+
+    /**
+     * Garantiza que el planificador libere una reserva al pasar su vencimiento.
+     */
+    @Test
+    @DisplayName("expireDue_shouldReleaseExpiredHold")
+    void expireDue_shouldReleaseExpiredHold() {
+        Product product = productService.create(buildProduct(5));
+        StockHold hold = holdService.create(product.getId(), buildHold(5, 1));
+
+        holdExpiryScheduler.expireDue(System.currentTimeMillis() + 5_000);
+
+        assertThat(holdService.findById(hold.getId()).getStatus()).isEqualTo(HoldStatus.EXPIRED);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getAvailable()).isEqualTo(5);
+    }
+
+    /**
+     * Verifica que una reserva con ubicación solo se conceda si esa ubicación
+     * tiene unidades libres, aunque el producto tenga disponible en otras, y
+     * que la reserva concedida se pueda confirmar.
+     */
+    @Test
+    @DisplayName("create_shouldRejectHold_whenLocationLacksUnits")
+    void create_shouldRejectHold_whenLocationLacksUnits() {
+        Product product = productService.create(buildProduct(0));
+        stockService.setLocationStock(product.getId(), "MAD", 5);
+        stockService.setLocationStock(product.getId(), "BCN", 10);
+        StockHold hold = holdService.create(product.getId(), buildLocationHold(4, "MAD"));
+
+        assertThatThrownBy(() -> holdService.create(product.getId(), buildLocationHold(2, "MAD")))
+            .isInstanceOf(InsufficientStockException.class);
+        assertThatThrownBy(() -> holdService.create(product.getId(), buildLocationHold(1, "VLC")))
+            .isInstanceOf(InsufficientStockException.class);
+        holdService.create(product.getId(), buildLocationHold(2, "BCN"));
+
+        assertThat(holdService.confirm(hold.getId()).getStatus()).isEqualTo(HoldStatus.CONFIRMED);
+        assertThat(stockService.getProductStock(product.getId()).getTotal()).isEqualTo(11);
+    }
+
+    /**
+     * Comprueba que una edición no pueda dejar el stock por debajo de lo
+     * reservado, de modo que la confirmación posterior no lo deje negativo.
+     */
+    @Test
+    @DisplayName("update_shouldRejectStockBelowReserved")
+    void update_shouldRejectStockBelowReserved() {
+        Product product = productService.create(buildProduct(10));
+        StockHold hold = holdService.create(product.getId(), buildHold(6, null));
+
+        assertThatThrownBy(() -> productService.update(product.getId(), buildProduct(5)))
+            .isInstanceOf(InsufficientStockException.class);
+        holdService.confirm(hold.getId());
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(4);
+    }
+
+    /**
+     * Verifica que eliminar un producto cancele sus reservas activas y que
+     * avanzar la rueda no las reintente; una reserva activa cuyo producto ya
+     * no existe se marca como vencida en lugar de reprogramarse.
+     */
+    @Test
+    @DisplayName("delete_shouldCancelActiveHolds_andExpireOrphans")
+    void delete_shouldCancelActiveHolds_andExpireOrphans() {
+        Product product = productService.create(buildProduct(10));
+        StockHold hold = holdService.create(product.getId(), buildHold(4, 1));
+
+        productService.delete(product.getId());
+
+        assertThat(holdService.findById(hold.getId()).getStatus()).isEqualTo(HoldStatus.CANCELLED);
+        assertThat(holdExpiryScheduler.expireDue(System.currentTimeMillis() + 5_000)).isZero();
+
+        StockHold orphan = new StockHold();
+        orphan.setProductId(product.getId());
+        orphan.setQuantity(2);
+        orphan.setStatus(HoldStatus.ACTIVE);
+        orphan.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        orphan = stockHoldRepository.save(orphan);
+        holdExpiryScheduler.schedule(orphan.getId(), orphan.getExpiresAt());
+
+        assertThat(holdExpiryScheduler.expireDue(System.currentTimeMillis() + 10_000)).isEqualTo(1);
+        assertThat(holdService.findById(orphan.getId()).getStatus()).isEqualTo(HoldStatus.EXPIRED);
+    }
+
+    private ProductRequest buildProduct(int stock) {
+        ProductRequest request = new ProductRequest();
+        request.setName("Entrada concierto");
+        request.setPrice(new BigDecimal("50.00"));
+        request.setStock(stock);
+        return request;
+    }
+
+    private StockHoldRequest buildHold(int quantity, Integer ttlSeconds) {
+        StockHoldRequest request = new StockHoldRequest();
+        request.setQuantity(quantity);
+        request.setTtlSeconds(ttlSeconds);
+        return request;
+    }
+
+    private StockHoldRequest buildLocationHold(int quantity, String locationId) {
+        StockHoldRequest request = buildHold(quantity, null);
+        request.setLocationId(locationId);
+        return request;
+    }
+}
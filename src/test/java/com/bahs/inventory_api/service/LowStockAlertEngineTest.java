@@ -0,0 +1,148 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.LowStockAlert;
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.event.ProductChangedEvent.ChangeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de integración sobre {@link LowStockAlertEngine}: las escrituras de
+ * {@link ProductService} levantan y despejan alertas solo al cruzar el umbral,
+ * con histéresis, usando el umbral propio o el de la configuración.
+ */
+@SpringBootTest(properties = {
+    "inventory.alerts.default-threshold=5",
+    "inventory.alerts.hysteresis=2"
+})
+@AutoConfigureTestDatabase
+class LowStockAlertEngineTest {
+
+    @Autowired
+    private LowStockAlertEngine lowStockAlertEngine;
+
+    @Autowired
+    private ProductService productService;
+
+    /**
+     * Verifica que la alerta se levante al bajar del umbral propio, siga
+     * activa mientras el stock no supere el margen de histéresis y se despeje
+     * al superarlo.
+     */
+    @Test
+    @DisplayName("update_shouldRaiseAndClearAlertWithHysteresis")
+    void update_shouldRaiseAndClearAlertWithHysteresis() {
+        Product product = productService.create(buildRequest(20, 10));
+        assertThat(alertFor(product.getId())).isEmpty();
+
+        productService.update(product.getId(), buildRequest(9, 10));
+        LowStockAlert raised = alertFor(product.getId()).orElseThrow();
+        assertThat(raised.threshold()).isEqualTo(10);
+        assertThat(raised.stock()).isEqualTo(9);
+
+        productService.update(product.getId(), buildRequest(11, 10));
+        LowStockAlert stillActive = alertFor(product.getId()).orElseThrow();
+        assertThat(stillActive.stock()).isEqualTo(11);
+        assertThat(stillActive.raisedAt()).isEqualTo(raised.raisedAt());
+
+        productService.update(product.getId(), buildRequest(12, 10));
+        assertThat(alertFor(product.getId())).isEmpty();
+    }
+
+    /**
+     * Comprueba que los productos sin umbral propio usen el de la
+     * configuración y que el borrado descarte su alerta.
+     */
+    @Test
+    @DisplayName("create_shouldUseDefaultThresholdAndDeleteShouldClearAlert")
+    void create_shouldUseDefaultThresholdAndDeleteShouldClearAlert() {
+        Product product = productService.create(buildRequest(4, null));
+
+        assertThat(alertFor(product.getId())).map(LowStockAlert::threshold).contains(5);
+
+        productService.delete(product.getId());
+        assertThat(alertFor(product.getId())).isEmpty();
+    }
+
+    /**
+     * Verifica que un cambio anterior a la última evaluación de una alerta
+     * activa, entregado fuera de orden, no la despeje.
+     */
+    @Test
+    @DisplayName("evaluate_shouldIgnoreOutOfOrderChanges")
+    void evaluate_shouldIgnoreOutOfOrderChanges() {
+        Product product = productService.create(buildRequest(2, null));
+        LowStockAlert alert = alertFor(product.getId()).orElseThrow();
+
+        lowStockAlertEngine.evaluate(product.getId(), 50, null, alert.updatedAt().minusSeconds(1));
+        assertThat(alertFor(product.getId())).isPresent();
+
+        lowStockAlertEngine.evaluate(product.getId(), 50, null, LocalDateTime.now());
+        assertThat(alertFor(product.getId())).isEmpty();
+    }
+
+    /**
+     * Verifica que un cambio de stock bajo anterior al que despejó la alerta,
+     * entregado después, no la vuelva a levantar.
+     */
+    @Test
+    @DisplayName("evaluate_shouldIgnoreOutOfOrderLowAfterClear")
+    void evaluate_shouldIgnoreOutOfOrderLowAfterClear() {
+        Product product = productService.create(buildRequest(2, null));
+        LocalDateTime lowAt = alertFor(product.getId()).orElseThrow().updatedAt();
+        LocalDateTime clearAt = lowAt.plusSeconds(5);
+
+        lowStockAlertEngine.evaluate(product.getId(), 50, null, clearAt);
+        assertThat(alertFor(product.getId())).isEmpty();
+
+        lowStockAlertEngine.evaluate(product.getId(), 1, null, clearAt.minusSeconds(1));
+        assertThat(alertFor(product.getId())).isEmpty();
+
+        lowStockAlertEngine.evaluate(product.getId(), 1, null, clearAt.plusSeconds(1));
+        assertThat(alertFor(product.getId())).map(LowStockAlert::stock).contains(1);
+    }
+
+    /**
+     * Comprueba que un cambio de stock anterior al borrado, entregado después
+     * de él, no vuelva a levantar la alerta del producto borrado.
+     */
+    @Test
+    @DisplayName("onProductChanged_shouldIgnoreStockChangeOlderThanDelete")
+    void onProductChanged_shouldIgnoreStockChangeOlderThanDelete() {
+        Product product = productService.create(buildRequest(2, null));
+        LocalDateTime lowAt = alertFor(product.getId()).orElseThrow().updatedAt();
+
+        productService.delete(product.getId());
+        assertThat(alertFor(product.getId())).isEmpty();
+
+        lowStockAlertEngine.onProductChanged(new ProductChangedEvent(ChangeType.STOCK_CHANGED, product.getId(),
+            null, List.of(), product.getPrice(), 1, null, lowAt.plusNanos(1_000)));
+        assertThat(alertFor(product.getId())).isEmpty();
+    }
+
+    private Optional<LowStockAlert> alertFor(Long productId) {
+        return lowStockAlertEngine.findActive().stream()
+            .filter(alert -> alert.productId().equals(productId))
+            .findFirst();
+    }
+
+    private ProductRequest buildRequest(int stock, Integer reorderThreshold) {
+        ProductRequest request = new ProductRequest();
+        request.setName("Cable USB");
+        request.setPrice(new BigDecimal("4.50"));
+        request.setStock(stock);
+        request.setReorderThreshold(reorderThreshold);
+        return request;
+    }
+}
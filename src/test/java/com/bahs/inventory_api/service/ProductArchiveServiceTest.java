@@ -0,0 +1,211 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.ArchivedProductResponse;
+import com.bahs.inventory_api.dto.ArchivedProductSummary;
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.entity.ArchiveReason;
+import com.bahs.inventory_api.entity.HoldStatus;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.StockHold;
+import com.bahs.inventory_api.exception.InvalidPaginationException;
+import com.bahs.inventory_api.exception.ProductNotFoundException;
+import com.bahs.inventory_api.exception.ProductNotRestorableException;
+import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.repository.ProductStockRepository;
+import com.bahs.inventory_api.repository.StockHoldRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Pruebas de integración sobre {@link ProductArchiveService}: borrado lógico,
+ * archivado de productos borrados e inactivos (activado aquí), restauración y
+ * lectura del archivo.
+ */
+@SpringBootTest(properties = "inventory.archive.dormant-enabled=true")
+@AutoConfigureTestDatabase
+class ProductArchiveServiceTest {
+
+    @Autowired
+    private ProductArchiveService productArchiveService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Limpia la tabla de productos entre pruebas.
+     */
+    @BeforeEach
+    void cleanDatabase() {
+        productRepository.deleteAll();
+    }
+
+    /**
+     * Verifica que un producto borrado desaparezca de las consultas al
+     * instante y pase al archivo, comprimido, al cumplirse el margen de
+     * gracia.
+     */
+    @Test
+    @DisplayName("archive_shouldMoveSoftDeletedProducts")
+    void archive_shouldMoveSoftDeletedProducts() {
+        ProductRequest request = buildRequest("Monitor", "4K", new BigDecimal("199.99"), 3);
+        request.setCategory("Pantallas");
+        Product product = productService.create(request);
+
+        productService.delete(product.getId());
+
+        assertThat(productRepository.findById(product.getId())).isEmpty();
+        assertThat(productService.findAll()).extracting(Product::getId).doesNotContain(product.getId());
+        productArchiveService.archive(LocalDateTime.now());
+        assertThatThrownBy(() -> productArchiveService.findById(product.getId()))
+            .isInstanceOf(ProductNotFoundException.class);
+
+        assertThat(productArchiveService.archive(LocalDateTime.now().plusDays(1))).isPositive();
+
+        ArchivedProductResponse archived = productArchiveService.findById(product.getId());
+        assertThat(archived.getReason()).isEqualTo(ArchiveReason.DELETED);
+        assertThat(archived.getName()).isEqualTo("Monitor");
+        assertThat(archived.getDescription()).isEqualTo("4K");
+        assertThat(archived.getPrice()).isEqualByComparingTo("199.99");
+        assertThat(archived.getDeletedAt()).isNotNull();
+        assertThat(productArchiveService.findAll("Pantallas", 0, 20))
+            .extracting(ArchivedProductSummary::id)
+            .contains(product.getId());
+    }
+
+    /**
+     * Comprueba que un producto sin cambios durante el periodo de inactividad
+     * se archive con sus existencias por ubicación y que uno reciente se quede
+     * en la tabla caliente.
+     */
+    @Test
+    @DisplayName("archive_shouldMoveDormantProductsWithLocations")
+    void archive_shouldMoveDormantProductsWithLocations() {
+        Product dormant = productService.create(buildRequest("Silla", null, new BigDecimal("80.00"), 0));
+        stockService.setLocationStock(dormant.getId(), "MAD", 4);
+
+        productArchiveService.archive(LocalDateTime.now());
+        assertThat(productService.findById(dormant.getId()).getStock()).isEqualTo(4);
+
+        productArchiveService.archive(LocalDateTime.now().plusYears(2));
+
+        assertThatThrownBy(() -> productService.findById(dormant.getId()))
+            .isInstanceOf(ProductNotFoundException.class);
+        ArchivedProductResponse archived = productArchiveService.findById(dormant.getId());
+        assertThat(archived.getReason()).isEqualTo(ArchiveReason.DORMANT);
+        assertThat(archived.getStock()).isEqualTo(4);
+        assertThat(archived.getLocations()).containsExactly(entry("MAD", 4));
+        assertThat(productStockRepository.findByProductIdOrderByLocationId(dormant.getId())).isEmpty();
+    }
+
+    /**
+     * Verifica que un producto archivado por inactividad vuelva a la tabla
+     * caliente con sus existencias y su umbral, que no se archive de nuevo en
+     * la siguiente pasada y que un producto borrado no se pueda restaurar.
+     */
+    @Test
+    @DisplayName("restore_shouldBringDormantProductBack")
+    void restore_shouldBringDormantProductBack() {
+        ProductRequest request = buildRequest("Mesa", "Roble", new BigDecimal("120.00"), 0);
+        request.setReorderThreshold(2);
+        Product dormant = productService.create(request);
+        stockService.setLocationStock(dormant.getId(), "BCN", 6);
+        Product deleted = productService.create(buildRequest("Lámpara", null, new BigDecimal("30.00"), 1));
+        productService.delete(deleted.getId());
+        productArchiveService.archive(LocalDateTime.now().plusYears(2));
+
+        productArchiveService.restore(dormant.getId());
+
+        Product restored = productService.findDetachedById(dormant.getId());
+        assertThat(restored.getDescription()).isEqualTo("Roble");
+        assertThat(restored.getStock()).isEqualTo(6);
+        assertThat(restored.getReorderThreshold()).isEqualTo(2);
+        assertThat(stockService.getProductStock(dormant.getId()).getTotal()).isEqualTo(6);
+        assertThatThrownBy(() -> productArchiveService.findById(dormant.getId()))
+            .isInstanceOf(ProductNotFoundException.class);
+        assertThat(productArchiveService.archive(LocalDateTime.now().plusDays(1))).isZero();
+        assertThatThrownBy(() -> productArchiveService.restore(deleted.getId()))
+            .isInstanceOf(ProductNotRestorableException.class);
+    }
+
+    /**
+     * Comprueba que un producto borrado con unidades reservadas o con una
+     * reserva activa se quede en la tabla caliente hasta que se liberen.
+     */
+    @Test
+    @DisplayName("archive_shouldSkipDeletedProductsWithReservations")
+    void archive_shouldSkipDeletedProductsWithReservations() {
+        Product reserved = productService.create(buildRequest("Lámpara", null, new BigDecimal("30.00"), 5));
+        Product held = productService.create(buildRequest("Mesa", null, new BigDecimal("90.00"), 5));
+        productService.delete(reserved.getId());
+        productService.delete(held.getId());
+        jdbcTemplate.update("update products set reserved = 2 where id = ?", reserved.getId());
+        StockHold hold = new StockHold();
+        hold.setProductId(held.getId());
+        hold.setQuantity(1);
+        hold.setStatus(HoldStatus.ACTIVE);
+        hold.setExpiresAt(LocalDateTime.now().plusMinutes(5));
+        hold = stockHoldRepository.save(hold);
+
+        productArchiveService.archive(LocalDateTime.now().plusDays(1));
+
+        assertThatThrownBy(() -> productArchiveService.findById(reserved.getId()))
+            .isInstanceOf(ProductNotFoundException.class);
+        assertThatThrownBy(() -> productArchiveService.findById(held.getId()))
+            .isInstanceOf(ProductNotFoundException.class);
+
+        jdbcTemplate.update("update products set reserved = 0 where id = ?", reserved.getId());
+        stockHoldRepository.delete(hold);
+        productArchiveService.archive(LocalDateTime.now().plusDays(1));
+
+        assertThat(productArchiveService.findById(reserved.getId()).getReason()).isEqualTo(ArchiveReason.DELETED);
+        assertThat(productArchiveService.findById(held.getId()).getReason()).isEqualTo(ArchiveReason.DELETED);
+    }
+
+    /**
+     * Valida que consultar un id que no está archivado arroje
+     * {@link ProductNotFoundException} y que la paginación se valide.
+     */
+    @Test
+    @DisplayName("findById_shouldThrowException_whenProductIsNotArchived")
+    void findById_shouldThrowException_whenProductIsNotArchived() {
+        assertThatThrownBy(() -> productArchiveService.findById(-1L))
+            .isInstanceOf(ProductNotFoundException.class);
+        assertThatThrownBy(() -> productArchiveService.findAll(null, 0, 0))
+            .isInstanceOf(InvalidPaginationException.class);
+    }
+
+    private ProductRequest buildRequest(String name, String description, BigDecimal price, int stock) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setDescription(description);
+        request.setPrice(price);
+        request.setStock(stock);
+        return request;
+    }
+}
@@ -0,0 +1,99 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.DailyPriceAggregate;
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.ProductHistory;
+import com.bahs.inventory_api.repository.ProductHistoryRepository;
+import com.bahs.inventory_api.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de integración del historial de precio y stock: los cambios hechos a
+ * través de {@link ProductService} se registran tras el commit y se consultan
+ * por rango y por día.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+class ProductHistoryServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductHistoryService productHistoryService;
+
+    @Autowired
+    private ProductHistoryRecorder productHistoryRecorder;
+
+    @Autowired
+    private ProductHistoryRepository productHistoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    /**
+     * Vacía la cola pendiente y limpia las tablas entre pruebas.
+     */
+    @BeforeEach
+    void cleanDatabase() {
+        productHistoryRecorder.flush();
+        productHistoryRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    /**
+     * Verifica que la creación y cada actualización generen una entrada con el
+     * precio vigente y que el agregado diario refleje mínimo y máximo.
+     */
+    @Test
+    @DisplayName("priceChanges_shouldBeAppendedToHistory")
+    void priceChanges_shouldBeAppendedToHistory() {
+        LocalDateTime from = LocalDateTime.now().minusMinutes(1);
+        Product product = productService.create(buildRequest(new BigDecimal("10.00"), 5));
+        productService.update(product.getId(), buildRequest(new BigDecimal("12.50"), 4));
+        productService.update(product.getId(), buildRequest(new BigDecimal("9.00"), 4));
+        productHistoryRecorder.flush();
+        LocalDateTime to = LocalDateTime.now().plusMinutes(1);
+
+        List<ProductHistory> history = productHistoryService.findHistory(product.getId(), from, to);
+        assertThat(history).extracting(ProductHistory::getPrice)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("10.00"), new BigDecimal("12.50"), new BigDecimal("9.00"));
+
+        List<DailyPriceAggregate> daily = productHistoryService.findDailyAggregates(product.getId(), from, to);
+        assertThat(daily).isNotEmpty();
+        assertThat(daily.stream().mapToLong(DailyPriceAggregate::getChanges).sum()).isEqualTo(3);
+    }
+
+    /**
+     * Comprueba que un rango sin cambios devuelva una lista vacía.
+     */
+    @Test
+    @DisplayName("findHistory_shouldReturnEmpty_whenRangeHasNoChanges")
+    void findHistory_shouldReturnEmpty_whenRangeHasNoChanges() {
+        Product product = productService.create(buildRequest(new BigDecimal("10.00"), 5));
+        productHistoryRecorder.flush();
+
+        LocalDateTime past = LocalDateTime.now().minusDays(10);
+        assertThat(productHistoryService.findHistory(product.getId(), past, past.plusDays(1))).isEmpty();
+    }
+
+    private ProductRequest buildRequest(BigDecimal price, int stock) {
+        ProductRequest request = new ProductRequest();
+        request.setName("Cafetera");
+        request.setPrice(price);
+        request.setStock(stock);
+        return request;
+    }
+}
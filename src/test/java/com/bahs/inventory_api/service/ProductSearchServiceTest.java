@@ -0,0 +1,157 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.FacetedSearchResponse;
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.event.ProductChangedEvent;
+import com.bahs.inventory_api.event.ProductChangedEvent.ChangeType;
+import com.bahs.inventory_api.exception.InvalidPaginationException;
+import com.bahs.inventory_api.repository.ProductRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Pruebas de integración de {@link ProductSearchService} y
+ * {@link ProductFacetIndex}: filtros, conteos por faceta y mantenimiento del
+ * índice en altas, ediciones y bajas.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+class ProductSearchServiceTest {
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductFacetIndex productFacetIndex;
+
+    /**
+     * Limpia la tabla y reconstruye el índice, ya que otras pruebas borran
+     * filas sin pasar por el servicio.
+     */
+    @BeforeEach
+    void cleanDatabase() {
+        productRepository.deleteAll();
+        productFacetIndex.run(null);
+    }
+
+    /**
+     * Verifica el filtro por categoría y etiquetas y los conteos: las
+     * categorías se cuentan sin su propio filtro y las etiquetas con el filtro
+     * completo.
+     */
+    @Test
+    @DisplayName("search_shouldFilterAndCountFacets")
+    void search_shouldFilterAndCountFacets() {
+        Product keyboard = create("Teclado", "Periféricos", "usb", "gaming");
+        create("Mouse", "Periféricos", "USB ");
+        create("Auriculares", "Audio", "usb", "gaming");
+        create("Monitor", null);
+
+        FacetedSearchResponse response = productSearchService.search("Periféricos", List.of("gaming"), 0, 20);
+
+        assertThat(response.getTotal()).isEqualTo(1);
+        assertThat(response.getProducts()).extracting(Product::getId).containsExactly(keyboard.getId());
+        assertThat(response.getCategories()).containsExactly(entry("Audio", 1L), entry("Periféricos", 1L));
+        assertThat(response.getTags()).containsExactly(entry("gaming", 1L), entry("usb", 1L));
+
+        FacetedSearchResponse all = productSearchService.search(null, null, 0, 2);
+        assertThat(all.getTotal()).isEqualTo(4);
+        assertThat(all.getProducts()).hasSize(2);
+        assertThat(all.getTags()).containsExactly(entry("usb", 3L), entry("gaming", 2L));
+    }
+
+    /**
+     * Comprueba que editar y eliminar productos actualice el índice.
+     */
+    @Test
+    @DisplayName("search_shouldReflectUpdatesAndDeletes")
+    void search_shouldReflectUpdatesAndDeletes() {
+        Product keyboard = create("Teclado", "Periféricos", "usb");
+        Product mouse = create("Mouse", "Periféricos", "usb");
+
+        ProductRequest update = request("Teclado", "Oficina", "bluetooth");
+        productService.update(keyboard.getId(), update);
+        productService.delete(mouse.getId());
+
+        FacetedSearchResponse response = productSearchService.search(null, null, 0, 20);
+
+        assertThat(response.getTotal()).isEqualTo(1);
+        assertThat(response.getCategories()).containsExactly(entry("Oficina", 1L));
+        assertThat(response.getTags()).containsExactly(entry("bluetooth", 1L));
+        assertThat(productSearchService.search(null, List.of("usb"), 0, 20).getTotal()).isZero();
+    }
+
+    /**
+     * Comprueba que el índice descarte los eventos entregados fuera de orden:
+     * una edición anterior a la baja no devuelve el producto y una edición
+     * anterior a otra no restaura las facetas viejas.
+     */
+    @Test
+    @DisplayName("onProductChanged_shouldIgnoreStaleEvents")
+    void onProductChanged_shouldIgnoreStaleEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        productFacetIndex.onProductChanged(event(ChangeType.CREATED, 1L, "Audio", "usb", now));
+        productFacetIndex.onProductChanged(event(ChangeType.DELETED, 1L, "Audio", "usb", now.plusSeconds(2)));
+        productFacetIndex.onProductChanged(event(ChangeType.UPDATED, 1L, "Audio", "usb", now.plusSeconds(1)));
+        productFacetIndex.onProductChanged(event(ChangeType.UPDATED, 1L, "Audio", "usb", now.plusSeconds(2)));
+
+        productFacetIndex.onProductChanged(event(ChangeType.CREATED, 2L, "Oficina", "usb", now));
+        productFacetIndex.onProductChanged(event(ChangeType.UPDATED, 2L, "Oficina", "bluetooth", now.plusSeconds(2)));
+        productFacetIndex.onProductChanged(event(ChangeType.UPDATED, 2L, "Periféricos", "usb", now.plusSeconds(1)));
+
+        ProductFacetIndex.FacetResult result = productFacetIndex.search(null, List.of(), 0, 20);
+
+        assertThat(result.ids()).containsExactly(2L);
+        assertThat(result.categories()).containsExactly(entry("Oficina", 1L));
+        assertThat(result.tags()).containsExactly(entry("bluetooth", 1L));
+    }
+
+    /**
+     * Verifica que una página cuyo desplazamiento no cabe en un {@code int}
+     * se rechace como paginación inválida en vez de desbordar.
+     */
+    @Test
+    @DisplayName("search_shouldRejectPageBeyondBound")
+    void search_shouldRejectPageBeyondBound() {
+        assertThatThrownBy(() -> productSearchService.search(null, null, Integer.MAX_VALUE / 10, 20))
+            .isInstanceOf(InvalidPaginationException.class)
+            .hasMessageContaining("Paginación inválida");
+    }
+
+    private static ProductChangedEvent event(ChangeType type, Long id, String category, String tag,
+                                             LocalDateTime changedAt) {
+        return new ProductChangedEvent(type, id, category, List.of(tag), BigDecimal.ONE, 1, null, changedAt);
+    }
+
+    private Product create(String name, String category, String... tags) {
+        return productService.create(request(name, category, tags));
+    }
+
+    private ProductRequest request(String name, String category, String... tags) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setPrice(new BigDecimal("10.00"));
+        request.setStock(1);
+        request.setCategory(category);
+        request.setTags(List.of(tags));
+        return request;
+    }
+}
@@ -1,10 +1,13 @@
 package com.bahs.inventory_api.service;
 
+import com.bahs.inventory_api.dto.ProductField;
 import com.bahs.inventory_api.dto.ProductRequest;
 import com.bahs.inventory_api.entity.Product;
 import com.bahs.inventory_api.exception.ProductNotFoundException;
 import com.bahs.inventory_api.repository.ProductRepository;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 /**
  * Pruebas de integración ligera sobre {@link ProductService} utilizando el
@@ -76,14 +80,15 @@ class ProductServiceTest {
         assertThat(updated.getName()).isEqualTo(updateRequest.getName());
         assertThat(updated.getPrice()).isEqualByComparingTo(updateRequest.getPrice());
         assertThat(updated.getStock()).isEqualTo(updateRequest.getStock());
+        assertThat(updated.getDescription()).isEqualTo(updateRequest.getDescription());
 
-        Product fromRepository = productRepository.findById(initial.getId()).orElseThrow();
+        Product fromRepository = productService.findDetachedById(initial.getId());
         assertThat(fromRepository.getDescription()).isEqualTo(updateRequest.getDescription());
     }
 
     /**
-     * Garantiza que eliminar un producto lo quite definitivamente del
-     * repositorio.
+     * Garantiza que eliminar un producto lo retire de las consultas (borrado
+     * lógico hasta que el archivador lo mueve).
      */
     @Test
     @DisplayName("deleteProduct_shouldRemoveProductFromDatabase")
@@ -108,6 +113,22 @@ class ProductServiceTest {
             .hasMessageContaining("999");
     }
 
+    /**
+     * Verifica que la proyección por campos devuelva solo las propiedades
+     * pedidas, en orden de respuesta y con {@code available} calculado.
+     */
+    @Test
+    @DisplayName("findAllFields_shouldProjectRequestedColumns")
+    void findAllFields_shouldProjectRequestedColumns() {
+        Product created = productService.create(buildRequest("Mesa", "Roble macizo", new BigDecimal("120.00"), 4));
+
+        List<Map<String, Object>> rows = productService.findAllFields(ProductField.parse("available,name,id"));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsExactly(
+            entry("id", created.getId()), entry("name", "Mesa"), entry("available", 4));
+    }
+
     /**
      * Helper que construye un {@link ProductRequest} con los valores indicados
      * para reutilizarlos en múltiples casos de prueba.
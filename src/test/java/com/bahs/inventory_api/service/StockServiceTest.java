@@ -0,0 +1,178 @@
+package com.bahs.inventory_api.service;
+
+import com.bahs.inventory_api.dto.ProductRequest;
+import com.bahs.inventory_api.dto.StockHoldRequest;
+import com.bahs.inventory_api.entity.Product;
+import com.bahs.inventory_api.entity.ProductStock;
+import com.bahs.inventory_api.exception.InsufficientStockException;
+import com.bahs.inventory_api.exception.UnlocatedHoldsException;
+import com.bahs.inventory_api.repository.ProductRepository;
+import com.bahs.inventory_api.repository.ProductStockRepository;
+import com.bahs.inventory_api.repository.StockHoldRepository;
+import java.math.BigDecimal;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas de integración sobre {@link StockService} que verifican que el total
+ * desnormalizado de {@link Product} se mantiene al escribir existencias por
+ * ubicación.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase
+class StockServiceTest {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private StockHoldRepository stockHoldRepository;
+
+    /**
+     * Limpia reservas, existencias y productos entre pruebas.
+     */
+    @BeforeEach
+    void cleanDatabase() {
+        stockHoldRepository.deleteAll();
+        productStockRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    /**
+     * Verifica que fijar y ajustar existencias en varias ubicaciones actualice
+     * el total del producto.
+     */
+    @Test
+    @DisplayName("locationWrites_shouldMaintainProductTotal")
+    void locationWrites_shouldMaintainProductTotal() {
+        Product product = productService.create(buildRequest("Silla", 0));
+
+        stockService.setLocationStock(product.getId(), "MAD", 10);
+        stockService.setLocationStock(product.getId(), "BCN", 4);
+        stockService.adjustLocationStock(product.getId(), "MAD", -3);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(11);
+        assertThat(stockService.getProductStock(product.getId()).getLocations())
+            .extracting(ProductStock::getLocationId, ProductStock::getQty)
+            .containsExactly(
+                Tuple.tuple("BCN", 4),
+                Tuple.tuple("MAD", 7));
+    }
+
+    /**
+     * Comprueba que un ajuste que deja la ubicación en negativo se rechace sin
+     * modificar el total.
+     */
+    @Test
+    @DisplayName("adjustLocationStock_shouldRejectNegativeQuantity")
+    void adjustLocationStock_shouldRejectNegativeQuantity() {
+        Product product = productService.create(buildRequest("Mesa", 0));
+        stockService.setLocationStock(product.getId(), "MAD", 2);
+
+        assertThatThrownBy(() -> stockService.adjustLocationStock(product.getId(), "MAD", -5))
+            .isInstanceOf(InsufficientStockException.class);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(2);
+    }
+
+    /**
+     * Valida las consultas por ubicación: bajo stock y total.
+     */
+    @Test
+    @DisplayName("locationQueries_shouldReturnLowStockAndTotals")
+    void locationQueries_shouldReturnLowStockAndTotals() {
+        Product chair = productService.create(buildRequest("Silla", 0));
+        Product table = productService.create(buildRequest("Mesa", 0));
+        stockService.setLocationStock(chair.getId(), "MAD", 2);
+        stockService.setLocationStock(table.getId(), "MAD", 20);
+
+        assertThat(stockService.findLowStock("MAD", 5))
+            .extracting(ProductStock::getProductId)
+            .containsExactly(chair.getId());
+        assertThat(stockService.getLocationTotal("MAD").getTotal()).isEqualTo(22);
+    }
+
+    /**
+     * Confirma que editar un producto con ubicaciones no sobrescribe su total.
+     */
+    @Test
+    @DisplayName("updateProduct_shouldKeepTotal_whenStockIsTrackedByLocation")
+    void updateProduct_shouldKeepTotal_whenStockIsTrackedByLocation() {
+        Product product = productService.create(buildRequest("Lámpara", 0));
+        stockService.setLocationStock(product.getId(), "MAD", 8);
+
+        Product updated = productService.update(product.getId(), buildRequest("Lámpara LED", 100));
+
+        assertThat(updated.getName()).isEqualTo("Lámpara LED");
+        assertThat(updated.getStock()).isEqualTo(8);
+    }
+
+    /**
+     * Verifica que la primera ubicación de un producto creado con stock
+     * sustituya ese stock en lugar de sumarse a él.
+     */
+    @Test
+    @DisplayName("firstLocationWrite_shouldReplaceUntrackedStock")
+    void firstLocationWrite_shouldReplaceUntrackedStock() {
+        Product product = productService.create(buildRequest("Estantería", 50));
+
+        stockService.setLocationStock(product.getId(), "A", 10);
+        assertThat(stockService.getProductStock(product.getId()).getTotal()).isEqualTo(10);
+
+        stockService.adjustLocationStock(product.getId(), "B", 5);
+        assertThat(stockService.getProductStock(product.getId()).getTotal()).isEqualTo(15);
+    }
+
+    /**
+     * Comprueba que un producto con reservas sin ubicación no pase a
+     * gestionarse por ubicaciones y que el total no baje de lo reservado.
+     */
+    @Test
+    @DisplayName("locationWrites_shouldKeepReservedUnitsCovered")
+    void locationWrites_shouldKeepReservedUnitsCovered() {
+        Product untracked = productService.create(buildRequest("Armario", 20));
+        StockHoldRequest hold = new StockHoldRequest();
+        hold.setQuantity(5);
+        holdService.create(untracked.getId(), hold);
+
+        assertThatThrownBy(() -> stockService.setLocationStock(untracked.getId(), "A", 10))
+            .isInstanceOf(UnlocatedHoldsException.class);
+        assertThat(stockService.getProductStock(untracked.getId()).getTotal()).isEqualTo(20);
+
+        Product tracked = productService.create(buildRequest("Cómoda", 0));
+        stockService.setLocationStock(tracked.getId(), "A", 10);
+        hold.setLocationId("A");
+        holdService.create(tracked.getId(), hold);
+
+        assertThatThrownBy(() -> stockService.setLocationStock(tracked.getId(), "A", 3))
+            .isInstanceOf(InsufficientStockException.class);
+        assertThat(stockService.getProductStock(tracked.getId()).getTotal()).isEqualTo(10);
+    }
+
+    private ProductRequest buildRequest(String name, int stock) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setPrice(new BigDecimal("10.00"));
+        request.setStock(stock);
+        return request;
+    }
+}
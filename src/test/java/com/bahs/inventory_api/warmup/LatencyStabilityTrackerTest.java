@@ -0,0 +1,44 @@
+package com.bahs.inventory_api.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas unitarias de {@link LatencyStabilityTracker}: estabilidad tras las
+ * rondas requeridas y reinicio ante un pico de latencia.
+ */
+class LatencyStabilityTrackerTest {
+
+    /**
+     * Verifica que el p99 se considere estable solo tras las rondas
+     * consecutivas dentro de la tolerancia.
+     */
+    @Test
+    @DisplayName("record_shouldBecomeStableAfterRequiredRounds")
+    void record_shouldBecomeStableAfterRequiredRounds() {
+        LatencyStabilityTracker tracker = new LatencyStabilityTracker(2, 0.2);
+
+        assertThat(tracker.record(50_000_000L)).isFalse();
+        assertThat(tracker.record(10_000_000L)).isFalse();
+        assertThat(tracker.record(11_000_000L)).isFalse();
+        assertThat(tracker.record(10_500_000L)).isTrue();
+        assertThat(tracker.isStable()).isTrue();
+    }
+
+    /**
+     * Comprueba que un pico fuera de la tolerancia reinicie la cuenta.
+     */
+    @Test
+    @DisplayName("record_shouldResetOnLatencySpike")
+    void record_shouldResetOnLatencySpike() {
+        LatencyStabilityTracker tracker = new LatencyStabilityTracker(2, 0.2);
+        tracker.record(10_000_000L);
+        tracker.record(10_000_000L);
+
+        assertThat(tracker.record(30_000_000L)).isFalse();
+        assertThat(tracker.record(30_000_000L)).isFalse();
+        assertThat(tracker.record(31_000_000L)).isTrue();
+    }
+}
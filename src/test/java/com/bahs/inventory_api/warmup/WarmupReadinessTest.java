@@ -0,0 +1,96 @@
+package com.bahs.inventory_api.warmup;
+
+import jakarta.servlet.Filter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de integración de la fase de calentamiento con un servidor real: un
+ * filtro de prueba consulta el probe de readiness desde la primera petición
+ * sintética de {@link WarmupRunner}, es decir, mientras el calentamiento
+ * corre, y la prueba comprueba lo que vio y el estado tras el arranque.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "inventory.warmup.max-duration=5s",
+    "inventory.warmup.round-size=20",
+    "inventory.warmup.concurrency=2",
+    "inventory.warmup.stable-rounds=1"
+})
+class WarmupReadinessTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReadinessProbe readinessProbe;
+
+    /**
+     * Verifica que la readiness siga en {@code OUT_OF_SERVICE} durante el
+     * calentamiento, pase a {@code UP} al terminar y que el grupo
+     * {@code warmup} sea el único que publique detalles.
+     */
+    @Test
+    @DisplayName("readiness_shouldStayOutOfServiceWhileWarmingUp")
+    void readiness_shouldStayOutOfServiceWhileWarmingUp() throws Exception {
+        HttpResponse<String> duringWarmup = readinessProbe.duringWarmup.get();
+        assertThat(duringWarmup).isNotNull();
+        assertThat(duringWarmup.statusCode()).isEqualTo(503);
+        assertThat(duringWarmup.body()).contains("OUT_OF_SERVICE");
+
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> readiness = send(client, "/actuator/health/readiness");
+            assertThat(readiness.statusCode()).isEqualTo(200);
+            assertThat(readiness.body()).contains("\"UP\"");
+
+            assertThat(send(client, "/actuator/health").body()).doesNotContain("details", "components");
+            assertThat(send(client, "/actuator/health/warmup").body()).contains("\"executed\":true");
+        }
+    }
+
+    private HttpResponse<String> send(HttpClient client, String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Registra un filtro que, en la primera petición del calentamiento,
+     * consulta el probe de readiness del propio servidor.
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ReadinessProbe {
+
+        private final AtomicReference<HttpResponse<String>> duringWarmup = new AtomicReference<>();
+
+        @Bean
+        FilterRegistrationBean<Filter> readinessProbeFilter() {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                if (duringWarmup.get() == null) {
+                    String uri = "http://localhost:" + request.getLocalPort() + "/actuator/health/readiness";
+                    try (HttpClient client = HttpClient.newHttpClient()) {
+                        duringWarmup.compareAndSet(null, client.send(HttpRequest.newBuilder(URI.create(uri)).build(),
+                            HttpResponse.BodyHandlers.ofString()));
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                chain.doFilter(request, response);
+            });
+            registration.addUrlPatterns("/api/*", "/products/*");
+            return registration;
+        }
+    }
+}